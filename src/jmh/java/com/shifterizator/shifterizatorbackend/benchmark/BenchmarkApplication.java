@@ -0,0 +1,42 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import com.shifterizator.shifterizatorbackend.ShifterizatorBackendApplication;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+
+/**
+ * Starts the application on a private in-memory H2 database (the {@code test} profile) and a random port,
+ * with every statement counted by {@link StatementCountingDataSource}. The web stack stays on because the
+ * security configuration depends on it.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        String url = "jdbc:h2:mem:benchmark_" + System.nanoTime()
+                + ";DB_CLOSE_DELAY=-1;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+        return new SpringApplicationBuilder(ShifterizatorBackendApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.com.shifterizator=WARN",
+                        "logging.level.com.shifterizator.shifterizatorbackend.shift.service.ShiftSchedulerServiceImpl=WARN")
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+                                ? new StatementCountingDataSource(dataSource)
+                                : bean;
+                    }
+                }))
+                .run();
+    }
+}
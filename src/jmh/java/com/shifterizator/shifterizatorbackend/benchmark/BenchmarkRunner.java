@@ -0,0 +1,60 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Entry point of the {@code benchmarks} Maven profile. Accepts the usual JMH command line, always adds the GC
+ * profiler for allocation rates and finishes with the SQL statements each benchmark executed per operation.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        printStatementsPerOperation(results);
+    }
+
+    private static void printStatementsPerOperation(Collection<RunResult> results) {
+        System.out.println();
+        System.out.println("SQL statements per operation:");
+        for (RunResult result : results) {
+            double statements = 0;
+            long operations = 0;
+            for (BenchmarkResult benchmark : result.getBenchmarkResults()) {
+                for (IterationResult iteration : benchmark.getIterationResults()) {
+                    Result<?> counted = iteration.getSecondaryResults().get("sqlStatements");
+                    if (counted != null) {
+                        statements += counted.getScore();
+                        operations += iteration.getMetadata().getMeasuredOps();
+                    }
+                }
+            }
+            if (operations == 0) {
+                continue;
+            }
+            BenchmarkParams params = result.getParams();
+            String paramValues = params.getParamsKeys().stream()
+                    .map(key -> key + "=" + params.getParam(key))
+                    .collect(Collectors.joining(", "));
+            System.out.printf("  %s (%s): %.1f%n", params.getBenchmark(), paramValues, statements / operations);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+import com.shifterizator.shifterizatorbackend.user.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the subject of a bearer token the way the authentication filter does: building a parser for every
+ * call (the previous {@code JwtUtil}), one shared parser, and {@link JwtUtil} with its verified-claims cache.
+ * Each call picks one of {@code activeTokens} tokens, standing in for the sessions hitting a node at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "63yYuYleXPvNFkojq6peEcbwFS8Kbb5NerVz5Sapqk+Q/rMdWm3PUDNb8siO/yh1UkQibSOhrPUDdIt1dCs5fQ==";
+
+    @Param({"100", "5000"})
+    public int activeTokens;
+
+    private Key key;
+    private JwtParser sharedParser;
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void issueTokens() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        sharedParser = Jwts.parserBuilder().setSigningKey(key).build();
+        jwtUtil = new JwtUtil(SECRET, TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(1), 10_000);
+
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "pass", Role.EMPLOYEE, null);
+            user.setId((long) i + 1);
+            tokens[i] = jwtUtil.generateAccessToken(user);
+        }
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+
+    @Benchmark
+    public String parserPerCall() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(nextToken())
+                .getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String sharedParser() {
+        return sharedParser.parseClaimsJws(nextToken()).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String cachedJwtUtil() {
+        return jwtUtil.getUsername(nextToken());
+    }
+}
@@ -0,0 +1,69 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application on a fresh H2 database per trial and creates one {@link SyntheticLocation} sized by the
+ * parameters. The range always starts on a Monday and covers {@code rangeWeeks} whole weeks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public abstract class LocationBenchmarkSupport {
+
+    private static final LocalDate FIRST_MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Param({"25", "100"})
+    public int employeesPerLocation;
+
+    @Param({"3", "8"})
+    public int templatesPerDay;
+
+    @Param({"1", "4"})
+    public int rangeWeeks;
+
+    protected ConfigurableApplicationContext context;
+    protected JdbcTemplate jdbcTemplate;
+    protected Long locationId;
+    protected LocalDate startDate;
+    protected LocalDate endDate;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        locationId = SyntheticLocation.create(context, employeesPerLocation, templatesPerDay);
+        startDate = FIRST_MONDAY;
+        endDate = FIRST_MONDAY.plusWeeks(rangeWeeks).minusDays(1);
+        prepare();
+    }
+
+    /**
+     * Runs once per trial after the location exists.
+     */
+    protected abstract void prepare();
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+}
@@ -0,0 +1,109 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeShiftPreference;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.language.model.Language;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.service.advisor.CandidateTierMatrix;
+import com.shifterizator.shifterizatorbackend.shift.service.advisor.ShiftCandidateTierService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiering one day in memory with the per-day matrix the scheduler uses. Every third template requires a
+ * language that half of the candidates speak.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShiftCandidateTierBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 9);
+
+    @Param({"25", "100", "400"})
+    public int employeesPerLocation;
+
+    @Param({"3", "8"})
+    public int templatesPerDay;
+
+    private final ShiftCandidateTierService tierService = new ShiftCandidateTierService(null);
+    private List<ShiftInstance> instances;
+    private List<Employee> candidates;
+    private Map<Long, Set<Long>> languageIdsByEmployee;
+
+    @Setup(Level.Trial)
+    public void buildDay() {
+        Position position = Position.builder().id(1L).name("Cashier").build();
+        Language english = Language.builder().id(1L).name("English").code("EN").build();
+
+        instances = new ArrayList<>();
+        for (int t = 0; t < templatesPerDay; t++) {
+            ShiftTemplate template = ShiftTemplate.builder().id((long) t + 1).build();
+            template.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                    .shiftTemplate(template).position(position).requiredCount(1).idealCount(2).build());
+            if (t % 3 == 0) {
+                template.getRequiredLanguageRequirements().add(ShiftTemplateLanguageRequirement.builder()
+                        .shiftTemplate(template).language(english).requiredCount(1).build());
+            }
+            LocalTime start = LocalTime.of(6, 0).plusMinutes(t * 840L / templatesPerDay);
+            instances.add(ShiftInstance.builder()
+                    .id((long) t + 1)
+                    .shiftTemplate(template)
+                    .date(DATE)
+                    .startTime(start)
+                    .endTime(start.plusHours(4))
+                    .build());
+        }
+
+        candidates = new ArrayList<>();
+        languageIdsByEmployee = new HashMap<>();
+        DayOfWeek[] days = DayOfWeek.values();
+        for (int e = 0; e < employeesPerLocation; e++) {
+            Employee employee = Employee.builder()
+                    .id((long) e + 1)
+                    .position(e % 4 == 3 ? null : position)
+                    .preferredDayOff(days[e % days.length])
+                    .build();
+            if (e % 2 == 0) {
+                employee.addShiftPreference(EmployeeShiftPreference.builder()
+                        .shiftTemplate(instances.get(e % instances.size()).getShiftTemplate())
+                        .build());
+                languageIdsByEmployee.put(employee.getId(), Set.of(english.getId()));
+            }
+            candidates.add(employee);
+        }
+    }
+
+    @Benchmark
+    public CandidateTierMatrix buildMatrix() {
+        return tierService.buildMatrix(DATE, instances, candidates,
+                id -> languageIdsByEmployee.getOrDefault(id, Set.of()));
+    }
+}
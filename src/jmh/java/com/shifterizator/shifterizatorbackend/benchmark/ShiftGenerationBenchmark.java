@@ -0,0 +1,48 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.service.ShiftGenerationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+/**
+ * Full replacement of a range against incremental regeneration of a range that is already up to date.
+ */
+public class ShiftGenerationBenchmark extends LocationBenchmarkSupport {
+
+    private ShiftGenerationService shiftGenerationService;
+
+    @Override
+    protected void prepare() {
+        shiftGenerationService = context.getBean(ShiftGenerationService.class);
+        shiftGenerationService.generateRange(locationId, startDate, endDate, true);
+    }
+
+    /**
+     * Replacing a range soft-deletes the previous shifts; purging them keeps the table the same size across
+     * iterations.
+     */
+    @Setup(Level.Iteration)
+    public void purgeReplacedShifts() {
+        jdbcTemplate.update("DELETE FROM shift_instances WHERE deleted_at IS NOT NULL");
+    }
+
+    @Benchmark
+    public List<ShiftInstance> generateRange(SqlStatementCounters counters) {
+        counters.begin();
+        List<ShiftInstance> created = shiftGenerationService.generateRange(locationId, startDate, endDate, true);
+        counters.end();
+        return created;
+    }
+
+    @Benchmark
+    public List<ShiftInstance> regenerateUnchangedRange(SqlStatementCounters counters) {
+        counters.begin();
+        List<ShiftInstance> active = shiftGenerationService.regenerateRange(locationId, startDate, endDate);
+        counters.end();
+        return active;
+    }
+}
@@ -0,0 +1,37 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import com.shifterizator.shifterizatorbackend.shift.service.ShiftGenerationService;
+import com.shifterizator.shifterizatorbackend.shift.service.ShiftSchedulerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Auto-scheduling of an already generated range, starting every invocation from empty shifts.
+ */
+public class ShiftSchedulerBenchmark extends LocationBenchmarkSupport {
+
+    private ShiftSchedulerService shiftSchedulerService;
+
+    @Override
+    protected void prepare() {
+        context.getBean(ShiftGenerationService.class).generateRange(locationId, startDate, endDate, true);
+        shiftSchedulerService = context.getBean(ShiftSchedulerService.class);
+    }
+
+    /**
+     * Scheduling a range takes milliseconds, so the per-invocation reset does not distort the measurement.
+     */
+    @Setup(Level.Invocation)
+    public void clearAssignments() {
+        jdbcTemplate.update("DELETE FROM shift_assignments");
+        jdbcTemplate.update("UPDATE shift_instances SET is_complete = false");
+    }
+
+    @Benchmark
+    public void scheduleRange(SqlStatementCounters counters) {
+        counters.begin();
+        shiftSchedulerService.scheduleRange(locationId, startDate, endDate);
+        counters.end();
+    }
+}
@@ -0,0 +1,33 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary JMH result with the statements executed while the benchmark method ran.
+ * JMH reports the total per iteration; {@link BenchmarkRunner} also prints it per operation.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class SqlStatementCounters {
+
+    public long sqlStatements;
+
+    private long startedAt;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        sqlStatements = 0;
+    }
+
+    void begin() {
+        startedAt = StatementCountingDataSource.executedStatements();
+    }
+
+    void end() {
+        sqlStatements += StatementCountingDataSource.executedStatements() - startedAt;
+    }
+}
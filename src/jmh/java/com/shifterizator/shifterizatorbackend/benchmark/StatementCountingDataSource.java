@@ -0,0 +1,75 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts statement executions going through the application's data source. A JDBC batch counts once,
+ * so the number reflects database round trips rather than rows.
+ */
+final class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final AtomicLong EXECUTED = new AtomicLong();
+
+    StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    static long executedStatements() {
+        return EXECUTED.get();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingProxy(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingProxy(Connection.class, super.getConnection(username, password));
+    }
+
+    private static <T> T countingProxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().startsWith("execute") && target instanceof Statement) {
+                EXECUTED.incrementAndGet();
+            }
+            Object result = invoke(target, method, args);
+            return result instanceof Statement statement ? wrapStatement(method, statement) : result;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object wrapStatement(Method method, Statement statement) {
+        Class<?> returnType = method.getReturnType();
+        if (returnType == CallableStatement.class) {
+            return countingProxy(CallableStatement.class, (CallableStatement) statement);
+        }
+        if (returnType == PreparedStatement.class) {
+            return countingProxy(PreparedStatement.class, (PreparedStatement) statement);
+        }
+        if (returnType == Statement.class) {
+            return countingProxy(Statement.class, statement);
+        }
+        return statement;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.shifterizator.shifterizatorbackend.benchmark;
+
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeCompany;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeLocation;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeShiftPreference;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeRepository;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One company with one location open every day, two positions, {@code templatesPerDay} overlapping four-hour
+ * templates needing both positions, and {@code employees} employees split over the positions. Preferred days off
+ * and shift preferences rotate so candidates land in different tiers.
+ */
+final class SyntheticLocation {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private SyntheticLocation() {
+    }
+
+    static Long create(ApplicationContext context, int employees, int templatesPerDay) {
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        return tx.execute(status -> {
+            int n = SEQUENCE.incrementAndGet();
+            Company company = context.getBean(CompanyRepository.class).save(new Company(
+                    "Bench-" + n, "Bench " + n + " S.L.", "B" + String.format("%08d", n),
+                    "bench" + n + "@example.com", "+34000000000"));
+            Location location = context.getBean(LocationRepository.class).save(Location.builder()
+                    .name("Store " + n)
+                    .address("Bench street " + n)
+                    .company(company)
+                    .openDaysOfWeek(EnumSet.allOf(DayOfWeek.class))
+                    .firstDayOfWeek(DayOfWeek.MONDAY)
+                    .build());
+
+            PositionRepository positionRepository = context.getBean(PositionRepository.class);
+            List<Position> positions = List.of(
+                    positionRepository.save(Position.builder().name("Cashier").company(company).build()),
+                    positionRepository.save(Position.builder().name("Stocker").company(company).build()));
+
+            ShiftTemplateRepository templateRepository = context.getBean(ShiftTemplateRepository.class);
+            List<ShiftTemplate> templates = new ArrayList<>();
+            for (int t = 0; t < templatesPerDay; t++) {
+                LocalTime start = LocalTime.of(6, 0).plusMinutes(t * 840L / templatesPerDay);
+                ShiftTemplate template = ShiftTemplate.builder()
+                        .location(location)
+                        .startTime(start)
+                        .endTime(start.plusHours(4))
+                        .description("Template " + t)
+                        .priority(t)
+                        .build();
+                for (Position position : positions) {
+                    template.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                            .shiftTemplate(template)
+                            .position(position)
+                            .requiredCount(1)
+                            .idealCount(2)
+                            .build());
+                }
+                templates.add(templateRepository.save(template));
+            }
+
+            EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+            DayOfWeek[] days = DayOfWeek.values();
+            for (int e = 0; e < employees; e++) {
+                Employee employee = Employee.builder()
+                        .name("Emp" + e)
+                        .surname("Bench" + n)
+                        .email("emp" + e + ".bench" + n + "@example.com")
+                        .position(positions.get(e % positions.size()))
+                        .preferredDayOff(days[e % days.length])
+                        .shiftsPerWeek(5)
+                        .build();
+                employee.addCompany(EmployeeCompany.builder().company(company).build());
+                employee.addLocation(EmployeeLocation.builder().location(location).build());
+                if (e % 2 == 0) {
+                    employee.addShiftPreference(EmployeeShiftPreference.builder()
+                            .shiftTemplate(templates.get(e % templates.size()))
+                            .priorityOrder(1)
+                            .build());
+                }
+                employeeRepository.save(employee);
+            }
+            return location.getId();
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.shifterizator.shifterizatorbackend.auth.jwt;
+
+import com.shifterizator.shifterizatorbackend.auth.service.AuthenticatedPrincipal;
+
+/**
+ * Verified authorization claims of an access token and the token version of its user when it was issued.
+ */
+public record AccessTokenClaims(AuthenticatedPrincipal principal, long tokenVersion) {
+}
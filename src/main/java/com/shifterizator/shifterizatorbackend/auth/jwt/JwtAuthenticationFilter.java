@@ -1,18 +1,17 @@
 package com.shifterizator.shifterizatorbackend.auth.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.shifterizator.shifterizatorbackend.user.exception.UserNotFoundException;
-import com.shifterizator.shifterizatorbackend.user.model.User;
-import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
+import com.shifterizator.shifterizatorbackend.auth.service.AuthenticatedPrincipal;
+import com.shifterizator.shifterizatorbackend.auth.service.PrincipalCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -26,14 +25,30 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Authenticates bearer tokens. By default the user behind the token is looked up through
+ * {@link PrincipalCache}; with {@code auth.stateless.enabled} the principal is built from the verified token
+ * claims alone and only the in-memory {@link TokenVersionRegistry} is consulted, so no database access is needed.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   PrincipalCache principalCache,
+                                   TokenVersionRegistry tokenVersionRegistry,
+                                   @Value("${auth.stateless.enabled:false}") boolean stateless) {
+        this.jwtUtil = jwtUtil;
+        this.principalCache = principalCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.stateless = stateless;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -52,17 +67,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            String username = jwtUtil.getUsername(token);
-
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new UserNotFoundException("User not found"));
+            AuthenticatedPrincipal principal;
+            if (stateless) {
+                AccessTokenClaims claims = jwtUtil.parseAccessToken(token);
+                principal = claims.principal();
+                if (!tokenVersionRegistry.isCurrent(principal.userId(), claims.tokenVersion())) {
+                    log.warn("Revoked JWT token for user {}", principal.username());
+                    writeError(response, 401, "TOKEN_REVOKED", "Token has been revoked");
+                    return;
+                }
+            } else {
+                principal = principalCache.get(jwtUtil.getUsername(token));
+            }
 
             List<GrantedAuthority> authorities =
-                    List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+                    List.of(new SimpleGrantedAuthority("ROLE_" + principal.role().name()));
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            username,
+                            principal,
                             null,
                             authorities
                     );
@@ -73,7 +96,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.debug("JWT authentication successful for user {}", username);
+            log.debug("JWT authentication successful for user {}", principal.username());
 
         } catch (ExpiredJwtException ex) {
             log.warn("Expired JWT token");
@@ -1,32 +1,62 @@
 package com.shifterizator.shifterizatorbackend.auth.jwt;
 
+import com.shifterizator.shifterizatorbackend.auth.service.AuthenticatedPrincipal;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
 import com.shifterizator.shifterizatorbackend.user.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Issues and verifies the access and refresh tokens. Verification goes through one shared parser, and the
+ * claims of tokens that verified are kept in a bounded cache keyed by the SHA-256 of the token until the
+ * token expires, so the filter and the services reading the same token only check its signature once.
+ * Tokens that fail verification are never cached.
+ */
 @Component
 public class JwtUtil {
 
     private final Key key;
     private final long accessExpirationMs;
     private final long refreshExpirationMs;
+    private final JwtParser parser;
+    private final Cache<String, Jws<Claims>> verifiedTokens;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long accessExpirationMs,
-            @Value("${jwt.refresh-expiration}") long refreshExpirationMs
+            @Value("${jwt.refresh-expiration}") long refreshExpirationMs,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.accessExpirationMs = accessExpirationMs;
         this.refreshExpirationMs = refreshExpirationMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpires())
+                .build();
     }
 
     public String generateAccessToken(User user) {
+        return generateAccessToken(user, 0L);
+    }
+
+    public String generateAccessToken(User user, long tokenVersion) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + accessExpirationMs);
 
@@ -35,6 +65,7 @@ public class JwtUtil {
                 .claim("uid", user.getId())
                 .claim("role", user.getRole().name())
                 .claim("companyId", user.getCompany() != null ? user.getCompany().getId() : null)
+                .claim("ver", tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -55,22 +86,79 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * Verifies the token, or returns the claims verified earlier for the same token if it has not expired.
+     * The returned claims are shared between callers and must not be modified.
+     */
     public Jws<Claims> parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        return verifiedTokens.get(digest(token), ignored -> parser.parseClaimsJws(token));
     }
 
     public String getUsername(String token) {
         return parseToken(token).getBody().getSubject();
     }
 
+    /**
+     * Verifies an access token and reads its authorization claims. Refresh tokens and tokens without
+     * {@code uid} or {@code role} are rejected; tokens issued before {@code ver} existed count as version 0.
+     */
+    public AccessTokenClaims parseAccessToken(String token) {
+        Claims claims = parseToken(token).getBody();
+        if ("refresh".equals(claims.get("type"))) {
+            throw new JwtException("Refresh token used as access token");
+        }
+        Long userId = claims.get("uid", Long.class);
+        String role = claims.get("role", String.class);
+        if (userId == null || role == null) {
+            throw new JwtException("Access token is missing authorization claims");
+        }
+        Long version = claims.get("ver", Long.class);
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(
+                userId, claims.getSubject(), Role.valueOf(role), claims.get("companyId", Long.class));
+        return new AccessTokenClaims(principal, version != null ? version : 0L);
+    }
+
     public boolean isRefreshToken(String token) {
         Claims claims = parseToken(token).getBody();
         Object type = claims.get("type");
         return "refresh".equals(type);
     }
 
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * Drops an entry when its token expires, so an expired token is verified again and rejected.
+     */
+    private static final class UntilTokenExpires implements Expiry<String, Jws<Claims>> {
 
+        @Override
+        public long expireAfterCreate(String key, Jws<Claims> value, long currentTime) {
+            Date expiration = value.getBody().getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMs = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jws<Claims> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jws<Claims> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.shifterizator.shifterizatorbackend.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-user token versions used by stateless authentication. Access tokens carry the version their user had
+ * when they were issued; revoking a user moves its version past every token issued so far, so those tokens
+ * are rejected while new ones are accepted.
+ *
+ * <p>Versions are wall-clock millis, so they keep increasing across restarts, and an entry is dropped once
+ * the access tokens it revokes have expired anyway. The registry lives in memory on each node: a revocation
+ * is not seen by other nodes or after a restart, which bounds how long a revoked token can still be used
+ * there by the access token lifetime.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final Cache<Long, Long> versions;
+
+    public TokenVersionRegistry(@Value("${jwt.expiration}") long accessExpirationMs) {
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(accessExpirationMs))
+                .build();
+    }
+
+    public long currentVersion(Long userId) {
+        Long version = versions.getIfPresent(userId);
+        return version != null ? version : 0L;
+    }
+
+    public void revoke(Long userId) {
+        versions.asMap().merge(userId, System.currentTimeMillis(), (previous, now) -> Math.max(previous + 1, now));
+    }
+
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        return tokenVersion >= currentVersion(userId);
+    }
+}
@@ -7,6 +7,7 @@ import com.shifterizator.shifterizatorbackend.auth.dto.TokenResponseDto;
 import com.shifterizator.shifterizatorbackend.auth.exception.InvalidCredentialsException;
 import com.shifterizator.shifterizatorbackend.auth.exception.InvalidRefreshTokenException;
 import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
+import com.shifterizator.shifterizatorbackend.auth.jwt.TokenVersionRegistry;
 import com.shifterizator.shifterizatorbackend.user.exception.UserNotFoundException;
 import com.shifterizator.shifterizatorbackend.user.model.User;
 import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
@@ -25,6 +26,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     public TokenResponseDto login(LoginRequestDto dto) {
 
@@ -41,7 +43,7 @@ public class AuthService {
             throw new InvalidCredentialsException("Invalid credentials");
         }
 
-        String accessToken = jwtUtil.generateAccessToken(user);
+        String accessToken = jwtUtil.generateAccessToken(user, tokenVersionRegistry.currentVersion(user.getId()));
         String refreshToken = jwtUtil.generateRefreshToken(user);
 
         log.info("Login successful for username: {}", dto.username());
@@ -72,7 +74,12 @@ public class AuthService {
             User user = userRepository.findByUsername(username)
                     .orElseThrow(() -> new UserNotFoundException("User not found for refresh token"));
 
-            String newAccessToken = jwtUtil.generateAccessToken(user);
+            if (!Boolean.TRUE.equals(user.getIsActive()) || user.getDeletedAt() != null) {
+                log.warn("Refresh rejected for inactive or deleted user {}", username);
+                throw new InvalidRefreshTokenException("Invalid refresh token");
+            }
+
+            String newAccessToken = jwtUtil.generateAccessToken(user, tokenVersionRegistry.currentVersion(user.getId()));
 
             log.info("Refresh token successful for username: {}", username);
 
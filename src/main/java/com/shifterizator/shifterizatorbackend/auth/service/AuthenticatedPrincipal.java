@@ -0,0 +1,17 @@
+package com.shifterizator.shifterizatorbackend.auth.service;
+
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+
+import java.security.Principal;
+
+/**
+ * The parts of a user that authorizing a request needs. Small enough to cache between requests and to rebuild
+ * from access token claims, and set as the principal of the request's {@code Authentication}.
+ */
+public record AuthenticatedPrincipal(Long userId, String username, Role role, Long companyId) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -12,19 +12,48 @@ import org.springframework.stereotype.Service;
 public class CurrentUserService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     public User getCurrentUser() {
 
+        String username = currentUsername();
+
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("User not found: " + username));
+    }
+
+    /**
+     * Id, username, role and company of the authenticated user, taken from the request's authentication
+     * without loading the user. Prefer this over {@link #getCurrentUser()} when the entity is not needed.
+     */
+    public AuthenticatedPrincipal getCurrentPrincipal() {
+
+        Authentication authentication = currentAuthentication();
+
+        if (authentication.getPrincipal() instanceof AuthenticatedPrincipal principal) {
+            return principal;
+        }
+
+        return principalCache.get(authentication.getName());
+    }
+
+    public Long getCurrentUserId() {
+        return getCurrentPrincipal().userId();
+    }
+
+    private String currentUsername() {
+        return currentAuthentication().getName();
+    }
+
+    private Authentication currentAuthentication() {
+
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new UserNotFoundException("No authenticated user found");
         }
 
-        String username = authentication.getName();
-
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException("User not found: " + username));
+        return authentication;
     }
 
 }
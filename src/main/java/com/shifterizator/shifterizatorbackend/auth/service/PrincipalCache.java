@@ -0,0 +1,65 @@
+package com.shifterizator.shifterizatorbackend.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shifterizator.shifterizatorbackend.user.exception.UserNotFoundException;
+import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of the users behind bearer tokens, keyed by username, so authenticating a request does not
+ * read the users table every time. Entries expire after the TTL; changes made through {@code UserServiceImpl}
+ * evict the user straight away. Unknown usernames are not cached.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, AuthenticatedPrincipal> cache;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${auth.principal-cache.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public AuthenticatedPrincipal get(String username) {
+        AuthenticatedPrincipal principal = cache.get(username, this::load);
+        if (principal == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        return principal;
+    }
+
+    /**
+     * Evicts the user now and, inside a transaction, again once it completes, so a request that reloads
+     * the user before the change commits cannot put the old state back for a whole TTL.
+     */
+    public void invalidate(String username) {
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    private AuthenticatedPrincipal load(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> new AuthenticatedPrincipal(user.getId(), user.getUsername(), user.getRole(),
+                        user.getCompany() != null ? user.getCompany().getId() : null))
+                .orElse(null);
+    }
+}
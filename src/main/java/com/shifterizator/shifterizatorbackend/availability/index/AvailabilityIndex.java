@@ -0,0 +1,105 @@
+package com.shifterizator.shifterizatorbackend.availability.index;
+
+import com.shifterizator.shifterizatorbackend.availability.model.AvailabilityType;
+import com.shifterizator.shifterizatorbackend.availability.model.EmployeeAvailability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Blocking availabilities of a set of employees over a date window, loaded once and answered in memory.
+ * Each employee's blocks are kept as intervals sorted by start day, so a lookup is a binary search.
+ * Only dates inside the window the index was loaded for can be asked about.
+ */
+public final class AvailabilityIndex {
+
+    private final LocalDate windowStart;
+    private final LocalDate windowEnd;
+    private final Map<Long, Blocks> blocksByEmployee;
+
+    private AvailabilityIndex(LocalDate windowStart, LocalDate windowEnd, Map<Long, Blocks> blocksByEmployee) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.blocksByEmployee = blocksByEmployee;
+    }
+
+    public static AvailabilityIndex of(LocalDate windowStart, LocalDate windowEnd,
+                                       List<EmployeeAvailability> availabilities) {
+        Map<Long, List<EmployeeAvailability>> blockingByEmployee = new HashMap<>();
+        for (EmployeeAvailability availability : availabilities) {
+            if (availability.getType().isBlocking()) {
+                blockingByEmployee
+                        .computeIfAbsent(availability.getEmployee().getId(), id -> new ArrayList<>())
+                        .add(availability);
+            }
+        }
+        Map<Long, Blocks> blocks = new HashMap<>();
+        blockingByEmployee.forEach((employeeId, list) -> blocks.put(employeeId, Blocks.of(list)));
+        return new AvailabilityIndex(windowStart, windowEnd, blocks);
+    }
+
+    public boolean isBlocked(Long employeeId, LocalDate date) {
+        return findBlockingType(employeeId, date).isPresent();
+    }
+
+    public Optional<AvailabilityType> findBlockingType(Long employeeId, LocalDate date) {
+        if (date.isBefore(windowStart) || date.isAfter(windowEnd)) {
+            throw new IllegalArgumentException(
+                    "Date " + date + " is outside the indexed window " + windowStart + " - " + windowEnd);
+        }
+        Blocks blocks = blocksByEmployee.get(employeeId);
+        return blocks == null ? Optional.empty() : Optional.ofNullable(blocks.typeAt(date.toEpochDay()));
+    }
+
+    private record Blocks(long[] starts, long[] ends, long[] maxEndSoFar, AvailabilityType[] types) {
+
+        static Blocks of(List<EmployeeAvailability> availabilities) {
+            List<EmployeeAvailability> sorted = availabilities.stream()
+                    .sorted(Comparator.comparing(EmployeeAvailability::getStartDate))
+                    .toList();
+            int n = sorted.size();
+            long[] starts = new long[n];
+            long[] ends = new long[n];
+            long[] maxEndSoFar = new long[n];
+            AvailabilityType[] types = new AvailabilityType[n];
+            for (int i = 0; i < n; i++) {
+                EmployeeAvailability availability = sorted.get(i);
+                starts[i] = availability.getStartDate().toEpochDay();
+                ends[i] = availability.getEndDate().toEpochDay();
+                maxEndSoFar[i] = i == 0 ? ends[i] : Math.max(maxEndSoFar[i - 1], ends[i]);
+                types[i] = availability.getType();
+            }
+            return new Blocks(starts, ends, maxEndSoFar, types);
+        }
+
+        /**
+         * Finds the last block starting on or before the day, then walks back only while an earlier block
+         * could still reach it. Availabilities do not overlap in practice, so the walk is normally one step.
+         */
+        AvailabilityType typeAt(long day) {
+            int lo = 0;
+            int hi = starts.length - 1;
+            int last = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] <= day) {
+                    last = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            for (int i = last; i >= 0 && maxEndSoFar[i] >= day; i--) {
+                if (ends[i] >= day) {
+                    return types[i];
+                }
+            }
+            return null;
+        }
+    }
+}
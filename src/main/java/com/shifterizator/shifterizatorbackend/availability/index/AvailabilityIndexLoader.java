@@ -0,0 +1,27 @@
+package com.shifterizator.shifterizatorbackend.availability.index;
+
+import com.shifterizator.shifterizatorbackend.availability.repository.EmployeeAvailabilityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndexLoader {
+
+    private final EmployeeAvailabilityRepository employeeAvailabilityRepository;
+
+    /**
+     * Loads the availabilities of every employee working at the location that overlap the window, in one query.
+     */
+    public AvailabilityIndex loadForLocation(Long locationId, LocalDate start, LocalDate end) {
+        return AvailabilityIndex.of(start, end,
+                employeeAvailabilityRepository.findOverlappingForLocation(locationId, start, end));
+    }
+
+    public AvailabilityIndex loadForEmployee(Long employeeId, LocalDate start, LocalDate end) {
+        return AvailabilityIndex.of(start, end,
+                employeeAvailabilityRepository.findOverlapping(employeeId, start, end, null));
+    }
+}
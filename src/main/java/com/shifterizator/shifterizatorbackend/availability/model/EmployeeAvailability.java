@@ -10,7 +10,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "employee_availabilities")
+@Table(name = "employee_availabilities", indexes = {
+        @Index(name = "ix_employee_availabilities_employee_dates",
+                columnList = "employee_id, deleted_at, start_date, end_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
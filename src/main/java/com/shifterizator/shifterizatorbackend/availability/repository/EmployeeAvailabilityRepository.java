@@ -28,4 +28,18 @@ public interface EmployeeAvailabilityRepository extends JpaRepository<EmployeeAv
             @Param("end") LocalDate end,
             @Param("excludeId") Long excludeId
     );
+
+    @Query("""
+            SELECT ea FROM EmployeeAvailability ea
+            WHERE ea.deletedAt IS NULL
+              AND ea.startDate <= :end AND ea.endDate >= :start
+              AND ea.employee.id IN (
+                  SELECT el.employee.id FROM EmployeeLocation el WHERE el.location.id = :locationId
+              )
+            """)
+    List<EmployeeAvailability> findOverlappingForLocation(
+            @Param("locationId") Long locationId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
 }
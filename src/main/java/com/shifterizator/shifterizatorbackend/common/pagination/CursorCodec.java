@@ -0,0 +1,46 @@
+package com.shifterizator.shifterizatorbackend.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Encodes the sort key of the last row of a page as an opaque, URL-safe cursor. Cursors are not signed:
+ * they only select where a caller's own feed resumes, the query still filters by owner.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... keyParts) {
+        String raw = Stream.of(keyParts).map(Objects::toString).collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits the cursor back into its parts and hands them to {@code parser}.
+     *
+     * @throws InvalidCursorException when the cursor was not produced by {@link #encode} with
+     *                                {@code expectedParts} parts, or the parser rejects a part
+     */
+    public static <T> T decode(String cursor, int expectedParts, Function<List<String>, T> parser) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> parts = List.of(raw.split("\\|", -1));
+            if (parts.size() != expectedParts) {
+                throw new InvalidCursorException(cursor);
+            }
+            return parser.apply(parts);
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.shifterizator.shifterizatorbackend.common.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "One page of a keyset-paginated feed; no total count is computed")
+public record CursorPage<T>(
+        @Schema(description = "Items of this page, in feed order") List<T> items,
+        @Schema(description = "Opaque cursor for the next page; null on the last page") String nextCursor
+) {
+
+    /**
+     * Builds a page from a query that fetched up to {@code size + 1} rows: the extra row only tells that
+     * another page exists, and the cursor points after the last row kept.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.getLast()));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,10 @@
+package com.shifterizator.shifterizatorbackend.common.pagination;
+
+import com.shifterizator.shifterizatorbackend.exception.DomainValidationException;
+
+public class InvalidCursorException extends DomainValidationException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +14,8 @@ import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.locations")
 @Table(
         name = "locations",
         uniqueConstraints = {
@@ -45,6 +49,7 @@ public class Location {
     @JoinColumn(name = "company_id", nullable = false)
     private Company company;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.locations.open-days")
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "location_open_days", joinColumns = @JoinColumn(name = "location_id"))
     @Column(name = "day_of_week", nullable = false)
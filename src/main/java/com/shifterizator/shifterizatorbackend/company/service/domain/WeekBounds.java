@@ -2,6 +2,8 @@ package com.shifterizator.shifterizatorbackend.company.service.domain;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class WeekBounds {
 
@@ -19,4 +21,27 @@ public final class WeekBounds {
         return weekStart(date, firstDayOfWeek).plusDays(6);
     }
 
+    /**
+     * Splits the inclusive range into consecutive chunks, one per week as defined by {@code firstDayOfWeek}.
+     * The first and last chunks may be partial weeks; days within each chunk are in ascending order.
+     */
+    public static List<List<LocalDate>> splitIntoWeeks(LocalDate startDate, LocalDate endDate, DayOfWeek firstDayOfWeek) {
+        List<List<LocalDate>> weeks = new ArrayList<>();
+        List<LocalDate> current = new ArrayList<>();
+        LocalDate currentWeekStart = null;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            LocalDate start = weekStart(date, firstDayOfWeek);
+            if (!start.equals(currentWeekStart) && !current.isEmpty()) {
+                weeks.add(List.copyOf(current));
+                current.clear();
+            }
+            currentWeekStart = start;
+            current.add(date);
+        }
+        if (!current.isEmpty()) {
+            weeks.add(List.copyOf(current));
+        }
+        return weeks;
+    }
+
 }
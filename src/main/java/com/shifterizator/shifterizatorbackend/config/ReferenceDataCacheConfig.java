@@ -0,0 +1,84 @@
+package com.shifterizator.shifterizatorbackend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for the reference data that scheduling and assignment read on almost every
+ * call and that rarely changes: positions, languages, locations and shift templates with their requirements.
+ * The entities are cached READ_WRITE, so saves and deletes made through the services replace or evict their
+ * entries when the transaction commits. The cache is local to each node; a change made on another node is
+ * seen here once the entry expires after {@code reference-data.cache.ttl}.
+ * <p>
+ * Every region gets its own Caffeine cache, published on actuator as {@code cache.gets} (hit/miss),
+ * {@code cache.evictions} and {@code cache.size}, tagged with the region name.
+ */
+@Configuration
+@ConditionalOnProperty(name = "reference-data.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ReferenceDataCacheConfig {
+
+    /** Regions named by the {@code @Cache} annotations; an annotated region missing here fails startup. */
+    static final List<String> REGIONS = List.of(
+            "reference.positions",
+            "reference.languages",
+            "reference.locations",
+            "reference.locations.open-days",
+            "reference.shift-templates",
+            "reference.shift-templates.required-positions",
+            "reference.shift-templates.required-languages",
+            "reference.shift-template-positions",
+            "reference.shift-template-languages"
+    );
+
+    /**
+     * A cache manager of its own rather than the JVM-wide default, so two application contexts in one JVM
+     * (as in tests) never share entries.
+     */
+    @Bean(destroyMethod = "close")
+    CacheManager referenceDataCacheManager(@Value("${reference-data.cache.max-size:10000}") long maxSize,
+                                           @Value("${reference-data.cache.ttl:PT10M}") Duration ttl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("reference-data-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : REGIONS) {
+            cacheManager.createCache(region, new CaffeineConfiguration<>()
+                    .setMaximumSize(OptionalLong.of(maxSize))
+                    .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()))
+                    .setNativeStatisticsEnabled(true));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer referenceDataCacheProperties(CacheManager referenceDataCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, referenceDataCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    MeterBinder referenceDataCacheMetrics(CacheManager referenceDataCacheManager) {
+        return registry -> REGIONS.forEach(region -> CaffeineCacheMetrics.monitor(registry,
+                referenceDataCacheManager.getCache(region).unwrap(com.github.benmanes.caffeine.cache.Cache.class),
+                region));
+    }
+}
@@ -0,0 +1,55 @@
+package com.shifterizator.shifterizatorbackend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class SchedulingExecutorConfig {
+
+    @Value("${scheduler.range.week-parallelism:4}")
+    private int weekParallelism;
+
+    @Value("${scheduler.range.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${scheduler.jobs.concurrency:2}")
+    private int jobConcurrency;
+
+    @Value("${scheduler.jobs.queue-capacity:20}")
+    private int jobQueueCapacity;
+
+    /**
+     * Runs the weeks of a schedule range concurrently. Each week holds one DB connection while it runs,
+     * so keep the parallelism well below the connection pool size. When the queue is full the submitting
+     * thread runs the week itself instead of failing.
+     */
+    @Bean(name = "scheduleRangeExecutor")
+    public ThreadPoolTaskExecutor scheduleRangeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(weekParallelism);
+        executor.setMaxPoolSize(weekParallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("schedule-week-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Background schedule-range jobs. Each job fans out to {@code scheduleRangeExecutor}, so this pool only
+     * bounds how many ranges run at once; submissions beyond the queue are rejected.
+     */
+    @Bean(name = "scheduleJobExecutor")
+    public ThreadPoolTaskExecutor scheduleJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobConcurrency);
+        executor.setMaxPoolSize(jobConcurrency);
+        executor.setQueueCapacity(jobQueueCapacity);
+        executor.setThreadNamePrefix("schedule-job-");
+        return executor;
+    }
+}
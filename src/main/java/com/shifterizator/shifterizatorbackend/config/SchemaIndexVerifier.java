@@ -0,0 +1,104 @@
+package com.shifterizator.shifterizatorbackend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Refuses to start when an index declared on an entity's {@code @Table} is missing from the database or
+ * covers other columns. Hibernate's {@code validate} only compares tables and columns, so a skipped
+ * migration or an index changed by hand would otherwise only show up as slow queries.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "schema.index-check.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements SmartInitializingSingleton {
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SchemaIndexVerifier(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> drift;
+        try {
+            drift = findDrift();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read index metadata from the database", e);
+        }
+        if (!drift.isEmpty()) {
+            throw new IllegalStateException("Database indexes do not match the entities, run the pending migrations: "
+                    + String.join("; ", drift));
+        }
+        log.info("Schema index check passed");
+    }
+
+    /**
+     * @return one message per declared index that is missing or differs, empty when the schema matches
+     */
+    List<String> findDrift() throws SQLException {
+        List<String> drift = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+                Table table = entity.getJavaType().getAnnotation(Table.class);
+                if (table == null || table.indexes().length == 0) {
+                    continue;
+                }
+                Map<String, List<String>> actual = readIndexes(connection, metaData, table.name());
+                for (Index index : table.indexes()) {
+                    List<String> expected = Arrays.stream(index.columnList().split(","))
+                            .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                            .toList();
+                    List<String> found = actual.get(index.name().toLowerCase(Locale.ROOT));
+                    if (found == null) {
+                        drift.add(table.name() + "." + index.name() + " is missing");
+                    } else if (!found.equals(expected)) {
+                        drift.add(table.name() + "." + index.name() + " covers " + found + " instead of " + expected);
+                    }
+                }
+            }
+        }
+        return drift;
+    }
+
+    private static Map<String, List<String>> readIndexes(Connection connection, DatabaseMetaData metaData,
+                                                         String tableName) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? tableName.toUpperCase(Locale.ROOT) : tableName;
+        Map<String, Map<Short, String>> columnsByIndex = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName != null && column != null) {
+                    columnsByIndex.computeIfAbsent(indexName.toLowerCase(Locale.ROOT), name -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        Map<String, List<String>> indexes = new TreeMap<>();
+        columnsByIndex.forEach((name, columns) -> indexes.put(name, List.copyOf(columns.values())));
+        return indexes;
+    }
+}
@@ -1,6 +1,7 @@
 package com.shifterizator.shifterizatorbackend.config;
 
 import com.shifterizator.shifterizatorbackend.auth.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
@@ -47,6 +48,8 @@ public class SecurityConfig {
                 .sessionManagement(sm ->
                         sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> {
+                    // async dispatches only resume requests that were authorized on the way in (SSE streams)
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     auth
                             .requestMatchers("/api/auth/login", "/api/auth/refresh", "/api/health")
                             .permitAll();
@@ -131,6 +134,8 @@ public class SecurityConfig {
                             .requestMatchers(HttpMethod.DELETE, "/api/shift-instances/**")
                             .hasAnyRole("SUPERADMIN", "COMPANYADMIN", "SHIFTMANAGER")
                             .requestMatchers("/api/shift-instances/**").authenticated()
+                            .requestMatchers("/api/schedule-jobs/**")
+                            .hasAnyRole("SUPERADMIN", "COMPANYADMIN", "SHIFTMANAGER")
                             .requestMatchers(HttpMethod.PATCH, "/api/shift-assignments/*/confirm")
                             .hasAnyRole("SUPERADMIN", "COMPANYADMIN", "SHIFTMANAGER")
                                 .requestMatchers(HttpMethod.POST, "/api/shift-assignments/**")
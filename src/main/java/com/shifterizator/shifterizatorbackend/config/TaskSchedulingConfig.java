@@ -0,0 +1,12 @@
+package com.shifterizator.shifterizatorbackend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background maintenance such as the shift coverage reconciliation.
+ */
+@Configuration
+@EnableScheduling
+public class TaskSchedulingConfig {
+}
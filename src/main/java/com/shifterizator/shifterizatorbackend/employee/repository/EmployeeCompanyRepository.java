@@ -2,8 +2,20 @@ package com.shifterizator.shifterizatorbackend.employee.repository;
 
 import com.shifterizator.shifterizatorbackend.employee.model.EmployeeCompany;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface EmployeeCompanyRepository extends JpaRepository<EmployeeCompany, Long> {
+
+    @Query("""
+            SELECT ec.employee.id FROM EmployeeCompany ec
+            WHERE ec.company.id = :companyId
+              AND ec.employee.id IN :employeeIds
+            """)
+    List<Long> findEmployeeIdsInCompany(@Param("companyId") Long companyId,
+                                        @Param("employeeIds") List<Long> employeeIds);
 }
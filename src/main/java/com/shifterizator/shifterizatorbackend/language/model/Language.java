@@ -2,12 +2,16 @@ package com.shifterizator.shifterizatorbackend.language.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.languages")
 @Table(name = "languages", uniqueConstraints = {
         @UniqueConstraint(name = "uk_language_code", columnNames = "code")
 })
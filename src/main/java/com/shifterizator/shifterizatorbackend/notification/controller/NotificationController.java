@@ -1,8 +1,10 @@
 package com.shifterizator.shifterizatorbackend.notification.controller;
 
 import com.shifterizator.shifterizatorbackend.auth.service.CurrentUserService;
+import com.shifterizator.shifterizatorbackend.common.pagination.CursorPage;
 import com.shifterizator.shifterizatorbackend.notification.dto.NotificationResponseDto;
 import com.shifterizator.shifterizatorbackend.notification.service.NotificationService;
+import com.shifterizator.shifterizatorbackend.notification.service.stream.NotificationStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,9 +14,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -23,12 +29,17 @@ import java.util.Map;
 @Tag(name = "Notifications", description = "In-app notifications for the current user (e.g. shift assigned/unassigned)")
 public class NotificationController {
 
+    private static final int STREAM_REPLAY_LIMIT = 200;
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     private final NotificationService notificationService;
+    private final NotificationStream notificationStream;
     private final CurrentUserService currentUserService;
 
     @Operation(
-            summary = "List my notifications",
-            description = "Returns paginated notifications for the current user, newest first.",
+            summary = "List my notifications (offset paging)",
+            description = "Returns paginated notifications for the current user, newest first. Deep pages get slow "
+                    + "and every page runs a count; prefer /api/notifications/feed.",
             security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
@@ -37,25 +48,75 @@ public class NotificationController {
     })
     @GetMapping
     public ResponseEntity<Page<NotificationResponseDto>> listMine(Pageable pageable) {
-        Long userId = currentUserService.getCurrentUser().getId();
+        Long userId = currentUserService.getCurrentUserId();
         Page<NotificationResponseDto> page = notificationService.findByUserId(userId, pageable);
         return ResponseEntity.ok(page);
     }
 
+    @Operation(
+            summary = "My notification feed",
+            description = "Keyset-paginated notifications of the current user, newest first. Pass the nextCursor "
+                    + "of a page to get the next one; it is null on the last page. No total count is computed.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of notifications"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<NotificationResponseDto>> feed(
+            @Parameter(description = "Cursor from the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to " + MAX_FEED_PAGE_SIZE)
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = currentUserService.getCurrentUserId();
+        int pageSize = Math.clamp(size, 1, MAX_FEED_PAGE_SIZE);
+        return ResponseEntity.ok(notificationService.findFeedByUserId(userId, cursor, pageSize));
+    }
+
+    @Operation(
+            summary = "Stream my notifications",
+            description = "Server-sent events with every new notification of the current user (event name "
+                    + "\"notification\", id = notification id) and a heartbeat comment every few seconds. "
+                    + "Reconnect with Last-Event-ID to receive what was missed, up to " + STREAM_REPLAY_LIMIT
+                    + " notifications.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Long userId = currentUserService.getCurrentUserId();
+        return notificationStream.subscribe(userId, () -> lastEventId == null
+                ? List.of()
+                : notificationService.findByUserIdAfter(userId, lastEventId, STREAM_REPLAY_LIMIT));
+    }
+
     @Operation(
             summary = "Unread count",
-            description = "Returns the number of unread notifications for the current user.",
+            description = "Returns the number of unread notifications for the current user. The response carries "
+                    + "an ETag; polling clients should send it back in If-None-Match and get 304 while the count "
+                    + "is unchanged.",
             security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Unread count"),
+            @ApiResponse(responseCode = "304", description = "Count unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Not authenticated")
     })
     @GetMapping("/unread-count")
     public ResponseEntity<Map<String, Integer>> unreadCount() {
-        Long userId = currentUserService.getCurrentUser().getId();
+        Long userId = currentUserService.getCurrentUserId();
         int count = notificationService.countUnreadByUserId(userId);
-        return ResponseEntity.ok(Map.of("unreadCount", count));
+        // Spring MVC answers 304 without a body when the ETag matches If-None-Match
+        return ResponseEntity.ok()
+                .eTag("unread-" + count)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(Map.of("unreadCount", count));
     }
 
     @Operation(
@@ -72,7 +133,7 @@ public class NotificationController {
     public ResponseEntity<Void> markAsRead(
             @Parameter(description = "Notification ID", required = true) @PathVariable Long id
     ) {
-        Long userId = currentUserService.getCurrentUser().getId();
+        Long userId = currentUserService.getCurrentUserId();
         notificationService.markAsRead(id, userId);
         return ResponseEntity.noContent().build();
     }
@@ -88,7 +149,7 @@ public class NotificationController {
     })
     @PatchMapping("/read-all")
     public ResponseEntity<Void> markAllAsRead() {
-        Long userId = currentUserService.getCurrentUser().getId();
+        Long userId = currentUserService.getCurrentUserId();
         notificationService.markAllAsRead(userId);
         return ResponseEntity.noContent().build();
     }
@@ -3,6 +3,7 @@ package com.shifterizator.shifterizatorbackend.notification.dto;
 import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public record NotificationResponseDto(
         Long id,
@@ -12,5 +13,6 @@ public record NotificationResponseDto(
         Boolean read,
         LocalDateTime createdAt,
         String relatedEntityType,
-        Long relatedEntityId
+        Long relatedEntityId,
+        List<Long> relatedEntityIds
 ) {}
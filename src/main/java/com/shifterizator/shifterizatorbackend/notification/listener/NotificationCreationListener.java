@@ -2,7 +2,10 @@ package com.shifterizator.shifterizatorbackend.notification.listener;
 
 import com.shifterizator.shifterizatorbackend.notification.event.ShiftAssignmentCreatedEvent;
 import com.shifterizator.shifterizatorbackend.notification.event.ShiftAssignmentRemovedEvent;
-import com.shifterizator.shifterizatorbackend.notification.service.NotificationService;
+import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
+import com.shifterizator.shifterizatorbackend.notification.service.dispatch.NotificationDispatcher;
+import com.shifterizator.shifterizatorbackend.notification.service.dispatch.PendingNotification;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -12,15 +15,19 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class NotificationCreationListener {
 
-    private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onShiftAssignmentCreated(ShiftAssignmentCreatedEvent event) {
-        notificationService.createForShiftAssignmentCreated(event.getAssignment().getId());
+        notificationDispatcher.enqueue(toPending(NotificationType.SHIFT_ASSIGNED, event.getAssignment()));
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onShiftAssignmentRemoved(ShiftAssignmentRemovedEvent event) {
-        notificationService.createForShiftAssignmentRemoved(event.getAssignment().getId());
+        notificationDispatcher.enqueue(toPending(NotificationType.SHIFT_UNASSIGNED, event.getAssignment()));
+    }
+
+    private static PendingNotification toPending(NotificationType type, ShiftAssignment assignment) {
+        return new PendingNotification(type, assignment.getId(), assignment.getEmployee().getId());
     }
 }
@@ -8,10 +8,12 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "notifications", indexes = {
-        @Index(name = "ix_notifications_user_created", columnList = "user_id, created_at")
+        @Index(name = "ix_notifications_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "ix_notifications_user_unread", columnList = "user_id, is_read, created_at")
 })
 @Getter
 @Setter
@@ -48,6 +50,12 @@ public class Notification {
     @Column(name = "related_entity_id")
     private Long relatedEntityId;
 
+    /** Set on digests that stand for several entities of {@code relatedEntityType}; empty otherwise. */
+    @Convert(converter = LongListConverter.class)
+    @Column(name = "related_entity_ids", length = 4000)
+    @Builder.Default
+    private List<Long> relatedEntityIds = List.of();
+
     @Column(name = "is_read", nullable = false)
     @Builder.Default
     private Boolean read = false;
@@ -9,6 +9,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -16,6 +19,29 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     int countByUserIdAndReadFalse(Long userId);
 
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.user.id = :userId
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findFeedFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Keyset page: the notifications that sort after ({@code createdAt}, {@code id}) in the feed order.
+     */
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.user.id = :userId
+              AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findFeedPageAfter(@Param("userId") Long userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
+
     @Modifying
     @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.read = false")
     int markAllAsReadByUserId(@Param("userId") Long userId);
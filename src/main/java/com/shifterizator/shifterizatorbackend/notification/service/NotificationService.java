@@ -1,20 +1,39 @@
 package com.shifterizator.shifterizatorbackend.notification.service;
 
+import com.shifterizator.shifterizatorbackend.common.pagination.CursorPage;
 import com.shifterizator.shifterizatorbackend.notification.dto.NotificationResponseDto;
+import com.shifterizator.shifterizatorbackend.notification.service.dispatch.PendingNotification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface NotificationService {
 
     Page<NotificationResponseDto> findByUserId(Long userId, Pageable pageable);
 
+    /**
+     * Keyset-paginated feed, newest first; {@code cursor} is null for the first page.
+     */
+    CursorPage<NotificationResponseDto> findFeedByUserId(Long userId, String cursor, int size);
+
     void markAsRead(Long notificationId, Long userId);
 
     void markAllAsRead(Long userId);
 
     int countUnreadByUserId(Long userId);
 
-    void createForShiftAssignmentCreated(Long assignmentId);
-
-    void createForShiftAssignmentRemoved(Long assignmentId);
+    /**
+     * The user's notifications created after {@code afterId}, oldest first, at most {@code limit}; used to
+     * replay what a reconnecting stream missed.
+     */
+    List<NotificationResponseDto> findByUserIdAfter(Long userId, Long afterId, int limit);
+
+    /**
+     * Creates the notifications for a batch of assignment events with one query for the assignments and one
+     * batched insert. Assignments that no longer exist or whose employee has no user are skipped.
+     *
+     * @return how many notifications were created
+     */
+    int createForShiftAssignments(List<PendingNotification> pending);
 }
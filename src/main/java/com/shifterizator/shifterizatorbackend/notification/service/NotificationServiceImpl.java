@@ -1,21 +1,34 @@
 package com.shifterizator.shifterizatorbackend.notification.service;
 
+import com.shifterizator.shifterizatorbackend.common.pagination.CursorCodec;
+import com.shifterizator.shifterizatorbackend.common.pagination.CursorPage;
 import com.shifterizator.shifterizatorbackend.notification.dto.NotificationResponseDto;
 import com.shifterizator.shifterizatorbackend.notification.exception.NotificationNotFoundException;
 import com.shifterizator.shifterizatorbackend.notification.model.Notification;
 import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
 import com.shifterizator.shifterizatorbackend.notification.repository.NotificationRepository;
+import com.shifterizator.shifterizatorbackend.notification.service.dispatch.NotificationBatchWriter;
+import com.shifterizator.shifterizatorbackend.notification.service.dispatch.PendingNotification;
+import com.shifterizator.shifterizatorbackend.notification.service.stream.NotificationStream;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
-import com.shifterizator.shifterizatorbackend.user.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,9 +37,16 @@ public class NotificationServiceImpl implements NotificationService {
     private static final String RELATED_ENTITY_TYPE_SHIFT_ASSIGNMENT = "SHIFT_ASSIGNMENT";
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("dd MMM yyyy");
     private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HH:mm");
+    /** A user with at least this many assignment changes of one kind in a batch gets a single digest. */
+    private static final int DIGEST_MIN_ASSIGNMENTS = 3;
+    /** Keeps the ids of one digest within the {@code related_entity_ids} column. */
+    private static final int DIGEST_MAX_ASSIGNMENTS = 200;
 
     private final NotificationRepository notificationRepository;
     private final ShiftAssignmentRepository shiftAssignmentRepository;
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationStream notificationStream;
 
     @Override
     @Transactional(readOnly = true)
@@ -35,81 +55,160 @@ public class NotificationServiceImpl implements NotificationService {
                 .map(this::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationResponseDto> findFeedByUserId(Long userId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Notification> fetched;
+        if (cursor == null) {
+            fetched = notificationRepository.findFeedFirstPage(userId, limit);
+        } else {
+            FeedKey after = CursorCodec.decode(cursor, 2,
+                    parts -> new FeedKey(LocalDateTime.parse(parts.get(0)), Long.valueOf(parts.get(1))));
+            fetched = notificationRepository.findFeedPageAfter(userId, after.createdAt(), after.id(), limit);
+        }
+        return CursorPage.of(fetched, size, n -> CursorCodec.encode(n.getCreatedAt(), n.getId()))
+                .map(this::toDto);
+    }
+
     @Override
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
         Notification n = notificationRepository.findById(notificationId)
                 .filter(notification -> notification.getUser().getId().equals(userId))
                 .orElseThrow(() -> new NotificationNotFoundException("Notification not found or access denied"));
-        n.setRead(true);
+        if (!Boolean.TRUE.equals(n.getRead())) {
+            n.setRead(true);
+            unreadCountCache.adjustAfterCommit(userId, -1);
+        }
     }
 
     @Override
     @Transactional
     public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsReadByUserId(userId);
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        unreadCountCache.adjustAfterCommit(userId, -updated);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public int countUnreadByUserId(Long userId) {
-        return notificationRepository.countByUserIdAndReadFalse(userId);
+    public List<NotificationResponseDto> findByUserIdAfter(Long userId, Long afterId, int limit) {
+        return notificationRepository
+                .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, afterId, PageRequest.of(0, limit)).stream()
+                .map(this::toDto)
+                .toList();
     }
 
+    /**
+     * Served from {@link UnreadCountCache}; deliberately not transactional so a cache hit does not take a
+     * connection.
+     */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void createForShiftAssignmentCreated(Long assignmentId) {
-        ShiftAssignment assignment = shiftAssignmentRepository
-                .findByIdWithShiftInstanceAndEmployeeUser(assignmentId)
-                .orElse(null);
-        if (assignment == null || assignment.getEmployee().getUser() == null) {
-            return;
-        }
-        User user = assignment.getEmployee().getUser();
-        var si = assignment.getShiftInstance();
-        String locationName = si.getLocation() != null ? si.getLocation().getName() : "—";
-        String title = "New shift assignment";
-        String body = String.format("You have been assigned to a shift on %s, %s–%s at %s.",
-                si.getDate().format(DATE_FMT),
-                si.getStartTime().format(TIME_FMT),
-                si.getEndTime().format(TIME_FMT),
-                locationName);
-        create(user, NotificationType.SHIFT_ASSIGNED, title, body, RELATED_ENTITY_TYPE_SHIFT_ASSIGNMENT, assignment.getId());
+    public int countUnreadByUserId(Long userId) {
+        return unreadCountCache.get(userId);
     }
 
+    /**
+     * Runs in a transaction of its own: the dispatcher may call it from an AFTER_COMMIT listener, where joining
+     * the finished transaction would leave the inserts uncommitted and the after-commit hooks unfired.
+     */
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void createForShiftAssignmentRemoved(Long assignmentId) {
-        ShiftAssignment assignment = shiftAssignmentRepository
-                .findByIdWithShiftInstanceAndEmployeeUser(assignmentId)
-                .orElse(null);
-        if (assignment == null || assignment.getEmployee().getUser() == null) {
-            return;
+    public int createForShiftAssignments(List<PendingNotification> pending) {
+        List<Long> assignmentIds = pending.stream()
+                .map(PendingNotification::assignmentId)
+                .distinct()
+                .toList();
+        Map<Long, ShiftAssignment> assignmentsById = shiftAssignmentRepository
+                .findAllByIdWithShiftInstanceAndEmployeeUser(assignmentIds).stream()
+                .collect(Collectors.toMap(ShiftAssignment::getId, Function.identity()));
+
+        Map<DigestKey, List<ShiftAssignment>> byUserAndType = new LinkedHashMap<>();
+        for (PendingNotification p : pending) {
+            ShiftAssignment assignment = assignmentsById.get(p.assignmentId());
+            if (assignment == null || assignment.getEmployee().getUser() == null) {
+                continue;
+            }
+            byUserAndType.computeIfAbsent(new DigestKey(assignment.getEmployee().getUser().getId(), p.type()),
+                    key -> new ArrayList<>()).add(assignment);
         }
-        User user = assignment.getEmployee().getUser();
+
+        List<Notification> notifications = new ArrayList<>(pending.size());
+        byUserAndType.forEach((key, assignments) -> {
+            if (assignments.size() < DIGEST_MIN_ASSIGNMENTS) {
+                assignments.forEach(assignment -> notifications.add(single(assignment, key.type())));
+                return;
+            }
+            List<ShiftAssignment> byDate = assignments.stream()
+                    .sorted(Comparator.comparing((ShiftAssignment a) -> a.getShiftInstance().getDate())
+                            .thenComparing(a -> a.getShiftInstance().getStartTime()))
+                    .toList();
+            for (int from = 0; from < byDate.size(); from += DIGEST_MAX_ASSIGNMENTS) {
+                notifications.add(digest(byDate.subList(from, Math.min(from + DIGEST_MAX_ASSIGNMENTS, byDate.size())),
+                        key.type()));
+            }
+        });
+        notificationBatchWriter.insertAll(notifications);
+        unreadCountCache.adjustAfterCommit(notifications.stream()
+                .collect(Collectors.toMap(n -> n.getUser().getId(), n -> 1, Integer::sum)));
+        notificationStream.publishAfterCommit(notifications.stream()
+                .collect(Collectors.groupingBy(n -> n.getUser().getId(),
+                        Collectors.mapping(this::toDto, Collectors.toList()))));
+        return notifications.size();
+    }
+
+    private Notification single(ShiftAssignment assignment, NotificationType type) {
+        String bodyFormat = type == NotificationType.SHIFT_ASSIGNED
+                ? "You have been assigned to a shift on %s, %s–%s at %s."
+                : "You have been unassigned from the shift on %s, %s–%s at %s.";
         var si = assignment.getShiftInstance();
         String locationName = si.getLocation() != null ? si.getLocation().getName() : "—";
-        String title = "Shift unassigned";
-        String body = String.format("You have been unassigned from the shift on %s, %s–%s at %s.",
+        String body = String.format(bodyFormat,
                 si.getDate().format(DATE_FMT),
                 si.getStartTime().format(TIME_FMT),
                 si.getEndTime().format(TIME_FMT),
                 locationName);
-        create(user, NotificationType.SHIFT_UNASSIGNED, title, body, RELATED_ENTITY_TYPE_SHIFT_ASSIGNMENT, assignment.getId());
+        return Notification.builder()
+                .user(assignment.getEmployee().getUser())
+                .type(type)
+                .title(type == NotificationType.SHIFT_ASSIGNED ? "New shift assignment" : "Shift unassigned")
+                .body(body)
+                .relatedEntityType(RELATED_ENTITY_TYPE_SHIFT_ASSIGNMENT)
+                .relatedEntityId(assignment.getId())
+                .read(false)
+                .build();
     }
 
-    private void create(User user, NotificationType type, String title, String body,
-                        String relatedEntityType, Long relatedEntityId) {
-        Notification n = Notification.builder()
-                .user(user)
+    /**
+     * One notification standing for several assignments of the same user, sorted by shift date; the
+     * assignment ids go to {@code relatedEntityIds} and {@code relatedEntityId} stays empty.
+     */
+    private Notification digest(List<ShiftAssignment> assignments, NotificationType type) {
+        int count = assignments.size();
+        String first = assignments.getFirst().getShiftInstance().getDate().format(DATE_FMT);
+        String last = assignments.getLast().getShiftInstance().getDate().format(DATE_FMT);
+        String period = first.equals(last) ? "on " + first : "between " + first + " and " + last;
+        String title = type == NotificationType.SHIFT_ASSIGNED
+                ? count + " new shift assignments"
+                : "Unassigned from " + count + " shifts";
+        String body = type == NotificationType.SHIFT_ASSIGNED
+                ? String.format("You have %d new shifts %s.", count, period)
+                : String.format("You have been unassigned from %d shifts %s.", count, period);
+        return Notification.builder()
+                .user(assignments.getFirst().getEmployee().getUser())
                 .type(type)
                 .title(title)
                 .body(body)
-                .relatedEntityType(relatedEntityType)
-                .relatedEntityId(relatedEntityId)
+                .relatedEntityType(RELATED_ENTITY_TYPE_SHIFT_ASSIGNMENT)
+                .relatedEntityIds(assignments.stream().map(ShiftAssignment::getId).toList())
                 .read(false)
                 .build();
-        notificationRepository.save(n);
+    }
+
+    private record FeedKey(LocalDateTime createdAt, Long id) {
+    }
+
+    private record DigestKey(Long userId, NotificationType type) {
     }
 
     private NotificationResponseDto toDto(Notification n) {
@@ -121,7 +220,8 @@ public class NotificationServiceImpl implements NotificationService {
                 n.getRead(),
                 n.getCreatedAt(),
                 n.getRelatedEntityType(),
-                n.getRelatedEntityId()
+                n.getRelatedEntityId(),
+                n.getRelatedEntityIds()
         );
     }
 }
@@ -0,0 +1,86 @@
+package com.shifterizator.shifterizatorbackend.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shifterizator.shifterizatorbackend.notification.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Unread notification count per user. A miss counts the user's unread rows once; after that
+ * {@link NotificationServiceImpl} keeps the entry up to date by applying the change of every write once its
+ * transaction commits, and users without an entry are left alone until they ask. Each entry remembers when
+ * its count was read: a count read once the write had started committing may already include it, so that
+ * entry is evicted instead of adjusted and the next request counts again. Entries expire after the TTL,
+ * which also bounds how long a count can stay off after a write made outside the service.
+ */
+@Component
+public class UnreadCountCache {
+
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, Entry> cache;
+
+    public UnreadCountCache(NotificationRepository notificationRepository,
+                            @Value("${notification.unread-count-cache.max-size:50000}") long maxSize,
+                            @Value("${notification.unread-count-cache.ttl:PT10M}") Duration ttl) {
+        this.notificationRepository = notificationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public int get(Long userId) {
+        return cache.get(userId, id -> new Entry(notificationRepository.countByUserIdAndReadFalse(id), System.nanoTime()))
+                .count();
+    }
+
+    public void adjustAfterCommit(Long userId, int delta) {
+        adjustAfterCommit(Map.of(userId, delta));
+    }
+
+    /**
+     * Applies the per-user changes once the current transaction commits; nothing is applied on rollback.
+     * Without a transaction the write has already been committed, so the users' entries are evicted.
+     */
+    public void adjustAfterCommit(Map<Long, Integer> deltaByUser) {
+        if (deltaByUser.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidateAll(deltaByUser.keySet());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+            private long commitStartedAt;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing = true;
+                commitStartedAt = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                deltaByUser.forEach((userId, delta) -> cache.asMap().computeIfPresent(userId, (id, entry) ->
+                        committing && entry.loadedAt() - commitStartedAt < 0 ? entry.plus(delta) : null));
+            }
+        });
+    }
+
+    /**
+     * A cached count and the {@link System#nanoTime()} at which the query that produced it had returned.
+     */
+    private record Entry(int count, long loadedAt) {
+
+        Entry plus(int delta) {
+            return new Entry(Math.max(0, count + delta), loadedAt);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.shifterizator.shifterizatorbackend.notification.service.dispatch;
+
+import com.shifterizator.shifterizatorbackend.notification.model.LongListConverter;
+import com.shifterizator.shifterizatorbackend.notification.model.Notification;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts notifications with one JDBC batch. {@code Notification} uses IDENTITY ids, which stops Hibernate
+ * from batching inserts, so this goes straight to the table and copies the generated ids and creation time
+ * back onto the notifications. Inserted notifications are not attached to the persistence context.
+ */
+@Component
+public class NotificationBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications
+                (user_id, type, title, body, related_entity_type, related_entity_id, related_entity_ids,
+                 is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final LongListConverter RELATED_IDS = new LongListConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, notifications.get(i), now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != notifications.size()) {
+            throw new IllegalStateException(String.format(
+                    "Driver returned %d generated keys for a batch of %d notifications", keys.size(), notifications.size()));
+        }
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification n = notifications.get(i);
+            n.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            if (n.getCreatedAt() == null) {
+                n.setCreatedAt(now);
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, Notification n, LocalDateTime now) throws SQLException {
+        ps.setLong(1, n.getUser().getId());
+        ps.setString(2, n.getType().name());
+        ps.setString(3, n.getTitle());
+        ps.setString(4, n.getBody());
+        ps.setString(5, n.getRelatedEntityType());
+        ps.setObject(6, n.getRelatedEntityId());
+        ps.setString(7, RELATED_IDS.convertToDatabaseColumn(n.getRelatedEntityIds()));
+        ps.setBoolean(8, Boolean.TRUE.equals(n.getRead()));
+        ps.setTimestamp(9, Timestamp.valueOf(n.getCreatedAt() != null ? n.getCreatedAt() : now));
+    }
+}
@@ -0,0 +1,205 @@
+package com.shifterizator.shifterizatorbackend.notification.service.dispatch;
+
+import com.shifterizator.shifterizatorbackend.notification.service.NotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates notifications off the request thread. Events are put on a bounded queue; a single worker takes them
+ * off and holds each employee's events for {@code coalesce-window} after the first one arrives, so a bulk
+ * schedule change reaches {@link NotificationService#createForShiftAssignments} together and can become one
+ * digest per user. An employee's events are written early once {@code batch-size} of them are waiting.
+ * <p>
+ * When the queue is full the publishing thread writes its notification itself, which slows producers down
+ * instead of dropping notifications. On shutdown the worker writes what is left before it stops.
+ * Notifications still waiting when the process dies are lost, as they were when the listener failed before.
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final NotificationService notificationService;
+    private final BlockingQueue<PendingNotification> queue;
+    private final int batchSize;
+    private final long coalesceWindowNanos;
+
+    /** Waiting events per employee, in arrival order of each employee's first event. Worker thread only. */
+    private final Map<Long, Window> windows = new LinkedHashMap<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    private final Counter enqueued;
+    private final Counter callerRuns;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationDispatcher(NotificationService notificationService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notification.dispatch.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${notification.dispatch.batch-size:200}") int batchSize,
+                                  @Value("${notification.dispatch.coalesce-window:PT2S}") Duration coalesceWindow) {
+        this.notificationService = notificationService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.coalesceWindowNanos = coalesceWindow.toNanos();
+
+        meterRegistry.gaugeCollectionSize("notifications.dispatch.queue.size", List.of(), queue);
+        meterRegistry.gauge("notifications.dispatch.buffered", buffered);
+        this.enqueued = meterRegistry.counter("notifications.dispatch.enqueued");
+        this.callerRuns = meterRegistry.counter("notifications.dispatch.caller.runs");
+        this.written = meterRegistry.counter("notifications.dispatch.written");
+        this.failed = meterRegistry.counter("notifications.dispatch.failed");
+        this.batchTimer = meterRegistry.timer("notifications.dispatch.batch");
+    }
+
+    public void enqueue(PendingNotification notification) {
+        if (running && queue.offer(notification)) {
+            enqueued.increment();
+            return;
+        }
+        callerRuns.increment();
+        write(List.of(notification));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "notification-dispatch");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        try {
+            while (running) {
+                PendingNotification next = queue.poll(nanosUntilNextWindowCloses(), TimeUnit.NANOSECONDS);
+                if (next != null) {
+                    List<PendingNotification> arrived = new ArrayList<>();
+                    arrived.add(next);
+                    queue.drainTo(arrived);
+                    arrived.forEach(this::buffer);
+                }
+                flushWindows(false);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingNotification> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.forEach(this::buffer);
+        flushWindows(true);
+    }
+
+    private long nanosUntilNextWindowCloses() {
+        if (windows.isEmpty()) {
+            return POLL_TIMEOUT_NANOS;
+        }
+        long untilClose = windows.values().iterator().next().closesAt - System.nanoTime();
+        return Math.max(0, Math.min(untilClose, POLL_TIMEOUT_NANOS));
+    }
+
+    private void buffer(PendingNotification notification) {
+        Window window = windows.computeIfAbsent(notification.employeeId(),
+                id -> new Window(System.nanoTime() + coalesceWindowNanos));
+        window.pending.add(notification);
+        buffered.incrementAndGet();
+        if (window.pending.size() >= batchSize) {
+            windows.remove(notification.employeeId());
+            flush(window.pending);
+        }
+    }
+
+    /**
+     * Writes the windows that have closed, or all of them. The window length is fixed, so windows close in
+     * the order they were opened and the scan stops at the first one still open. Closed windows are written
+     * together, up to {@code batch-size} notifications per write.
+     */
+    private void flushWindows(boolean all) {
+        long now = System.nanoTime();
+        List<PendingNotification> batch = new ArrayList<>();
+        Iterator<Window> it = windows.values().iterator();
+        while (it.hasNext()) {
+            Window window = it.next();
+            if (!all && window.closesAt - now > 0) {
+                break;
+            }
+            it.remove();
+            if (!batch.isEmpty() && batch.size() + window.pending.size() > batchSize) {
+                flush(batch);
+                batch = new ArrayList<>();
+            }
+            batch.addAll(window.pending);
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<PendingNotification> batch) {
+        buffered.addAndGet(-batch.size());
+        write(batch);
+    }
+
+    private void write(List<PendingNotification> batch) {
+        try {
+            int created = batchTimer.recordCallable(() -> notificationService.createForShiftAssignments(batch));
+            written.increment(created);
+        } catch (Exception ex) {
+            failed.increment(batch.size());
+            log.error("Failed to create notifications for {} assignment events: {}", batch.size(), ex.getMessage(), ex);
+        }
+    }
+
+    private static final class Window {
+
+        private final long closesAt;
+        private final List<PendingNotification> pending = new ArrayList<>();
+
+        private Window(long closesAt) {
+            this.closesAt = closesAt;
+        }
+    }
+}
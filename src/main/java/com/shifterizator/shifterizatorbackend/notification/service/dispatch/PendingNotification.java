@@ -0,0 +1,10 @@
+package com.shifterizator.shifterizatorbackend.notification.service.dispatch;
+
+import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
+
+/**
+ * A notification waiting in {@link NotificationDispatcher}'s queue: what happened to which shift assignment,
+ * and the employee it belongs to, which is what the dispatcher coalesces on.
+ */
+public record PendingNotification(NotificationType type, Long assignmentId, Long employeeId) {
+}
@@ -0,0 +1,140 @@
+package com.shifterizator.shifterizatorbackend.notification.service.stream;
+
+import com.shifterizator.shifterizatorbackend.notification.dto.NotificationResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Server-sent event streams of new notifications, fanned out per user. The request thread returns as soon as
+ * the stream is open (async servlet); each stream is written by its own virtual thread, so idle connections
+ * hold no platform thread. Heartbeats keep proxies from closing idle streams, and clients reconnecting with
+ * {@code Last-Event-ID} get what they missed from the {@code notifications} table.
+ * <p>
+ * Streams are local to the node: notifications created on another node reach the client on its next
+ * reconnect through replay.
+ */
+@Component
+@Slf4j
+public class NotificationStream {
+
+    private final Map<Long, Set<NotificationSubscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("notification-stream-", 0).factory());
+    private final AtomicInteger open = new AtomicInteger();
+    private final Counter overflows;
+    private final long timeoutMs;
+    private final int bufferSize;
+
+    public NotificationStream(MeterRegistry meterRegistry,
+                              @Value("${notification.stream.timeout:PT30M}") Duration timeout,
+                              @Value("${notification.stream.buffer-size:64}") int bufferSize) {
+        this.timeoutMs = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        meterRegistry.gauge("notifications.stream.open", open);
+        this.overflows = meterRegistry.counter("notifications.stream.overflows");
+    }
+
+    /**
+     * Opens a stream for the user. The stream is registered before {@code missed} is read, so a notification
+     * committed in between reaches the client either live or through replay (duplicates are dropped).
+     */
+    public SseEmitter subscribe(Long userId, Supplier<List<NotificationResponseDto>> missed) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        NotificationSubscriber subscriber = new NotificationSubscriber(userId, emitter, bufferSize);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(ex -> unregister(subscriber));
+
+        subscribersByUser.compute(userId, (id, subscribers) -> {
+            Set<NotificationSubscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        open.incrementAndGet();
+        try {
+            List<NotificationResponseDto> replay = missed.get();
+            senders.execute(() -> subscriber.run(replay));
+        } catch (RuntimeException ex) {
+            unregister(subscriber);
+            throw ex;
+        }
+        return emitter;
+    }
+
+    /**
+     * Pushes the notifications to their users' streams once the current transaction commits (straight away
+     * without one).
+     */
+    public void publishAfterCommit(Map<Long, List<NotificationResponseDto>> notificationsByUser) {
+        if (notificationsByUser.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(notificationsByUser);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(notificationsByUser);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat:PT15S}",
+            initialDelayString = "${notification.stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(NotificationSubscriber::heartbeat));
+    }
+
+    @PreDestroy
+    void closeAll() {
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(NotificationSubscriber::close));
+        senders.shutdown();
+    }
+
+    private void publish(Map<Long, List<NotificationResponseDto>> notificationsByUser) {
+        notificationsByUser.forEach((userId, notifications) -> {
+            Set<NotificationSubscriber> subscribers = subscribersByUser.get(userId);
+            if (subscribers == null) {
+                return;
+            }
+            for (NotificationSubscriber subscriber : subscribers) {
+                for (NotificationResponseDto notification : notifications) {
+                    if (!subscriber.offer(notification)) {
+                        overflows.increment();
+                        break;
+                    }
+                }
+            }
+        });
+    }
+
+    private void unregister(NotificationSubscriber subscriber) {
+        subscriber.close();
+        subscribersByUser.computeIfPresent(subscriber.userId(), (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                open.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.shifterizator.shifterizatorbackend.notification.service.stream;
+
+import com.shifterizator.shifterizatorbackend.notification.dto.NotificationResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * One open stream. Publishers only offer to the bounded buffer; a dedicated virtual thread takes from it and
+ * writes to the emitter, so a slow client never blocks the creation path. When the buffer overflows the
+ * stream is closed and the client catches up through {@code Last-Event-ID} replay on reconnect.
+ */
+@Slf4j
+class NotificationSubscriber {
+
+    private static final Object HEARTBEAT = new Object();
+    private static final Object CLOSE = new Object();
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Object> buffer;
+    private final Set<Long> replayedIds = new HashSet<>();
+    private volatile boolean closed;
+
+    NotificationSubscriber(Long userId, SseEmitter emitter, int bufferSize) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * @return false when the buffer is full and the stream is being closed
+     */
+    boolean offer(NotificationResponseDto notification) {
+        if (closed) {
+            return true;
+        }
+        if (!buffer.offer(notification)) {
+            log.debug("Notification stream buffer full for user {}, closing stream", userId);
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    void heartbeat() {
+        if (!closed) {
+            buffer.offer(HEARTBEAT);
+        }
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+        buffer.offer(CLOSE);
+    }
+
+    /**
+     * Sends the replayed notifications, then live ones until the stream closes. Live notifications that were
+     * already replayed are skipped; ids are compared as a set because commit order does not follow id order.
+     */
+    void run(List<NotificationResponseDto> replay) {
+        try {
+            for (NotificationResponseDto notification : replay) {
+                send(notification);
+                replayedIds.add(notification.id());
+            }
+            while (!closed) {
+                Object next = buffer.take();
+                if (next == CLOSE) {
+                    break;
+                }
+                if (next == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else if (next instanceof NotificationResponseDto notification
+                        && !replayedIds.contains(notification.id())) {
+                    send(notification);
+                }
+            }
+            emitter.complete();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Notification stream for user {} closed: {}", userId, ex.getMessage());
+            emitter.completeWithError(ex);
+        } finally {
+            closed = true;
+        }
+    }
+
+    private void send(NotificationResponseDto notification) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(notification.id()))
+                .name("notification")
+                .data(notification));
+    }
+}
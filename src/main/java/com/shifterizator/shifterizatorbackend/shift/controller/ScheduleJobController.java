@@ -0,0 +1,46 @@
+package com.shifterizator.shifterizatorbackend.shift.controller;
+
+import com.shifterizator.shifterizatorbackend.shift.dto.ScheduleJobResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.mapper.ScheduleJobMapper;
+import com.shifterizator.shifterizatorbackend.shift.service.ScheduleJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/schedule-jobs")
+@RequiredArgsConstructor
+@Tag(
+        name = "Schedule jobs",
+        description = "Progress of background scheduling jobs started by the schedule-range endpoints. " +
+                "Requires appropriate role (e.g. COMPANYADMIN, SHIFTMANAGER)."
+)
+public class ScheduleJobController {
+
+    private final ScheduleJobService scheduleJobService;
+    private final ScheduleJobMapper scheduleJobMapper;
+
+    @Operation(
+            summary = "Get schedule job progress",
+            description = "Returns status, per-day outcomes (scheduled, skipped, failed) and timings of a scheduling job.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ScheduleJobResponseDto> findById(
+            @Parameter(description = "Job ID", required = true) @PathVariable String id) {
+        return ResponseEntity.ok(scheduleJobMapper.toDto(scheduleJobService.findById(id)));
+    }
+}
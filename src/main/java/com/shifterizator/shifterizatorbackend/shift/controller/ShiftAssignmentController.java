@@ -1,5 +1,6 @@
 package com.shifterizator.shifterizatorbackend.shift.controller;
 
+import com.shifterizator.shifterizatorbackend.common.pagination.CursorPage;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftAssignmentRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftAssignmentResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.mapper.ShiftAssignmentMapper;
@@ -29,6 +30,8 @@ import java.util.List;
 )
 public class ShiftAssignmentController {
 
+    private static final int MAX_FEED_PAGE_SIZE = 200;
+
     private final ShiftAssignmentService shiftAssignmentService;
     private final ShiftAssignmentMapper shiftAssignmentMapper;
 
@@ -127,4 +130,27 @@ public class ShiftAssignmentController {
         List<ShiftAssignment> list = shiftAssignmentService.findByEmployee(employeeId);
         return ResponseEntity.ok(list.stream().map(shiftAssignmentMapper::toDto).toList());
     }
+
+    @Operation(
+            summary = "Assignment feed of an employee",
+            description = "Keyset-paginated active assignments of the employee by shift date and start time. Pass "
+                    + "the nextCursor of a page to get the next one; it is null on the last page. No total count "
+                    + "is computed.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of assignments"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/employee/{employeeId}/feed")
+    public ResponseEntity<CursorPage<ShiftAssignmentResponseDto>> feedByEmployee(
+            @Parameter(description = "Employee ID", required = true) @PathVariable Long employeeId,
+            @Parameter(description = "Cursor from the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to " + MAX_FEED_PAGE_SIZE)
+            @RequestParam(defaultValue = "50") int size) {
+        int pageSize = Math.clamp(size, 1, MAX_FEED_PAGE_SIZE);
+        CursorPage<ShiftAssignment> page = shiftAssignmentService.findFeedByEmployee(employeeId, cursor, pageSize);
+        return ResponseEntity.ok(page.map(shiftAssignmentMapper::toDto));
+    }
 }
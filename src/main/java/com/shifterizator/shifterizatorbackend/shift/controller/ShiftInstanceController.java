@@ -1,17 +1,23 @@
 package com.shifterizator.shifterizatorbackend.shift.controller;
 
+import com.shifterizator.shifterizatorbackend.shift.dto.GenerateAndScheduleRangeResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.GenerateMonthRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.GenerateRangeRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.GenerateRangeResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ScheduleDayRequestDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ScheduleJobResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftInstanceRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftInstanceResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.mapper.ScheduleJobMapper;
 import com.shifterizator.shifterizatorbackend.shift.mapper.ShiftInstanceMapper;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.service.ScheduleJobService;
 import com.shifterizator.shifterizatorbackend.shift.service.ShiftGenerationService;
 import com.shifterizator.shifterizatorbackend.shift.service.ShiftInstanceService;
 import com.shifterizator.shifterizatorbackend.shift.service.ShiftSchedulerService;
 import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceRequirementStatusService;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceStatus;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJob;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,10 +33,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.time.YearMonth;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/shift-instances")
@@ -47,6 +55,8 @@ public class ShiftInstanceController {
     private final ShiftGenerationService shiftGenerationService;
     private final ShiftSchedulerService shiftSchedulerService;
     private final ShiftInstanceRequirementStatusService requirementStatusService;
+    private final ScheduleJobService scheduleJobService;
+    private final ScheduleJobMapper scheduleJobMapper;
 
     @Operation(
             summary = "Generate shift instances for a month",
@@ -62,15 +72,12 @@ public class ShiftInstanceController {
     public ResponseEntity<List<ShiftInstanceResponseDto>> generateMonth(@Valid @RequestBody GenerateMonthRequestDto dto) {
         YearMonth yearMonth = YearMonth.of(dto.year(), dto.month());
         List<ShiftInstance> instances = shiftGenerationService.generateMonth(dto.locationId(), yearMonth);
-        List<ShiftInstanceResponseDto> body = instances.stream()
-                .map(i -> toDtoWithStatus(i))
-                .toList();
-        return ResponseEntity.status(HttpStatus.CREATED).body(body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(toDtosWithStatus(instances));
     }
 
     @Operation(
             summary = "Generate shift instances for a date range",
-            description = "Generates shift instances for a location from start date (Monday) to end date (Sunday), max 8 weeks. Returns count and list of created instances.",
+            description = "Generates shift instances for a location from start date (Monday) to end date (Sunday), max 8 weeks. Returns count and list of created instances. With incremental=true, existing shifts are reconciled with the templates instead and the active shifts of the range are returned.",
             security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
@@ -80,36 +87,30 @@ public class ShiftInstanceController {
     })
     @PostMapping("/generate-range")
     public ResponseEntity<GenerateRangeResponseDto> generateRange(@Valid @RequestBody GenerateRangeRequestDto dto) {
-        boolean replace = Boolean.TRUE.equals(dto.replaceExisting());
-        List<ShiftInstance> instances = shiftGenerationService.generateRange(dto.locationId(), dto.startDate(), dto.endDate(), replace);
-        List<ShiftInstanceResponseDto> dtos = instances.stream()
-                .map(this::toDtoWithStatus)
-                .toList();
+        List<ShiftInstance> instances = generateOrRegenerateRange(dto);
+        List<ShiftInstanceResponseDto> dtos = toDtosWithStatus(instances);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new GenerateRangeResponseDto(instances.size(), dtos));
     }
 
     @Operation(
             summary = "Generate shift instances and schedule (assign employees) for a date range",
-            description = "Generates shift instances for the range then runs auto-assignment. One-step create and schedule. Use replaceExisting=true to replace existing shifts on those dates.",
+            description = "Generates shift instances for the range then submits auto-assignment as a background job. One-step create and schedule. Use replaceExisting=true to replace existing shifts on those dates, or incremental=true to reconcile them and keep existing assignments. Poll /api/schedule-jobs/{id} for scheduling progress.",
             security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Shifts generated and scheduled"),
+            @ApiResponse(responseCode = "201", description = "Shifts generated and scheduling job submitted"),
             @ApiResponse(responseCode = "409", description = "Some dates have existing shifts; send replaceExisting=true to replace"),
             @ApiResponse(responseCode = "400", description = "Validation error"),
             @ApiResponse(responseCode = "404", description = "Location not found")
     })
     @PostMapping("/generate-and-schedule-range")
-    public ResponseEntity<GenerateRangeResponseDto> generateAndScheduleRange(@Valid @RequestBody GenerateRangeRequestDto dto) {
-        boolean replace = Boolean.TRUE.equals(dto.replaceExisting());
-        List<ShiftInstance> instances = shiftGenerationService.generateRange(dto.locationId(), dto.startDate(), dto.endDate(), replace);
-        shiftSchedulerService.scheduleRange(dto.locationId(), dto.startDate(), dto.endDate());
-        List<ShiftInstanceResponseDto> dtos = instances.stream()
-                .map(this::toDtoWithStatus)
-                .toList();
+    public ResponseEntity<GenerateAndScheduleRangeResponseDto> generateAndScheduleRange(@Valid @RequestBody GenerateRangeRequestDto dto) {
+        List<ShiftInstance> instances = generateOrRegenerateRange(dto);
+        List<ShiftInstanceResponseDto> dtos = toDtosWithStatus(instances);
+        ScheduleJob job = scheduleJobService.submitScheduleRange(dto.locationId(), dto.startDate(), dto.endDate());
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new GenerateRangeResponseDto(instances.size(), dtos));
+                .body(new GenerateAndScheduleRangeResponseDto(instances.size(), dtos, scheduleJobMapper.toDto(job)));
     }
 
     @Operation(
@@ -130,18 +131,21 @@ public class ShiftInstanceController {
 
     @Operation(
             summary = "Schedule a date range",
-            description = "Triggers auto-assignment of employees to shifts for a location from start date (Monday) to end date (Sunday), max 8 weeks. Days with no shifts or no candidates are skipped.",
+            description = "Submits auto-assignment of employees to shifts for a location from start date (Monday) to end date (Sunday), max 8 weeks, as a background job. Days with no shifts or no candidates are skipped. Poll /api/schedule-jobs/{id} for progress.",
             security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "202", description = "Scheduling accepted"),
+            @ApiResponse(responseCode = "202", description = "Scheduling job accepted"),
             @ApiResponse(responseCode = "400", description = "Validation error (e.g. start not Monday, end not Sunday, range over 8 weeks)"),
-            @ApiResponse(responseCode = "404", description = "Location not found")
+            @ApiResponse(responseCode = "404", description = "Location not found"),
+            @ApiResponse(responseCode = "409", description = "Too many scheduling jobs in progress")
     })
     @PostMapping("/schedule-range")
-    public ResponseEntity<Void> scheduleRange(@Valid @RequestBody GenerateRangeRequestDto dto) {
-        shiftSchedulerService.scheduleRange(dto.locationId(), dto.startDate(), dto.endDate());
-        return ResponseEntity.accepted().build();
+    public ResponseEntity<ScheduleJobResponseDto> scheduleRange(@Valid @RequestBody GenerateRangeRequestDto dto) {
+        ScheduleJob job = scheduleJobService.submitScheduleRange(dto.locationId(), dto.startDate(), dto.endDate());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/schedule-jobs/" + job.getId()))
+                .body(scheduleJobMapper.toDto(job));
     }
 
     @Operation(
@@ -241,7 +245,8 @@ public class ShiftInstanceController {
             Pageable pageable
     ) {
         Page<ShiftInstance> page = shiftInstanceService.search(locationId, startDate, endDate, pageable);
-        return ResponseEntity.ok(page.map(this::toDtoWithStatus));
+        Map<Long, ShiftInstanceStatus> statuses = requirementStatusService.getStatuses(page.getContent());
+        return ResponseEntity.ok(page.map(i -> toDto(i, statuses.get(i.getId()))));
     }
 
     @Operation(
@@ -258,7 +263,7 @@ public class ShiftInstanceController {
             @Parameter(description = "Date (ISO)", required = true) @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
         List<ShiftInstance> list = shiftInstanceService.findByLocationAndDate(locationId, date);
-        return ResponseEntity.ok(list.stream().map(this::toDtoWithStatus).toList());
+        return ResponseEntity.ok(toDtosWithStatus(list));
     }
 
     @Operation(
@@ -276,13 +281,34 @@ public class ShiftInstanceController {
             @Parameter(description = "End date (ISO)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
     ) {
         List<ShiftInstance> list = shiftInstanceService.findByLocationAndDateRange(locationId, startDate, endDate);
-        return ResponseEntity.ok(list.stream().map(this::toDtoWithStatus).toList());
+        return ResponseEntity.ok(toDtosWithStatus(list));
+    }
+
+    private List<ShiftInstance> generateOrRegenerateRange(GenerateRangeRequestDto dto) {
+        if (Boolean.TRUE.equals(dto.incremental())) {
+            return shiftGenerationService.regenerateRange(dto.locationId(), dto.startDate(), dto.endDate());
+        }
+        boolean replace = Boolean.TRUE.equals(dto.replaceExisting());
+        return shiftGenerationService.generateRange(dto.locationId(), dto.startDate(), dto.endDate(), replace);
     }
 
     private ShiftInstanceResponseDto toDtoWithStatus(ShiftInstance instance) {
-        int assignedCount = shiftInstanceService.getAssignedCount(instance.getId());
-        var positionStatus = requirementStatusService.getPositionRequirementStatus(instance);
-        var languageStatus = requirementStatusService.getLanguageRequirementStatus(instance);
-        return shiftInstanceMapper.toDto(instance, assignedCount, positionStatus, languageStatus);
+        return toDto(instance, requirementStatusService.getStatus(instance));
+    }
+
+    /**
+     * Loads the requirement status of all instances in one batch, then maps each instance in memory.
+     */
+    private List<ShiftInstanceResponseDto> toDtosWithStatus(List<ShiftInstance> instances) {
+        Map<Long, ShiftInstanceStatus> statuses = requirementStatusService.getStatuses(instances);
+        return instances.stream()
+                .map(i -> toDto(i, statuses.get(i.getId())))
+                .toList();
+    }
+
+    private ShiftInstanceResponseDto toDto(ShiftInstance instance, ShiftInstanceStatus status) {
+        ShiftInstanceStatus s = status != null ? status : ShiftInstanceStatus.EMPTY;
+        return shiftInstanceMapper.toDto(instance, s.assignedCount(),
+                s.positionRequirementStatus(), s.languageRequirementStatus());
     }
 }
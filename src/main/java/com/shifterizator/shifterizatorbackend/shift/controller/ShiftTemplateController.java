@@ -1,9 +1,13 @@
 package com.shifterizator.shifterizatorbackend.shift.controller;
 
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkRequestDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateCloneRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.mapper.ShiftTemplateMapper;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.service.ShiftTemplateBulkService;
 import com.shifterizator.shifterizatorbackend.shift.service.ShiftTemplateService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,6 +39,7 @@ import java.util.List;
 public class ShiftTemplateController {
 
     private final ShiftTemplateService shiftTemplateService;
+    private final ShiftTemplateBulkService shiftTemplateBulkService;
     private final ShiftTemplateMapper shiftTemplateMapper;
 
     @Operation(
@@ -70,6 +75,76 @@ public class ShiftTemplateController {
         return ResponseEntity.status(HttpStatus.CREATED).body(shiftTemplateMapper.toDto(template));
     }
 
+    @Operation(
+            summary = "Create many shift templates",
+            description = """
+                    Creates up to 1000 shift templates in one request. Locations, positions and languages of all rows
+                    are looked up together and the templates are inserted in batches.
+                    
+                    **Access:** SUPERADMIN, COMPANYADMIN
+                    
+                    **Result:** One row per template, in request order. Rows that fail validation (unknown location,
+                    position or language, invalid times or counts) carry an `error` and are skipped; the others are created.
+                    
+                    **Use Case:** Onboard a new chain without one request per template.
+                    """,
+            tags = {"Shift Templates"},
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import processed, see the per-row result"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed request"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - Insufficient permissions"
+            )
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<ShiftTemplateBulkResponseDto> importAll(@Valid @RequestBody ShiftTemplateBulkRequestDto dto) {
+        return ResponseEntity.ok(shiftTemplateBulkService.importAll(dto.templates()));
+    }
+
+    @Operation(
+            summary = "Clone the shift templates of a location",
+            description = """
+                    Copies every non-deleted template of the source location, with its position and language
+                    requirements, to each target location.
+                    
+                    **Access:** SUPERADMIN, COMPANYADMIN
+                    
+                    **Result:** One row per created template. A target location that does not exist, is the source,
+                    belongs to another company or is repeated gets a single row with an `error`.
+                    
+                    **Use Case:** Set up new branches with the same shift structure as an existing one.
+                    """,
+            tags = {"Shift Templates"},
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Clone processed, see the per-row result"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Source location not found"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - Insufficient permissions"
+            )
+    })
+    @PostMapping("/clone")
+    public ResponseEntity<ShiftTemplateBulkResponseDto> cloneToLocations(@Valid @RequestBody ShiftTemplateCloneRequestDto dto) {
+        return ResponseEntity.ok(shiftTemplateBulkService.cloneToLocations(dto.sourceLocationId(), dto.targetLocationIds()));
+    }
+
     @Operation(
             summary = "Update a shift template",
             description = """
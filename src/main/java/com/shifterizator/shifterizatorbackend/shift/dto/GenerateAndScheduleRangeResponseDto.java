@@ -0,0 +1,16 @@
+package com.shifterizator.shifterizatorbackend.shift.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response after generating shift instances for a range and submitting the scheduling job")
+public record GenerateAndScheduleRangeResponseDto(
+        @Schema(description = "Number of shift instances created")
+        int count,
+        @Schema(description = "Created shift instances (before assignment; re-fetch the range once the job completes)")
+        List<ShiftInstanceResponseDto> instances,
+        @Schema(description = "Scheduling job; poll /api/schedule-jobs/{id} for progress")
+        ScheduleJobResponseDto scheduleJob
+) {
+}
@@ -17,6 +17,8 @@ public record GenerateRangeRequestDto(
         @NotNull(message = "End date is required")
         LocalDate endDate,
         @Schema(description = "If true, replace existing shifts on those dates; if false, return 409 when any date has existing shifts")
-        Boolean replaceExisting
+        Boolean replaceExisting,
+        @Schema(description = "If true, reconcile existing shifts with the templates instead of failing or replacing them: only missing, changed or no longer wanted shifts are written, and assignments on kept shifts are preserved")
+        Boolean incremental
 ) {
 }
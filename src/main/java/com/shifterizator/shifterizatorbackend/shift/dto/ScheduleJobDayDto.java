@@ -0,0 +1,15 @@
+package com.shifterizator.shifterizatorbackend.shift.dto;
+
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJobDayStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Outcome of scheduling a single day within a schedule job")
+public record ScheduleJobDayDto(
+        @Schema(description = "Scheduled date") LocalDate date,
+        @Schema(description = "SCHEDULED, SKIPPED or FAILED") ScheduleJobDayStatus status,
+        @Schema(description = "Skip reason or failure message; null when scheduled") String message,
+        @Schema(description = "Time spent on this day in milliseconds") long durationMs
+) {
+}
@@ -0,0 +1,28 @@
+package com.shifterizator.shifterizatorbackend.shift.dto;
+
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Background scheduling job with per-day progress")
+public record ScheduleJobResponseDto(
+        @Schema(description = "Job ID") String id,
+        @Schema(description = "Location ID") Long locationId,
+        @Schema(description = "First day of the range") LocalDate startDate,
+        @Schema(description = "Last day of the range") LocalDate endDate,
+        @Schema(description = "QUEUED, RUNNING, COMPLETED or FAILED") ScheduleJobStatus status,
+        @Schema(description = "Number of days in the range") int totalDays,
+        @Schema(description = "Days processed so far (scheduled, skipped or failed)") int processedDays,
+        @Schema(description = "Days scheduled") int scheduledDays,
+        @Schema(description = "Days skipped (no shifts or no candidates)") int skippedDays,
+        @Schema(description = "Days that failed") int failedDays,
+        @Schema(description = "When the job was submitted") LocalDateTime submittedAt,
+        @Schema(description = "When the job started running") LocalDateTime startedAt,
+        @Schema(description = "When the job finished") LocalDateTime finishedAt,
+        @Schema(description = "Job-level error when status is FAILED") String error,
+        @Schema(description = "Per-day outcomes in date order") List<ScheduleJobDayDto> days
+) {
+}
@@ -0,0 +1,19 @@
+package com.shifterizator.shifterizatorbackend.shift.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Shift templates to create in one request")
+public record ShiftTemplateBulkRequestDto(
+        @NotNull(message = "Templates are required")
+        @NotEmpty(message = "At least one template is required")
+        @Size(max = 1000, message = "At most 1000 templates can be imported at once")
+        @Valid
+        List<ShiftTemplateRequestDto> templates
+) {
+}
@@ -0,0 +1,16 @@
+package com.shifterizator.shifterizatorbackend.shift.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Per-row result of a bulk shift template import or clone")
+public record ShiftTemplateBulkResponseDto(
+        @Schema(description = "Number of templates created")
+        int created,
+        @Schema(description = "Number of rows rejected")
+        int failed,
+        @Schema(description = "One entry per template, in request order")
+        List<ShiftTemplateBulkRowResultDto> rows
+) {
+}
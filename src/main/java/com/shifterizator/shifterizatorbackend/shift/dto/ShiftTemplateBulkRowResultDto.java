@@ -0,0 +1,18 @@
+package com.shifterizator.shifterizatorbackend.shift.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one template of a bulk import or clone")
+public record ShiftTemplateBulkRowResultDto(
+        @Schema(description = "Position of the template (import) or of the target location (clone) in the request")
+        int index,
+        @Schema(description = "Location the template was created in")
+        Long locationId,
+        @Schema(description = "Template that was copied, only set for clones")
+        Long sourceTemplateId,
+        @Schema(description = "Created template, null when the row failed")
+        Long templateId,
+        @Schema(description = "Why the row was not created, null when it was")
+        String error
+) {
+}
@@ -0,0 +1,22 @@
+package com.shifterizator.shifterizatorbackend.shift.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Copies every template of a location to other locations of the same company")
+public record ShiftTemplateCloneRequestDto(
+        @Schema(description = "Location whose templates are copied", example = "1")
+        @NotNull(message = "Source location ID is required")
+        Long sourceLocationId,
+
+        @Schema(description = "Locations receiving the copies", example = "[2, 3]")
+        @NotNull(message = "Target location IDs are required")
+        @NotEmpty(message = "At least one target location is required")
+        @Size(max = 200, message = "At most 200 target locations can be cloned to at once")
+        List<@NotNull Long> targetLocationIds
+) {
+}
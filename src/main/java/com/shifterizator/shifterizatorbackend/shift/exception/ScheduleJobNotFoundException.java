@@ -0,0 +1,10 @@
+package com.shifterizator.shifterizatorbackend.shift.exception;
+
+import com.shifterizator.shifterizatorbackend.exception.DomainNotFoundException;
+
+public class ScheduleJobNotFoundException extends DomainNotFoundException {
+
+    public ScheduleJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.shifterizator.shifterizatorbackend.shift.exception;
+
+import com.shifterizator.shifterizatorbackend.exception.ConflictException;
+
+public class ScheduleJobRejectedException extends ConflictException {
+
+    public ScheduleJobRejectedException(String message) {
+        super(message);
+    }
+}
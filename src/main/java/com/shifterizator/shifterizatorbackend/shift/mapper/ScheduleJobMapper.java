@@ -0,0 +1,36 @@
+package com.shifterizator.shifterizatorbackend.shift.mapper;
+
+import com.shifterizator.shifterizatorbackend.shift.dto.ScheduleJobDayDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ScheduleJobResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJob;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJobDayStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ScheduleJobMapper {
+
+    public ScheduleJobResponseDto toDto(ScheduleJob job) {
+        List<ScheduleJobDayDto> days = job.getDays().stream()
+                .map(d -> new ScheduleJobDayDto(d.date(), d.status(), d.message(), d.durationMs()))
+                .toList();
+        return new ScheduleJobResponseDto(
+                job.getId(),
+                job.getLocationId(),
+                job.getStartDate(),
+                job.getEndDate(),
+                job.getStatus(),
+                job.getTotalDays(),
+                days.size(),
+                (int) days.stream().filter(d -> d.status() == ScheduleJobDayStatus.SCHEDULED).count(),
+                (int) days.stream().filter(d -> d.status() == ScheduleJobDayStatus.SKIPPED).count(),
+                (int) days.stream().filter(d -> d.status() == ScheduleJobDayStatus.FAILED).count(),
+                job.getSubmittedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getError(),
+                days
+        );
+    }
+}
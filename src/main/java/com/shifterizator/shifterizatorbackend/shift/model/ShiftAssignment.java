@@ -16,6 +16,12 @@ import java.time.LocalDateTime;
                         name = "uk_shift_instance_employee",
                         columnNames = {"shift_instance_id", "employee_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "ix_shift_assignments_employee_active",
+                        columnList = "employee_id, deleted_at, shift_instance_id"),
+                @Index(name = "ix_shift_assignments_instance_active",
+                        columnList = "shift_instance_id, deleted_at, employee_id")
         }
 )
 @Getter
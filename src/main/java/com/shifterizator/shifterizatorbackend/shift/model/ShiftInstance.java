@@ -3,17 +3,23 @@ package com.shifterizator.shifterizatorbackend.shift.model;
 import com.shifterizator.shifterizatorbackend.company.model.Location;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 @Entity
-@Table(name = "shift_instances")
+@Table(name = "shift_instances", indexes = {
+        @Index(name = "ix_shift_instances_location_date", columnList = "location_id, date, deleted_at, start_time"),
+        @Index(name = "ix_shift_instances_date", columnList = "date, deleted_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -56,6 +62,33 @@ public class ShiftInstance {
     @Column(length = 200)
     private String notes;
 
+    /**
+     * Active assignments on this instance, kept in step with {@code shift_assignments} by
+     * {@code ShiftInstanceCoverageService} so coverage can be read without counting assignments.
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer assignedCount = 0;
+
+    @ElementCollection
+    @CollectionTable(name = "shift_instance_position_coverage", joinColumns = @JoinColumn(name = "shift_instance_id"))
+    @MapKeyColumn(name = "position_id")
+    @Column(name = "assigned_count", nullable = false)
+    @BatchSize(size = 100)
+    @Builder.Default
+    private Map<Long, Integer> assignedByPosition = new HashMap<>();
+
+    /**
+     * Assigned employees speaking each language, counted when they were assigned.
+     */
+    @ElementCollection
+    @CollectionTable(name = "shift_instance_language_coverage", joinColumns = @JoinColumn(name = "shift_instance_id"))
+    @MapKeyColumn(name = "language_id")
+    @Column(name = "assigned_count", nullable = false)
+    @BatchSize(size = 100)
+    @Builder.Default
+    private Map<Long, Integer> assignedByLanguage = new HashMap<>();
+
     @OneToMany(mappedBy = "shiftInstance", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private Set<ShiftAssignment> assignments = new HashSet<>();
@@ -3,6 +3,8 @@ package com.shifterizator.shifterizatorbackend.shift.model;
 import com.shifterizator.shifterizatorbackend.company.model.Location;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +14,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.shift-templates")
 @Table(name = "shift_templates")
 @Getter
 @Setter
@@ -33,6 +37,7 @@ public class ShiftTemplate {
             cascade = CascadeType.ALL,
             orphanRemoval = true
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.shift-templates.required-positions")
     @Builder.Default
     private Set<ShiftTemplatePosition> requiredPositions = new HashSet<>();
 
@@ -57,6 +62,7 @@ public class ShiftTemplate {
             cascade = CascadeType.ALL,
             orphanRemoval = true
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.shift-templates.required-languages")
     @Builder.Default
     private Set<ShiftTemplateLanguageRequirement> requiredLanguageRequirements = new HashSet<>();
 
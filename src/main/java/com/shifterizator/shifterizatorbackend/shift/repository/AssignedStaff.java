@@ -0,0 +1,7 @@
+package com.shifterizator.shifterizatorbackend.shift.repository;
+
+/**
+ * Active assignment reduced to what requirement status needs: the shift, the employee and the employee's position.
+ */
+public record AssignedStaff(Long shiftInstanceId, Long employeeId, Long positionId) {
+}
@@ -0,0 +1,20 @@
+package com.shifterizator.shifterizatorbackend.shift.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * One stored coverage counter of a shift instance: assigned employees for a position or a language.
+ */
+public record CoverageCount(Long shiftInstanceId, Long requirementId, Integer assignedCount) {
+
+    /**
+     * Groups counters as instance id to requirement id to count.
+     */
+    public static Map<Long, Map<Long, Integer>> byInstance(List<CoverageCount> counts) {
+        return counts.stream().collect(Collectors.groupingBy(
+                CoverageCount::shiftInstanceId,
+                Collectors.toMap(CoverageCount::requirementId, CoverageCount::assignedCount)));
+    }
+}
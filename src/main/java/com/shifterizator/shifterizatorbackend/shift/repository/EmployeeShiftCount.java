@@ -0,0 +1,7 @@
+package com.shifterizator.shifterizatorbackend.shift.repository;
+
+/**
+ * Number of active assignments an employee has in a date window.
+ */
+public record EmployeeShiftCount(Long employeeId, long count) {
+}
@@ -1,6 +1,7 @@
 package com.shifterizator.shifterizatorbackend.shift.repository;
 
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,6 +11,8 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,37 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
 
     List<ShiftAssignment> findByEmployee_IdAndDeletedAtIsNullOrderByShiftInstance_DateAscShiftInstance_StartTimeAsc(Long employeeId);
 
+    @Query("""
+            SELECT sa FROM ShiftAssignment sa
+            JOIN FETCH sa.shiftInstance si
+            JOIN FETCH sa.employee e
+            WHERE e.id = :employeeId
+              AND sa.deletedAt IS NULL
+            ORDER BY si.date, si.startTime, sa.id
+            """)
+    List<ShiftAssignment> findEmployeeFeedFirstPage(@Param("employeeId") Long employeeId, Pageable pageable);
+
+    /**
+     * Keyset page: the employee's active assignments that sort after ({@code date}, {@code startTime},
+     * {@code id}) in the feed order.
+     */
+    @Query("""
+            SELECT sa FROM ShiftAssignment sa
+            JOIN FETCH sa.shiftInstance si
+            JOIN FETCH sa.employee e
+            WHERE e.id = :employeeId
+              AND sa.deletedAt IS NULL
+              AND (si.date > :date
+                   OR (si.date = :date AND si.startTime > :startTime)
+                   OR (si.date = :date AND si.startTime = :startTime AND sa.id > :id))
+            ORDER BY si.date, si.startTime, sa.id
+            """)
+    List<ShiftAssignment> findEmployeeFeedPageAfter(@Param("employeeId") Long employeeId,
+                                                    @Param("date") LocalDate date,
+                                                    @Param("startTime") LocalTime startTime,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
     @Query("""
             SELECT sa FROM ShiftAssignment sa
             WHERE sa.employee.id = :employeeId
@@ -32,17 +66,29 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
             Long employeeId, LocalDate startDate, LocalDate endDate);
 
     @Query("""
-            SELECT COUNT(sa) FROM ShiftAssignment sa
-            WHERE sa.employee.id = :employeeId
+            SELECT new com.shifterizator.shifterizatorbackend.shift.repository.EmployeeShiftCount(sa.employee.id, COUNT(sa))
+            FROM ShiftAssignment sa
+            WHERE sa.employee.id IN :employeeIds
               AND sa.shiftInstance.date BETWEEN :startDate AND :endDate
               AND sa.deletedAt IS NULL
+            GROUP BY sa.employee.id
             """)
-    long countByEmployee_IdAndShiftInstance_DateBetweenAndDeletedAtIsNull(
-            @Param("employeeId") Long employeeId,
+    List<EmployeeShiftCount> countByEmployeeIdsAndDateBetween(
+            @Param("employeeIds") Collection<Long> employeeIds,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
 
+    @Query("""
+            SELECT new com.shifterizator.shifterizatorbackend.shift.repository.AssignedStaff(sa.shiftInstance.id, e.id, p.id)
+            FROM ShiftAssignment sa
+            JOIN sa.employee e
+            LEFT JOIN e.position p
+            WHERE sa.shiftInstance.id IN :shiftInstanceIds
+              AND sa.deletedAt IS NULL
+            """)
+    List<AssignedStaff> findAssignedStaffByShiftInstanceIds(@Param("shiftInstanceIds") Collection<Long> shiftInstanceIds);
+
     Optional<ShiftAssignment> findByShiftInstance_IdAndEmployee_IdAndDeletedAtIsNull(Long shiftInstanceId, Long employeeId);
 
     @Query("""
@@ -52,6 +98,43 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
             """)
     List<Long> findAssignedEmployeeIdsByShiftInstanceIdIn(@Param("shiftInstanceIds") List<Long> shiftInstanceIds);
 
+    /** Active assignments on a date that belong to the location's shifts or to any of the given employees. */
+    @Query("""
+            SELECT sa FROM ShiftAssignment sa
+            JOIN FETCH sa.shiftInstance si
+            JOIN FETCH sa.employee e
+            WHERE si.date = :date
+              AND sa.deletedAt IS NULL
+              AND (si.location.id = :locationId OR e.id IN :employeeIds)
+            """)
+    List<ShiftAssignment> findActiveByDateForLocationOrEmployees(@Param("locationId") Long locationId,
+                                                                 @Param("date") LocalDate date,
+                                                                 @Param("employeeIds") List<Long> employeeIds);
+
+    /** Active assignments of the given shifts with their employee and position, oldest assignment first. */
+    @Query("""
+            SELECT sa FROM ShiftAssignment sa
+            JOIN FETCH sa.employee e
+            LEFT JOIN FETCH e.position
+            WHERE sa.shiftInstance.id IN :shiftInstanceIds
+              AND sa.deletedAt IS NULL
+            ORDER BY sa.assignedAt, sa.id
+            """)
+    List<ShiftAssignment> findActiveWithEmployeeByShiftInstanceIds(
+            @Param("shiftInstanceIds") Collection<Long> shiftInstanceIds);
+
+    /** Active assignments of any of the employees between the dates, at every location. */
+    @Query("""
+            SELECT sa FROM ShiftAssignment sa
+            JOIN FETCH sa.shiftInstance si
+            WHERE sa.employee.id IN :employeeIds
+              AND si.date BETWEEN :startDate AND :endDate
+              AND sa.deletedAt IS NULL
+            """)
+    List<ShiftAssignment> findActiveByEmployeeIdsAndDateBetween(@Param("employeeIds") Collection<Long> employeeIds,
+                                                                @Param("startDate") LocalDate startDate,
+                                                                @Param("endDate") LocalDate endDate);
+
     @Query("""
             SELECT sa FROM ShiftAssignment sa
             LEFT JOIN FETCH sa.shiftInstance si
@@ -62,6 +145,16 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
             """)
     Optional<ShiftAssignment> findByIdWithShiftInstanceAndEmployeeUser(@Param("id") Long id);
 
+    @Query("""
+            SELECT sa FROM ShiftAssignment sa
+            LEFT JOIN FETCH sa.shiftInstance si
+            LEFT JOIN FETCH si.location
+            LEFT JOIN FETCH sa.employee e
+            LEFT JOIN FETCH e.user
+            WHERE sa.id IN :ids
+            """)
+    List<ShiftAssignment> findAllByIdWithShiftInstanceAndEmployeeUser(@Param("ids") Collection<Long> ids);
+
     @Modifying
     @Query("""
                 UPDATE ShiftAssignment sa
@@ -87,12 +180,16 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
     @Query("""
                 UPDATE ShiftAssignment sa
                 SET sa.deletedAt = :deletedAt
-                WHERE sa.shiftInstance.location.id = :locationId
-                  AND sa.shiftInstance.date = :date
-                  AND sa.deletedAt IS NULL
+                WHERE sa.deletedAt IS NULL
+                  AND sa.shiftInstance.id IN (
+                      SELECT si.id FROM ShiftInstance si
+                      WHERE si.location.id = :locationId
+                        AND si.date BETWEEN :startDate AND :endDate
+                  )
             """)
-    int softDeleteByLocationAndDate(@Param("locationId") Long locationId,
-                                    @Param("date") LocalDate date,
-                                    @Param("deletedAt") LocalDateTime deletedAt);
+    int softDeleteByLocationAndDateBetween(@Param("locationId") Long locationId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate,
+                                           @Param("deletedAt") LocalDateTime deletedAt);
 
 }
@@ -1,8 +1,11 @@
 package com.shifterizator.shifterizatorbackend.shift.repository;
 
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +31,21 @@ public interface ShiftInstanceRepository extends JpaRepository<ShiftInstance, Lo
             """)
     List<ShiftInstance> findByLocationIdAndDateWithTemplateAndPositions(@Param("locationId") Long locationId, @Param("date") LocalDate date);
 
+    @Query("""
+            SELECT i.id FROM ShiftInstance i
+            WHERE i.location.id = :locationId AND i.date = :date AND i.deletedAt IS NULL
+            """)
+    List<Long> findActiveIdsByLocationIdAndDate(@Param("locationId") Long locationId, @Param("date") LocalDate date);
+
+    @Query("""
+            SELECT i.id FROM ShiftInstance i
+            WHERE i.location.id = :locationId AND i.date BETWEEN :startDate AND :endDate AND i.deletedAt IS NULL
+            ORDER BY i.id
+            """)
+    List<Long> findActiveIdsByLocationIdAndDateBetween(@Param("locationId") Long locationId,
+                                                       @Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
+
     List<ShiftInstance> findByLocation_IdAndDateAndShiftTemplate_IdAndDeletedAtIsNull(Long locationId, LocalDate date, Long shiftTemplateId);
 
     List<ShiftInstance> findByLocation_IdAndDateBetweenAndDeletedAtIsNullOrderByDateAscStartTimeAsc(Long locationId, LocalDate startDate, LocalDate endDate);
@@ -58,7 +77,52 @@ public interface ShiftInstanceRepository extends JpaRepository<ShiftInstance, Lo
     @Modifying
     @Query("""
             UPDATE ShiftInstance i SET i.deletedAt = :deletedAt
-            WHERE i.location.id = :locationId AND i.date = :date AND i.deletedAt IS NULL
+            WHERE i.location.id = :locationId
+              AND i.date BETWEEN :startDate AND :endDate
+              AND i.deletedAt IS NULL
+            """)
+    int softDeleteByLocationAndDateBetween(@Param("locationId") Long locationId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate,
+                                           @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE ShiftInstance i SET i.deletedAt = :deletedAt
+            WHERE i.id IN :ids AND i.deletedAt IS NULL
+            """)
+    int softDeleteByIds(@Param("ids") List<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Loads the instance and locks its row until the transaction ends. Coverage counters are updated
+     * read-modify-write, so the lock has to be taken before the instance is first read in the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM ShiftInstance i WHERE i.id = :id")
+    Optional<ShiftInstance> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM ShiftInstance i WHERE i.id IN :ids")
+    List<ShiftInstance> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT i.id FROM ShiftInstance i
+            WHERE i.deletedAt IS NULL AND i.id > :afterId
+            ORDER BY i.id
+            """)
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.shifterizator.shifterizatorbackend.shift.repository.CoverageCount(i.id, KEY(c), VALUE(c))
+            FROM ShiftInstance i JOIN i.assignedByPosition c
+            WHERE i.id IN :ids
+            """)
+    List<CoverageCount> findPositionCoverageByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.shifterizator.shifterizatorbackend.shift.repository.CoverageCount(i.id, KEY(c), VALUE(c))
+            FROM ShiftInstance i JOIN i.assignedByLanguage c
+            WHERE i.id IN :ids
             """)
-    int softDeleteByLocationAndDate(@Param("locationId") Long locationId, @Param("date") LocalDate date, @Param("deletedAt") LocalDateTime deletedAt);
+    List<CoverageCount> findLanguageCoverageByIds(@Param("ids") Collection<Long> ids);
 }
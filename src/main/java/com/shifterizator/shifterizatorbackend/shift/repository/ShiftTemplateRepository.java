@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,4 +24,31 @@ public interface ShiftTemplateRepository extends JpaRepository<ShiftTemplate, Lo
             WHERE t.id = :id AND t.deletedAt IS NULL
             """)
     List<ShiftTemplate> findByIdWithRequiredPositions(@Param("id") Long id);
+
+    /** Non-deleted templates of a location, active or not, with positions and position names loaded. */
+    @Query("""
+            SELECT DISTINCT t FROM ShiftTemplate t
+            LEFT JOIN FETCH t.requiredPositions rp
+            LEFT JOIN FETCH rp.position
+            WHERE t.location.id = :locationId AND t.deletedAt IS NULL
+            """)
+    List<ShiftTemplate> findAllWithRequiredPositionsByLocationId(@Param("locationId") Long locationId);
+
+    /** Templates with positions and position names loaded, including deleted ones still referenced by shifts. */
+    @Query("""
+            SELECT DISTINCT t FROM ShiftTemplate t
+            LEFT JOIN FETCH t.requiredPositions rp
+            LEFT JOIN FETCH rp.position
+            WHERE t.id IN :ids
+            """)
+    List<ShiftTemplate> findAllWithRequiredPositionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Templates with language requirements and language names loaded, including deleted ones. */
+    @Query("""
+            SELECT DISTINCT t FROM ShiftTemplate t
+            LEFT JOIN FETCH t.requiredLanguageRequirements lr
+            LEFT JOIN FETCH lr.language
+            WHERE t.id IN :ids
+            """)
+    List<ShiftTemplate> findAllWithLanguageRequirementsByIdIn(@Param("ids") Collection<Long> ids);
 }
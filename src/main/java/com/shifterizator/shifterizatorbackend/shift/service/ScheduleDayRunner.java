@@ -1,8 +1,10 @@
 package com.shifterizator.shifterizatorbackend.shift.service;
 
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.WeekScheduleContext;
+
 import java.time.LocalDate;
 
 public interface ScheduleDayRunner {
 
-    void runScheduleDay(Long locationId, LocalDate date);
+    void runScheduleDay(Long locationId, LocalDate date, WeekScheduleContext context);
 }
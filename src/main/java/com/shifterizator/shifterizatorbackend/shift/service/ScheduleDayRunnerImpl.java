@@ -1,5 +1,6 @@
 package com.shifterizator.shifterizatorbackend.shift.service;
 
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.WeekScheduleContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -15,7 +16,7 @@ public class ScheduleDayRunnerImpl implements ScheduleDayRunner {
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void runScheduleDay(Long locationId, LocalDate date) {
-        shiftSchedulerService.scheduleDay(locationId, date);
+    public void runScheduleDay(Long locationId, LocalDate date, WeekScheduleContext context) {
+        shiftSchedulerService.scheduleDay(locationId, date, context);
     }
 }
@@ -0,0 +1,12 @@
+package com.shifterizator.shifterizatorbackend.shift.service;
+
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJob;
+
+import java.time.LocalDate;
+
+public interface ScheduleJobService {
+
+    ScheduleJob submitScheduleRange(Long locationId, LocalDate startDate, LocalDate endDate);
+
+    ScheduleJob findById(String id);
+}
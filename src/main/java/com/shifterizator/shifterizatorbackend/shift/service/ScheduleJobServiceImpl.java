@@ -0,0 +1,89 @@
+package com.shifterizator.shifterizatorbackend.shift.service;
+
+import com.shifterizator.shifterizatorbackend.company.service.LocationService;
+import com.shifterizator.shifterizatorbackend.shift.exception.ScheduleJobNotFoundException;
+import com.shifterizator.shifterizatorbackend.shift.exception.ScheduleJobRejectedException;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs schedule ranges in the background and keeps their progress in memory for polling.
+ * Jobs are local to the node that accepted them and are forgotten after the retention period.
+ */
+@Service
+@Slf4j
+public class ScheduleJobServiceImpl implements ScheduleJobService {
+
+    private final ShiftSchedulerService shiftSchedulerService;
+    private final LocationService locationService;
+    private final TaskExecutor scheduleJobExecutor;
+    private final Duration retention;
+
+    private final Map<String, ScheduleJob> jobs = new ConcurrentHashMap<>();
+
+    public ScheduleJobServiceImpl(ShiftSchedulerService shiftSchedulerService,
+                                  LocationService locationService,
+                                  @Qualifier("scheduleJobExecutor") TaskExecutor scheduleJobExecutor,
+                                  @Value("${scheduler.jobs.retention:PT1H}") Duration retention) {
+        this.shiftSchedulerService = shiftSchedulerService;
+        this.locationService = locationService;
+        this.scheduleJobExecutor = scheduleJobExecutor;
+        this.retention = retention;
+    }
+
+    @Override
+    public ScheduleJob submitScheduleRange(Long locationId, LocalDate startDate, LocalDate endDate) {
+        shiftSchedulerService.validateRange(startDate, endDate);
+        locationService.findById(locationId);
+        evictExpired();
+
+        ScheduleJob job = new ScheduleJob(UUID.randomUUID().toString(), locationId, startDate, endDate);
+        jobs.put(job.getId(), job);
+        try {
+            scheduleJobExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            throw new ScheduleJobRejectedException("Too many scheduling jobs in progress; try again later");
+        }
+        return job;
+    }
+
+    @Override
+    public ScheduleJob findById(String id) {
+        ScheduleJob job = jobs.get(id);
+        if (job == null) {
+            throw new ScheduleJobNotFoundException("Schedule job not found");
+        }
+        return job;
+    }
+
+    private void run(ScheduleJob job) {
+        job.markRunning();
+        try {
+            shiftSchedulerService.scheduleRange(job.getLocationId(), job.getStartDate(), job.getEndDate(), job);
+            job.markCompleted();
+            log.info("Schedule job {} completed for location {} ({} - {})",
+                    job.getId(), job.getLocationId(), job.getStartDate(), job.getEndDate());
+        } catch (Exception e) {
+            log.warn("Schedule job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.markFailed(e.getMessage());
+        }
+    }
+
+    private void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
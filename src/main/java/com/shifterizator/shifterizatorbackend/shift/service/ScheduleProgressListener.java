@@ -0,0 +1,22 @@
+package com.shifterizator.shifterizatorbackend.shift.service;
+
+import java.time.LocalDate;
+
+/**
+ * Receives per-day outcomes while a schedule range runs. Days of different weeks are reported from
+ * different threads, so implementations must be thread-safe.
+ */
+public interface ScheduleProgressListener {
+
+    ScheduleProgressListener NONE = new ScheduleProgressListener() {
+    };
+
+    default void onDayCompleted(LocalDate date, long durationMs) {
+    }
+
+    default void onDaySkipped(LocalDate date, String reason, long durationMs) {
+    }
+
+    default void onDayFailed(LocalDate date, String message, long durationMs) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.shifterizator.shifterizatorbackend.shift.service;
 
+import com.shifterizator.shifterizatorbackend.common.pagination.CursorPage;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftAssignmentAssignResult;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftAssignmentRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
@@ -22,4 +23,10 @@ public interface ShiftAssignmentService {
     List<ShiftAssignment> findByShiftInstance(Long shiftInstanceId);
 
     List<ShiftAssignment> findByEmployee(Long employeeId);
+
+    /**
+     * Keyset-paginated active assignments of the employee by shift date and start time; {@code cursor} is
+     * null for the first page.
+     */
+    CursorPage<ShiftAssignment> findFeedByEmployee(Long employeeId, String cursor, int size);
 }
@@ -1,5 +1,7 @@
 package com.shifterizator.shifterizatorbackend.shift.service;
 
+import com.shifterizator.shifterizatorbackend.common.pagination.CursorCodec;
+import com.shifterizator.shifterizatorbackend.common.pagination.CursorPage;
 import com.shifterizator.shifterizatorbackend.employee.exception.EmployeeNotFoundException;
 import com.shifterizator.shifterizatorbackend.employee.model.Employee;
 import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeRepository;
@@ -14,15 +16,18 @@ import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
 import com.shifterizator.shifterizatorbackend.shift.service.advisor.ShiftAssignmentPreferenceAdvisor;
-import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCompletenessService;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCoverageService;
 import com.shifterizator.shifterizatorbackend.shift.service.validator.ShiftAssignmentValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 @Service
@@ -34,12 +39,13 @@ public class ShiftAssignmentServiceImpl implements ShiftAssignmentService {
     private final ShiftInstanceRepository shiftInstanceRepository;
     private final EmployeeRepository employeeRepository;
     private final ShiftAssignmentValidator shiftAssignmentValidator;
-    private final ShiftInstanceCompletenessService shiftInstanceCompletenessService;
+    private final ShiftInstanceCoverageService shiftInstanceCoverageService;
     private final ShiftAssignmentPreferenceAdvisor shiftAssignmentPreferenceAdvisor;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     public ShiftAssignmentAssignResult assign(ShiftAssignmentRequestDto dto) {
+        lockShiftInstance(dto.shiftInstanceId());
         ShiftInstance shiftInstance = shiftInstanceRepository.findByIdFullyLoaded(dto.shiftInstanceId())
                 .orElseThrow(() -> new ShiftInstanceNotFoundException("Shift instance not found"));
 
@@ -62,7 +68,7 @@ public class ShiftAssignmentServiceImpl implements ShiftAssignmentService {
 
         ShiftAssignment saved = shiftAssignmentRepository.save(assignment);
 
-        shiftInstanceCompletenessService.updateCompleteness(shiftInstance);
+        shiftInstanceCoverageService.recordAssigned(shiftInstance, employee);
 
         applicationEventPublisher.publishEvent(new ShiftAssignmentCreatedEvent(saved));
 
@@ -72,14 +78,14 @@ public class ShiftAssignmentServiceImpl implements ShiftAssignmentService {
 
     @Override
     public void unassign(Long shiftInstanceId, Long employeeId) {
+        lockShiftInstance(shiftInstanceId);
         ShiftAssignment assignment = shiftAssignmentRepository
                 .findByShiftInstance_IdAndEmployee_IdAndDeletedAtIsNull(shiftInstanceId, employeeId)
                 .orElseThrow(() -> new ShiftAssignmentNotFoundException("Assignment not found"));
 
         assignment.setDeletedAt(LocalDateTime.now());
 
-        ShiftInstance shiftInstance = assignment.getShiftInstance();
-        shiftInstanceCompletenessService.updateCompleteness(shiftInstance);
+        shiftInstanceCoverageService.recordUnassigned(assignment.getShiftInstance(), assignment.getEmployee());
 
         applicationEventPublisher.publishEvent(new ShiftAssignmentRemovedEvent(assignment));
     }
@@ -89,8 +95,9 @@ public class ShiftAssignmentServiceImpl implements ShiftAssignmentService {
         List<ShiftAssignment> inRange = shiftAssignmentRepository
                 .findByEmployee_IdAndShiftInstance_DateBetweenAndDeletedAtIsNull(employeeId, startDate, endDate);
         for (ShiftAssignment assignment : inRange) {
+            lockShiftInstance(assignment.getShiftInstance().getId());
             assignment.setDeletedAt(LocalDateTime.now());
-            shiftInstanceCompletenessService.updateCompleteness(assignment.getShiftInstance());
+            shiftInstanceCoverageService.recordUnassigned(assignment.getShiftInstance(), assignment.getEmployee());
             applicationEventPublisher.publishEvent(new ShiftAssignmentRemovedEvent(assignment));
         }
     }
@@ -127,4 +134,33 @@ public class ShiftAssignmentServiceImpl implements ShiftAssignmentService {
         return shiftAssignmentRepository
                 .findByEmployee_IdAndDeletedAtIsNullOrderByShiftInstance_DateAscShiftInstance_StartTimeAsc(employeeId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ShiftAssignment> findFeedByEmployee(Long employeeId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ShiftAssignment> fetched;
+        if (cursor == null) {
+            fetched = shiftAssignmentRepository.findEmployeeFeedFirstPage(employeeId, limit);
+        } else {
+            FeedKey after = CursorCodec.decode(cursor, 3, parts -> new FeedKey(
+                    LocalDate.parse(parts.get(0)), LocalTime.parse(parts.get(1)), Long.valueOf(parts.get(2))));
+            fetched = shiftAssignmentRepository.findEmployeeFeedPageAfter(
+                    employeeId, after.date(), after.startTime(), after.id(), limit);
+        }
+        return CursorPage.of(fetched, size, sa -> CursorCodec.encode(
+                sa.getShiftInstance().getDate(), sa.getShiftInstance().getStartTime(), sa.getId()));
+    }
+
+    private record FeedKey(LocalDate date, LocalTime startTime, Long id) {
+    }
+
+    /**
+     * Takes the instance's row lock before anything reads it, so its coverage counters are current
+     * and concurrent assignments on the same shift update them one after the other.
+     */
+    private void lockShiftInstance(Long shiftInstanceId) {
+        shiftInstanceRepository.findByIdForUpdate(shiftInstanceId)
+                .orElseThrow(() -> new ShiftInstanceNotFoundException("Shift instance not found"));
+    }
 }
@@ -11,4 +11,11 @@ public interface ShiftGenerationService {
     List<ShiftInstance> generateMonth(Long locationId, YearMonth yearMonth);
 
     List<ShiftInstance> generateRange(Long locationId, LocalDate startDate, LocalDate endDate, boolean replaceExisting);
+
+    /**
+     * Brings existing shifts in the range in line with the current templates, blackout days and special opening
+     * hours: inserts missing shifts, updates changed ones, retires those no longer wanted and keeps the assignments
+     * of everything that survives. Returns the active shifts of the range afterwards.
+     */
+    List<ShiftInstance> regenerateRange(Long locationId, LocalDate startDate, LocalDate endDate);
 }
@@ -5,15 +5,21 @@ import com.shifterizator.shifterizatorbackend.blackoutdays.service.BlackoutDaySe
 import com.shifterizator.shifterizatorbackend.company.model.Location;
 import com.shifterizator.shifterizatorbackend.openinghours.model.SpecialOpeningHours;
 import com.shifterizator.shifterizatorbackend.openinghours.service.SpecialOpeningHoursService;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCompletenessService;
 import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceDomainService;
+import com.shifterizator.shifterizatorbackend.shift.service.generation.RegeneratedAssignmentChecker;
+import com.shifterizator.shifterizatorbackend.shift.service.generation.ShiftInstanceBatchWriter;
+import com.shifterizator.shifterizatorbackend.shift.service.generation.ShiftInstanceDiff;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftGenerationConflictException;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +29,7 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,6 +38,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class ShiftGenerationServiceImpl implements ShiftGenerationService {
 
     private static final int MAX_RANGE_DAYS = 56;
@@ -41,31 +49,18 @@ public class ShiftGenerationServiceImpl implements ShiftGenerationService {
     private final ShiftAssignmentRepository shiftAssignmentRepository;
     private final BlackoutDayService blackoutDayService;
     private final SpecialOpeningHoursService specialOpeningHoursService;
+    private final ShiftInstanceBatchWriter shiftInstanceBatchWriter;
+    private final ShiftInstanceCompletenessService shiftInstanceCompletenessService;
+    private final RegeneratedAssignmentChecker regeneratedAssignmentChecker;
 
     @Override
     public List<ShiftInstance> generateMonth(Long locationId, YearMonth yearMonth) {
         GenerationContext ctx = loadContext(locationId, yearMonth);
-        List<ShiftInstance> created = new ArrayList<>();
-
-        for (LocalDate date = ctx.firstDay(); !date.isAfter(ctx.lastDay()); date = date.plusDays(1)) {
-            shiftInstanceRepository.softDeleteByLocationAndDate(ctx.locationId(), date, ctx.deletedAt());
-            shiftAssignmentRepository.softDeleteByLocationAndDate(ctx.locationId(), date, ctx.deletedAt());
 
-            if (ctx.blackoutDates().contains(date)) {
-                continue;
-            }
-
-            SpecialOpeningHours special = ctx.specialByDate().get(date);
-
-            if (special != null) {
-                createInstancesForSpecialDay(ctx, date, special, created);
-            } else if(isWeekdayClosedForLocation(ctx.location(),date)){
-                continue;
-            } else {
-                createInstancesForNormalDay(ctx, date, created);
-            }
-        }
+        clearExistingShifts(ctx);
 
+        List<ShiftInstance> created = buildInstances(ctx);
+        shiftInstanceBatchWriter.insertAll(created);
         return created;
     }
 
@@ -87,12 +82,65 @@ public class ShiftGenerationServiceImpl implements ShiftGenerationService {
             }
         }
         GenerationContext ctx = loadContextForRange(locationId, startDate, endDate);
-        List<ShiftInstance> created = new ArrayList<>();
 
-        for (LocalDate date = ctx.firstDay(); !date.isAfter(ctx.lastDay()); date = date.plusDays(1)) {
-            shiftInstanceRepository.softDeleteByLocationAndDate(ctx.locationId(), date, ctx.deletedAt());
-            shiftAssignmentRepository.softDeleteByLocationAndDate(ctx.locationId(), date, ctx.deletedAt());
+        clearExistingShifts(ctx);
 
+        List<ShiftInstance> created = buildInstances(ctx);
+        shiftInstanceBatchWriter.insertAll(created);
+        return created;
+    }
+
+    @Override
+    public List<ShiftInstance> regenerateRange(Long locationId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        GenerationContext ctx = loadContextForRange(locationId, startDate, endDate);
+
+        List<ShiftInstance> existing = lockExistingShifts(locationId, startDate, endDate);
+        ShiftInstanceDiff diff = ShiftInstanceDiff.compute(existing, buildInstances(ctx));
+
+        if (!diff.retired().isEmpty()) {
+            List<Long> retiredIds = diff.retired().stream().map(ShiftInstance::getId).toList();
+            shiftAssignmentRepository.softDeleteByShiftInstanceIds(retiredIds, ctx.deletedAt());
+            shiftInstanceRepository.softDeleteByIds(retiredIds, ctx.deletedAt());
+        }
+        List<ShiftAssignment> released = regeneratedAssignmentChecker
+                .releaseInvalid(diff.unchanged(), diff.updated(), ctx.deletedAt());
+        diff.updated().forEach(shiftInstanceCompletenessService::updateCompleteness);
+        shiftInstanceBatchWriter.insertAll(diff.inserted());
+
+        log.info("Regenerated location {} ({} - {}): {} inserted, {} updated, {} retired, {} unchanged, {} assignments released",
+                locationId, startDate, endDate, diff.inserted().size(), diff.updated().size(),
+                diff.retired().size(), diff.unchanged().size(), released.size());
+
+        return diff.active().stream()
+                .sorted(Comparator.comparing(ShiftInstance::getDate).thenComparing(ShiftInstance::getStartTime))
+                .toList();
+    }
+
+    /**
+     * Locks the window's active shifts in id order and loads them from that locked read. Shifts kept by the diff
+     * get their headcounts rewritten and their coverage counters changed when assignments are released, so a
+     * concurrent assign or unassign has to wait until this transaction ends.
+     */
+    private List<ShiftInstance> lockExistingShifts(Long locationId, LocalDate startDate, LocalDate endDate) {
+        List<Long> ids = shiftInstanceRepository.findActiveIdsByLocationIdAndDateBetween(locationId, startDate, endDate);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return shiftInstanceRepository.findAllByIdInForUpdate(ids).stream()
+                .filter(instance -> instance.getDeletedAt() == null)
+                .sorted(Comparator.comparing(ShiftInstance::getDate)
+                        .thenComparing(ShiftInstance::getStartTime)
+                        .thenComparing(ShiftInstance::getId))
+                .toList();
+    }
+
+    /**
+     * Builds the unsaved instances the templates, blackout days and special opening hours call for in the window.
+     */
+    private List<ShiftInstance> buildInstances(GenerationContext ctx) {
+        List<ShiftInstance> created = new ArrayList<>();
+        for (LocalDate date = ctx.firstDay(); !date.isAfter(ctx.lastDay()); date = date.plusDays(1)) {
             if (ctx.blackoutDates().contains(date)) {
                 continue;
             }
@@ -107,7 +155,6 @@ public class ShiftGenerationServiceImpl implements ShiftGenerationService {
                 createInstancesForNormalDay(ctx, date, created);
             }
         }
-
         return created;
     }
 
@@ -181,6 +228,18 @@ public class ShiftGenerationServiceImpl implements ShiftGenerationService {
         );
     }
 
+    /**
+     * Soft-deletes every shift and assignment in the generation window with two statements, whatever its length.
+     */
+    private void clearExistingShifts(GenerationContext ctx) {
+        int assignments = shiftAssignmentRepository.softDeleteByLocationAndDateBetween(
+                ctx.locationId(), ctx.firstDay(), ctx.lastDay(), ctx.deletedAt());
+        int instances = shiftInstanceRepository.softDeleteByLocationAndDateBetween(
+                ctx.locationId(), ctx.firstDay(), ctx.lastDay(), ctx.deletedAt());
+        log.info("Cleared {} shift instances and {} assignments for location {} ({} - {}) before regeneration",
+                instances, assignments, ctx.locationId(), ctx.firstDay(), ctx.lastDay());
+    }
+
     private boolean isWeekdayClosedForLocation(Location location, LocalDate date) {
         Set<DayOfWeek> openDays = location.getOpenDaysOfWeek();
         if (openDays == null || openDays.isEmpty()) {
@@ -206,7 +265,7 @@ public class ShiftGenerationServiceImpl implements ShiftGenerationService {
                 .idealEmployees(requiredAndIdeal.ideal())
                 .isComplete(false)
                 .build();
-        created.add(shiftInstanceRepository.save(instance));
+        created.add(instance);
     }
 
     private void createInstancesForNormalDay(GenerationContext ctx, LocalDate date, List<ShiftInstance> created) {
@@ -222,7 +281,7 @@ public class ShiftGenerationServiceImpl implements ShiftGenerationService {
                     .idealEmployees(requiredAndIdeal.ideal())
                     .isComplete(false)
                     .build();
-            created.add(shiftInstanceRepository.save(instance));
+            created.add(instance);
         }
     }
 
@@ -1,10 +1,21 @@
 package com.shifterizator.shifterizatorbackend.shift.service;
 
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.WeekScheduleContext;
+
 import java.time.LocalDate;
 
 public interface ShiftSchedulerService {
 
     void scheduleDay(Long locationId, LocalDate date);
 
+    /**
+     * Schedules one day using availabilities and week counts already loaded for the week that contains the date.
+     */
+    void scheduleDay(Long locationId, LocalDate date, WeekScheduleContext context);
+
     void scheduleRange(Long locationId, LocalDate startDate, LocalDate endDate);
+
+    void scheduleRange(Long locationId, LocalDate startDate, LocalDate endDate, ScheduleProgressListener listener);
+
+    void validateRange(LocalDate startDate, LocalDate endDate);
 }
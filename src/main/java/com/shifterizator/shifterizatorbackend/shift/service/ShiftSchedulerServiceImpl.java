@@ -1,34 +1,41 @@
 package com.shifterizator.shifterizatorbackend.shift.service;
 
-import com.shifterizator.shifterizatorbackend.availability.model.EmployeeAvailability;
-import com.shifterizator.shifterizatorbackend.availability.repository.EmployeeAvailabilityRepository;
+import com.shifterizator.shifterizatorbackend.availability.index.AvailabilityIndex;
+import com.shifterizator.shifterizatorbackend.availability.index.AvailabilityIndexLoader;
 import com.shifterizator.shifterizatorbackend.company.model.Location;
 import com.shifterizator.shifterizatorbackend.company.service.LocationService;
 import com.shifterizator.shifterizatorbackend.company.service.domain.WeekBounds;
 import com.shifterizator.shifterizatorbackend.employee.model.Employee;
 import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeRepository;
-import com.shifterizator.shifterizatorbackend.shift.dto.ShiftAssignmentRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.exception.ScheduleDaySkippedException;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
-import com.shifterizator.shifterizatorbackend.shift.service.advisor.ShiftCandidateTierService;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.DayScheduleSnapshot;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.DayScheduleSnapshotLoader;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.DaySchedulingEngine;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.ScheduleAssignmentWriter;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.WeekLoadTracker;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.WeekScheduleContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -36,64 +43,125 @@ import java.util.Set;
 @Slf4j
 public class ShiftSchedulerServiceImpl implements ShiftSchedulerService {
 
-    private static final int DEFAULT_SHIFTS_PER_WEEK = 5;
     private static final int MAX_RANGE_DAYS = 56;
 
     private final ShiftInstanceRepository shiftInstanceRepository;
     private final ShiftAssignmentRepository shiftAssignmentRepository;
     private final EmployeeRepository employeeRepository;
-    private final EmployeeAvailabilityRepository employeeAvailabilityRepository;
-    private final ShiftAssignmentService shiftAssignmentService;
-    private final ShiftCandidateTierService shiftCandidateTierService;
+    private final AvailabilityIndexLoader availabilityIndexLoader;
     private final LocationService locationService;
+    private final DayScheduleSnapshotLoader dayScheduleSnapshotLoader;
+    private final DaySchedulingEngine daySchedulingEngine;
+    private final ScheduleAssignmentWriter scheduleAssignmentWriter;
 
     @Lazy
     @Autowired
     private ScheduleDayRunner scheduleDayRunner;
 
+    @Autowired
+    @Qualifier("scheduleRangeExecutor")
+    private Executor scheduleRangeExecutor;
+
     @Override
     public void scheduleDay(Long locationId, LocalDate date) {
         Location location = locationService.findById(locationId);
+        WeekScheduleContext context = new WeekScheduleContext(
+                availabilityIndexLoader.loadForLocation(locationId, date, date),
+                newWeekLoadTracker(date, location.getFirstDayOfWeek()));
+        scheduleDay(location, date, context);
+    }
 
+    @Override
+    public void scheduleDay(Long locationId, LocalDate date, WeekScheduleContext context) {
+        scheduleDay(locationService.findById(locationId), date, context);
+    }
+
+    private void scheduleDay(Location location, LocalDate date, WeekScheduleContext context) {
+        Long locationId = location.getId();
+        lockInstances(locationId, date);
         List<ShiftInstance> instances = loadAndSortInstancesByPriority(locationId, date);
         if (instances.isEmpty()) {
             log.info("Skipped scheduling for {}: no shifts defined for this day", date);
             throw new ScheduleDaySkippedException("No shifts defined for this day.");
         }
 
-        List<Employee> candidates = loadCandidatesForDay(locationId, date);
+        List<Employee> candidates = loadCandidatesForDay(locationId, date, context.availability());
         if (candidates.isEmpty()) {
             log.info("Skipped scheduling for {}: no candidates available on this date", date);
             throw new ScheduleDaySkippedException("No candidates available on: " + date);
         }
 
-        List<Employee> candidatesWithinCap = filterByMaxShiftsPerWeek(
-                candidates, date, location.getFirstDayOfWeek());
+        List<Employee> candidatesWithinCap = filterByMaxShiftsPerWeek(candidates, context.weekLoad());
         if (candidatesWithinCap.isEmpty()) {
             log.info("Skipped scheduling for {}: no candidates under max shifts/week available", date);
             throw new ScheduleDaySkippedException("No candidates under 5 shifts/week available on: " + date);
         }
 
-        fillMinimumsForAllShifts(instances, candidatesWithinCap, date, locationId);
-        fillUpToIdealByPriority(instances, candidatesWithinCap, date, locationId);
-        improveLanguageDistribution(instances, candidatesWithinCap, date, locationId);
+        DayScheduleSnapshot snapshot = dayScheduleSnapshotLoader.load(location, date, instances, candidatesWithinCap);
+        daySchedulingEngine.run(snapshot);
+        scheduleAssignmentWriter.write(snapshot);
+        snapshot.getPlannedAssignments()
+                .forEach(planned -> context.weekLoad().recordPending(planned.employee().getId()));
     }
 
+    /**
+     * Schedules the range week by week. The max-shifts-per-week cap is the only rule that links days together
+     * and it never crosses a week boundary, so weeks run concurrently while days within a week run in order,
+     * each day in its own transaction. The result is the same as scheduling the days sequentially.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void scheduleRange(Long locationId, LocalDate startDate, LocalDate endDate) {
+        scheduleRange(locationId, startDate, endDate, ScheduleProgressListener.NONE);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduleRange(Long locationId, LocalDate startDate, LocalDate endDate, ScheduleProgressListener listener) {
         validateRange(startDate, endDate);
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+        Location location = locationService.findById(locationId);
+        List<List<LocalDate>> weeks = WeekBounds.splitIntoWeeks(startDate, endDate, location.getFirstDayOfWeek());
+
+        List<CompletableFuture<Void>> futures = weeks.stream()
+                .map(week -> CompletableFuture.runAsync(
+                        () -> scheduleWeek(locationId, location.getFirstDayOfWeek(), week, listener), scheduleRangeExecutor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void scheduleWeek(Long locationId, DayOfWeek firstDayOfWeek, List<LocalDate> days,
+                              ScheduleProgressListener listener) {
+        WeekScheduleContext context = new WeekScheduleContext(
+                availabilityIndexLoader.loadForLocation(locationId, days.get(0), days.get(days.size() - 1)),
+                newWeekLoadTracker(days.get(0), firstDayOfWeek));
+        for (LocalDate date : days) {
+            long started = System.nanoTime();
             try {
-                scheduleDayRunner.runScheduleDay(locationId, date);
+                scheduleDayRunner.runScheduleDay(locationId, date, context);
+                context.weekLoad().commitPending();
+                listener.onDayCompleted(date, elapsedMillis(started));
             } catch (ScheduleDaySkippedException e) {
+                context.weekLoad().discardPending();
                 log.info("Skipped scheduling for {}: {}", date, e.getMessage());
+                listener.onDaySkipped(date, e.getMessage(), elapsedMillis(started));
             } catch (Exception e) {
+                context.weekLoad().discardPending();
                 log.warn("Scheduling failed for {} (continuing with next day): {}", date, e.getMessage(), e);
+                listener.onDayFailed(date, e.getMessage(), elapsedMillis(started));
             }
         }
     }
 
-    private void validateRange(LocalDate startDate, LocalDate endDate) {
+    private static WeekLoadTracker newWeekLoadTracker(LocalDate date, DayOfWeek firstDayOfWeek) {
+        return new WeekLoadTracker(WeekBounds.weekStart(date, firstDayOfWeek), WeekBounds.weekEnd(date, firstDayOfWeek));
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    @Override
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
         if (startDate.getDayOfWeek() != DayOfWeek.MONDAY) {
             throw new ShiftValidationException("Start date must be a Monday");
         }
@@ -109,6 +177,17 @@ public class ShiftSchedulerServiceImpl implements ShiftSchedulerService {
         }
     }
 
+    /**
+     * Locks the day's instances until the day's transaction ends, before anything reads them, so the coverage
+     * counters and assignments the snapshot starts from cannot change under a concurrent manual assignment.
+     */
+    private void lockInstances(Long locationId, LocalDate date) {
+        List<Long> ids = shiftInstanceRepository.findActiveIdsByLocationIdAndDate(locationId, date);
+        if (!ids.isEmpty()) {
+            shiftInstanceRepository.findAllByIdInForUpdate(ids);
+        }
+    }
+
     private List<ShiftInstance> loadAndSortInstancesByPriority(Long locationId, LocalDate date) {
         List<ShiftInstance> list = shiftInstanceRepository
                 .findByLocationIdAndDateWithTemplateAndPositions(locationId, date);
@@ -120,147 +199,17 @@ public class ShiftSchedulerServiceImpl implements ShiftSchedulerService {
                 .toList();
     }
 
-    private List<Employee> loadCandidatesForDay(Long locationId, LocalDate date) {
+    private List<Employee> loadCandidatesForDay(Long locationId, LocalDate date, AvailabilityIndex availability) {
         List<Employee> withPreferences = employeeRepository.findActiveByLocationIdWithShiftPreferences(locationId);
-        List<Employee> available = withPreferences.stream()
-                .filter(e -> isAvailableOnDate(e.getId(), date))
-                .toList();
-        return available;
-    }
-
-    private List<Employee> filterByMaxShiftsPerWeek(
-            List<Employee> candidates,
-            LocalDate date,
-            DayOfWeek firstDayOfWeek) {
-        LocalDate weekStart = WeekBounds.weekStart(date, firstDayOfWeek);
-        LocalDate weekEnd = WeekBounds.weekEnd(date, firstDayOfWeek);
-
-        return candidates.stream()
-                .filter(employee -> {
-                    int maxAllowed = employee.getShiftsPerWeek() != null
-                            ? employee.getShiftsPerWeek()
-                            : DEFAULT_SHIFTS_PER_WEEK;
-                    long count = shiftAssignmentRepository
-                            .countByEmployee_IdAndShiftInstance_DateBetweenAndDeletedAtIsNull(
-                                    employee.getId(), weekStart, weekEnd);
-                    return count < maxAllowed;
-                })
-                .toList();
-    }
-
-    private boolean isAvailableOnDate(Long employeeId, LocalDate date) {
-        List<EmployeeAvailability> overlapping = employeeAvailabilityRepository.findOverlapping(
-                employeeId, date, date, null);
-        return overlapping.stream()
-                .noneMatch(ea -> ea.getType().isBlocking());
-    }
-
-    private Set<Long> getAssignedEmployeeIdsForDay(List<ShiftInstance> instances) {
-        if (instances.isEmpty()) {
-            return Set.of();
-        }
-        List<Long> instanceIds = instances.stream().map(ShiftInstance::getId).toList();
-        return new HashSet<>(shiftAssignmentRepository.findAssignedEmployeeIdsByShiftInstanceIdIn(instanceIds));
-    }
-
-    private List<Employee> unassignedCandidates(List<Employee> candidates, Set<Long> assignedIds) {
-        return candidates.stream()
-                .filter(e -> !assignedIds.contains(e.getId()))
+        return withPreferences.stream()
+                .filter(e -> !availability.isBlocked(e.getId(), date))
                 .toList();
     }
 
-    private List<Employee> candidatesByTier(List<Employee> candidates, ShiftInstance instance, LocalDate date) {
+    private List<Employee> filterByMaxShiftsPerWeek(List<Employee> candidates, WeekLoadTracker weekLoad) {
+        weekLoad.ensureLoaded(candidates.stream().map(Employee::getId).toList(), shiftAssignmentRepository);
         return candidates.stream()
-                .sorted(Comparator.comparingInt(e -> shiftCandidateTierService.getTier(e, instance, date)))
+                .filter(weekLoad::hasCapacity)
                 .toList();
     }
-
-    private int getIdealTarget(ShiftInstance instance) {
-        int required = getRequiredEmployeesSafe(instance);
-        return instance.getIdealEmployees() != null ? instance.getIdealEmployees() : required;
-    }
-
-    private int getRequiredEmployeesSafe(ShiftInstance instance) {
-        return instance.getRequiredEmployees() != null ? instance.getRequiredEmployees() : 1;
-    }
-
-    private boolean shiftNeedsMore(ShiftInstance instance, int targetCount) {
-        int current = shiftAssignmentRepository.findByShiftInstance_IdAndDeletedAtIsNull(instance.getId()).size();
-        return current < targetCount;
-    }
-
-    private boolean tryAssign(Long shiftInstanceId, Long employeeId) {
-        try {
-            shiftAssignmentService.assign(new ShiftAssignmentRequestDto(shiftInstanceId, employeeId));
-            return true;
-        } catch (Exception e) {
-            log.warn("Assignment skipped for shift {} employee {}: {}", shiftInstanceId, employeeId, e.getMessage());
-            return false;
-
-        }
-    }
-
-    private void fillMinimumsForAllShifts(List<ShiftInstance> instances, List<Employee> candidates,
-                                          LocalDate date, Long locationId) {
-        for (ShiftInstance instance : instances) {
-            fillShiftUpTo(instance, getRequiredEmployeesSafe(instance), candidates, date, locationId, instances);
-        }
-    }
-
-    private void fillShiftUpTo(ShiftInstance instance, int targetCount, List<Employee> candidates,
-                               LocalDate date, Long locationId, List<ShiftInstance> allInstances) {
-        Set<Long> assigned = getAssignedEmployeeIdsForDay(allInstances);
-        List<Employee> available = unassignedCandidates(candidates, assigned);
-        List<Employee> byTier = candidatesByTier(available, instance, date);
-
-        while (shiftNeedsMore(instance, targetCount) && !byTier.isEmpty()) {
-            boolean assignedSomeone = false;
-            for (Employee employee : byTier) {
-                if (assigned.contains(employee.getId())) {
-                    continue;
-                }
-                if (tryAssign(instance.getId(), employee.getId())) {
-                    assignedSomeone = true;
-                    assigned.add(employee.getId());
-                    available = unassignedCandidates(candidates, assigned);
-                    byTier = candidatesByTier(available, instance, date);
-                    break;
-                }
-            }
-            if (!assignedSomeone) {
-                break;
-            }
-        }
-    }
-
-    private void fillUpToIdealByPriority(List<ShiftInstance> instances, List<Employee> candidates,
-                                         LocalDate date, Long locationId) {
-        for (ShiftInstance instance : instances) {
-            int target = getIdealTarget(instance);
-            if (!shiftNeedsMore(instance, target)) {
-                continue;
-            }
-            fillShiftUpTo(instance, target, candidates, date, locationId, instances);
-        }
-    }
-
-    private void improveLanguageDistribution(List<ShiftInstance> instances, List<Employee> candidates,
-                                             LocalDate date, Long locationId) {
-        Set<Long> assigned = getAssignedEmployeeIdsForDay(instances);
-        List<Employee> available = unassignedCandidates(candidates, assigned);
-
-        for (ShiftInstance instance : instances) {
-            if (!shiftNeedsMore(instance, getIdealTarget(instance))) {
-                continue;
-            }
-            List<Employee> byTier = candidatesByTier(available, instance, date);
-            for (Employee employee : byTier) {
-                if (tryAssign(instance.getId(), employee.getId())) {
-                    assigned.add(employee.getId());
-                    available = unassignedCandidates(candidates, assigned);
-                    break;
-                }
-            }
-        }
-    }
 }
@@ -0,0 +1,20 @@
+package com.shifterizator.shifterizatorbackend.shift.service;
+
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateRequestDto;
+
+import java.util.List;
+
+public interface ShiftTemplateBulkService {
+
+    /**
+     * Creates every template that passes validation; the others are reported in their row.
+     */
+    ShiftTemplateBulkResponseDto importAll(List<ShiftTemplateRequestDto> requests);
+
+    /**
+     * Copies the non-deleted templates of the source location, with their requirements, to each target
+     * location of the same company.
+     */
+    ShiftTemplateBulkResponseDto cloneToLocations(Long sourceLocationId, List<Long> targetLocationIds);
+}
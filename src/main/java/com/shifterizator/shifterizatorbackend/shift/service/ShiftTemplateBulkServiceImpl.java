@@ -0,0 +1,213 @@
+package com.shifterizator.shifterizatorbackend.shift.service;
+
+import com.shifterizator.shifterizatorbackend.company.exception.LocationNotFoundException;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.exception.DomainNotFoundException;
+import com.shifterizator.shifterizatorbackend.exception.DomainValidationException;
+import com.shifterizator.shifterizatorbackend.language.model.Language;
+import com.shifterizator.shifterizatorbackend.language.repository.LanguageRepository;
+import com.shifterizator.shifterizatorbackend.shift.dto.LanguageRequirementDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.PositionRequirementDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkRowResultDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateRequestDto;
+import com.shifterizator.shifterizatorbackend.shift.mapper.ShiftTemplateMapper;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftTemplateDomainService;
+import com.shifterizator.shifterizatorbackend.shift.service.template.ShiftTemplateBatchWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Creates many shift templates in a fixed number of queries: the locations, positions and languages of all
+ * rows are loaded up front, every row is validated in memory, and the valid ones are written in JDBC batches
+ * by {@link ShiftTemplateBatchWriter}.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ShiftTemplateBulkServiceImpl implements ShiftTemplateBulkService {
+
+    private final ShiftTemplateRepository shiftTemplateRepository;
+    private final LocationRepository locationRepository;
+    private final PositionRepository positionRepository;
+    private final LanguageRepository languageRepository;
+    private final ShiftTemplateMapper shiftTemplateMapper;
+    private final ShiftTemplateDomainService shiftTemplateDomainService;
+    private final ShiftTemplateBatchWriter shiftTemplateBatchWriter;
+
+    @Override
+    public ShiftTemplateBulkResponseDto importAll(List<ShiftTemplateRequestDto> requests) {
+        Map<Long, Location> locations = loadById(requests.stream().map(ShiftTemplateRequestDto::locationId),
+                locationRepository::findAllById, Location::getId);
+        Map<Long, Position> positions = loadById(requests.stream()
+                        .flatMap(dto -> dto.requiredPositions().stream())
+                        .map(PositionRequirementDto::positionId),
+                positionRepository::findAllById, Position::getId);
+        Map<Long, Language> languages = loadById(requests.stream()
+                        .flatMap(dto -> ShiftTemplateDomainService.languageRequirementsOf(dto).stream())
+                        .map(LanguageRequirementDto::languageId),
+                languageRepository::findAllById, Language::getId);
+
+        List<ShiftTemplate> templates = new ArrayList<>();
+        Map<Integer, ShiftTemplate> templateByIndex = new HashMap<>();
+        Map<Integer, String> errorByIndex = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ShiftTemplateRequestDto dto = requests.get(i);
+            try {
+                ShiftTemplate template = buildTemplate(dto, locations, positions, languages);
+                templates.add(template);
+                templateByIndex.put(i, template);
+            } catch (DomainNotFoundException | DomainValidationException e) {
+                errorByIndex.put(i, e.getMessage());
+            }
+        }
+
+        shiftTemplateBatchWriter.insertAll(templates);
+
+        List<ShiftTemplateBulkRowResultDto> rows = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ShiftTemplate template = templateByIndex.get(i);
+            rows.add(new ShiftTemplateBulkRowResultDto(i, requests.get(i).locationId(), null,
+                    template != null ? template.getId() : null, errorByIndex.get(i)));
+        }
+        return toResponse(rows);
+    }
+
+    @Override
+    public ShiftTemplateBulkResponseDto cloneToLocations(Long sourceLocationId, List<Long> targetLocationIds) {
+        Location source = shiftTemplateDomainService.resolveLocation(sourceLocationId);
+        List<ShiftTemplate> sourceTemplates = shiftTemplateRepository.findAllWithRequiredPositionsByLocationId(sourceLocationId);
+        if (!sourceTemplates.isEmpty()) {
+            // Fills the language requirements of the same managed templates.
+            shiftTemplateRepository.findAllWithLanguageRequirementsByIdIn(
+                    sourceTemplates.stream().map(ShiftTemplate::getId).toList());
+        }
+        Map<Long, Location> targets = loadById(targetLocationIds.stream(),
+                locationRepository::findAllById, Location::getId);
+
+        List<ClonedTemplate> copies = new ArrayList<>();
+        List<ShiftTemplateBulkRowResultDto> rows = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < targetLocationIds.size(); i++) {
+            Long targetId = targetLocationIds.get(i);
+            String error = validateTarget(source, targetId, targets.get(targetId), seen);
+            if (error != null) {
+                rows.add(new ShiftTemplateBulkRowResultDto(i, targetId, null, null, error));
+                continue;
+            }
+            for (ShiftTemplate sourceTemplate : sourceTemplates) {
+                copies.add(new ClonedTemplate(i, sourceTemplate.getId(), copyOf(sourceTemplate, targets.get(targetId))));
+            }
+        }
+
+        shiftTemplateBatchWriter.insertAll(copies.stream().map(ClonedTemplate::template).toList());
+
+        for (ClonedTemplate copy : copies) {
+            rows.add(new ShiftTemplateBulkRowResultDto(copy.index(), copy.template().getLocation().getId(),
+                    copy.sourceTemplateId(), copy.template().getId(), null));
+        }
+        rows.sort(Comparator.comparingInt(ShiftTemplateBulkRowResultDto::index));
+        return toResponse(rows);
+    }
+
+    private ShiftTemplate buildTemplate(ShiftTemplateRequestDto dto, Map<Long, Location> locations,
+                                        Map<Long, Position> positions, Map<Long, Language> languages) {
+        Location location = locations.get(dto.locationId());
+        if (location == null) {
+            throw new LocationNotFoundException("Location not found: " + dto.locationId());
+        }
+        shiftTemplateDomainService.validateTimes(dto.startTime(), dto.endTime());
+
+        ShiftTemplate template = shiftTemplateMapper.toEntity(dto, location);
+        shiftTemplateDomainService.buildLanguageRequirements(template,
+                ShiftTemplateDomainService.languageRequirementsOf(dto), languages);
+        shiftTemplateDomainService.buildPositionRequirements(template, dto.requiredPositions(), positions);
+        shiftTemplateDomainService.validateAtLeastOneRequiredPosition(template);
+        shiftTemplateDomainService.applyComputedRequiredAndIdeal(template);
+        return template;
+    }
+
+    private static String validateTarget(Location source, Long targetId, Location target, Set<Long> seen) {
+        if (target == null) {
+            return "Location not found: " + targetId;
+        }
+        if (target.getId().equals(source.getId())) {
+            return "Target location is the source location";
+        }
+        if (!target.getCompany().getId().equals(source.getCompany().getId())) {
+            return "Target location belongs to another company";
+        }
+        if (!seen.add(targetId)) {
+            return "Duplicate target location";
+        }
+        return null;
+    }
+
+    private static ShiftTemplate copyOf(ShiftTemplate source, Location location) {
+        ShiftTemplate copy = ShiftTemplate.builder()
+                .location(location)
+                .startTime(source.getStartTime())
+                .endTime(source.getEndTime())
+                .requiredEmployees(source.getRequiredEmployees())
+                .idealEmployees(source.getIdealEmployees())
+                .description(source.getDescription())
+                .isActive(source.getIsActive())
+                .priority(source.getPriority())
+                .build();
+        for (ShiftTemplatePosition stp : source.getRequiredPositions()) {
+            copy.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                    .shiftTemplate(copy)
+                    .position(stp.getPosition())
+                    .requiredCount(stp.getRequiredCount())
+                    .idealCount(stp.getIdealCount())
+                    .build());
+        }
+        for (ShiftTemplateLanguageRequirement req : source.getRequiredLanguageRequirements()) {
+            copy.getRequiredLanguageRequirements().add(ShiftTemplateLanguageRequirement.builder()
+                    .shiftTemplate(copy)
+                    .language(req.getLanguage())
+                    .requiredCount(req.getRequiredCount())
+                    .build());
+        }
+        return copy;
+    }
+
+    private static ShiftTemplateBulkResponseDto toResponse(List<ShiftTemplateBulkRowResultDto> rows) {
+        int failed = (int) rows.stream().filter(row -> row.error() != null).count();
+        return new ShiftTemplateBulkResponseDto(rows.size() - failed, failed, rows);
+    }
+
+    /** Loads the referenced rows in one query; ids that do not exist are simply absent from the map. */
+    private static <T> Map<Long, T> loadById(Stream<Long> ids,
+                                             Function<Collection<Long>, List<T>> loader, Function<T, Long> idOf) {
+        Set<Long> wanted = ids.filter(Objects::nonNull).collect(Collectors.toSet());
+        if (wanted.isEmpty()) {
+            return Map.of();
+        }
+        return loader.apply(wanted).stream().collect(Collectors.toMap(idOf, entity -> entity));
+    }
+
+    private record ClonedTemplate(int index, Long sourceTemplateId, ShiftTemplate template) {
+    }
+}
@@ -17,9 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -36,7 +34,7 @@ public class ShiftTemplateServiceImpl implements ShiftTemplateService {
         shiftTemplateDomainService.validateTimes(dto.startTime(), dto.endTime());
 
         ShiftTemplate template = shiftTemplateMapper.toEntity(dto, location);
-        List<LanguageRequirementDto> langReqs = buildLanguageRequirementsFromDto(dto);
+        List<LanguageRequirementDto> langReqs = ShiftTemplateDomainService.languageRequirementsOf(dto);
         shiftTemplateDomainService.buildLanguageRequirements(template, langReqs);
         shiftTemplateDomainService.buildPositionRequirements(template, dto.requiredPositions());
         shiftTemplateDomainService.validateAtLeastOneRequiredPosition(template);
@@ -65,7 +63,7 @@ public class ShiftTemplateServiceImpl implements ShiftTemplateService {
         existing.setIsActive(dto.isActive() != null ? dto.isActive() : true);
         existing.setPriority(dto.priority());
 
-        List<LanguageRequirementDto> langReqs = buildLanguageRequirementsFromDto(dto);
+        List<LanguageRequirementDto> langReqs = ShiftTemplateDomainService.languageRequirementsOf(dto);
         shiftTemplateDomainService.buildLanguageRequirements(existing, langReqs);
         // Update existing rows by id, remove positions not in DTO, add only new positions (no duplicate key).
         shiftTemplateDomainService.buildPositionRequirements(existing, dto.requiredPositions());
@@ -75,22 +73,6 @@ public class ShiftTemplateServiceImpl implements ShiftTemplateService {
         return existing;
     }
 
-
-    private List<LanguageRequirementDto> buildLanguageRequirementsFromDto(ShiftTemplateRequestDto dto) {
-        if (dto.requiredLanguageRequirements() != null && !dto.requiredLanguageRequirements().isEmpty()) {
-            return dto.requiredLanguageRequirements();
-        }
-        Set<Long> ids = dto.requiredLanguageIds();
-        if (ids == null || ids.isEmpty()) {
-            return List.of();
-        }
-        List<LanguageRequirementDto> list = new ArrayList<>();
-        for (Long languageId : ids) {
-            list.add(new LanguageRequirementDto(languageId, 1));
-        }
-        return list;
-    }
-
     @Override
     public void delete(Long id, boolean hardDelete) {
         ShiftTemplate template = shiftTemplateRepository.findById(id)
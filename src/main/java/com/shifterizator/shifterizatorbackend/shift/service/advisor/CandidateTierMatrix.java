@@ -0,0 +1,68 @@
+package com.shifterizator.shifterizatorbackend.shift.service.advisor;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Tiers of every candidate against every shift instance of one day, computed once by
+ * {@link ShiftCandidateTierService#buildMatrix}. Each instance keeps its candidates sorted by tier (ties keep the
+ * original candidate order) and a cursor into that order, so picking the next candidate after an assignment
+ * resumes where the previous pick stopped instead of re-sorting.
+ * Not thread-safe: one matrix belongs to the single run scheduling its day.
+ */
+public class CandidateTierMatrix {
+
+    private final List<Employee> candidates;
+    private final Map<ShiftInstance, Integer> rowByInstance = new IdentityHashMap<>();
+    private final int[][] orderByRow;
+    private final int[] cursorByRow;
+
+    CandidateTierMatrix(List<ShiftInstance> instances, List<Employee> candidates, int[][] tiers) {
+        this.candidates = List.copyOf(candidates);
+        this.orderByRow = new int[instances.size()][];
+        this.cursorByRow = new int[instances.size()];
+        for (int row = 0; row < instances.size(); row++) {
+            rowByInstance.put(instances.get(row), row);
+            int[] rowTiers = tiers[row];
+            orderByRow[row] = IntStream.range(0, candidates.size())
+                    .boxed()
+                    .sorted(Comparator.comparingInt(c -> rowTiers[c]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    /**
+     * Returns the best-tiered candidate for the instance that passes {@code assignable}, or {@code null} when none
+     * is left. Candidates rejected on the way are dropped for good, so the predicate must never turn from false back
+     * to true during the day (already assigned, capacity reached, overlapping shift). The returned candidate stays
+     * at the cursor until the predicate rejects it, which is what happens once it has been assigned.
+     */
+    public Employee nextCandidate(ShiftInstance instance, Predicate<Employee> assignable) {
+        int row = row(instance);
+        int[] order = orderByRow[row];
+        while (cursorByRow[row] < order.length) {
+            Employee candidate = candidates.get(order[cursorByRow[row]]);
+            if (assignable.test(candidate)) {
+                return candidate;
+            }
+            cursorByRow[row]++;
+        }
+        return null;
+    }
+
+    private int row(ShiftInstance instance) {
+        Integer row = rowByInstance.get(instance);
+        if (row == null) {
+            throw new IllegalArgumentException("Shift instance " + instance.getId() + " is not part of this matrix");
+        }
+        return row;
+    }
+}
@@ -1,14 +1,17 @@
 package com.shifterizator.shifterizatorbackend.shift.service.advisor;
 
 import com.shifterizator.shifterizatorbackend.employee.model.Employee;
-import com.shifterizator.shifterizatorbackend.employee.model.EmployeeShiftPreference;
 import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLanguageRepository;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,11 +21,50 @@ public class ShiftCandidateTierService {
     private final EmployeeLanguageRepository employeeLanguageRepository;
 
     public int getTier(Employee employee, ShiftInstance shiftInstance, LocalDate date) {
+        ShiftTemplate template = shiftInstance.getShiftTemplate();
+        var requirements = template.getRequiredLanguageRequirements();
+        Set<Long> employeeLanguageIds = requirements == null || requirements.isEmpty()
+                ? Set.of()
+                : employeeLanguageRepository.findByEmployee_Id(employee.getId()).stream()
+                        .map(el -> el.getLanguage().getId())
+                        .collect(Collectors.toSet());
+        return tierOf(employee, template, date, employeeLanguageIds, preferredTemplateIds(employee));
+    }
+
+    /**
+     * Tiers every candidate against every instance of a day once, from the candidates' preloaded language ids
+     * and their already fetched shift preferences. Each cell goes through the same rules as {@link #getTier};
+     * the returned matrix answers the scheduler's ordering questions without recomputing tiers as assignments
+     * are made.
+     */
+    public CandidateTierMatrix buildMatrix(LocalDate date, List<ShiftInstance> instances, List<Employee> candidates,
+                                           Function<Long, Set<Long>> languageIdsByEmployee) {
+        List<Set<Long>> languageIds = new ArrayList<>(candidates.size());
+        List<Set<Long>> preferredTemplateIds = new ArrayList<>(candidates.size());
+        for (Employee employee : candidates) {
+            languageIds.add(languageIdsByEmployee.apply(employee.getId()));
+            preferredTemplateIds.add(preferredTemplateIds(employee));
+        }
+        int[][] tiers = new int[instances.size()][candidates.size()];
+        for (int i = 0; i < instances.size(); i++) {
+            ShiftTemplate template = instances.get(i).getShiftTemplate();
+            for (int c = 0; c < candidates.size(); c++) {
+                tiers[i][c] = tierOf(candidates.get(c), template, date, languageIds.get(c), preferredTemplateIds.get(c));
+            }
+        }
+        return new CandidateTierMatrix(instances, candidates, tiers);
+    }
+
+    /**
+     * Tier of one employee for one template on a date; the single place the tiering rules live.
+     */
+    private static int tierOf(Employee employee, ShiftTemplate template, LocalDate date, Set<Long> employeeLanguageIds,
+                              Set<Long> preferredTemplateIds) {
         boolean notPreferredDayOff = employee.getPreferredDayOff() == null
                 || date.getDayOfWeek() != employee.getPreferredDayOff();
-        boolean positionMatch = matchesPosition(employee, shiftInstance);
-        boolean languageMatch = meetsLanguageRequirements(employee, shiftInstance);
-        boolean shiftInPreferences = hasShiftTemplateInPreferences(employee, shiftInstance);
+        boolean positionMatch = matchesPosition(employee, template);
+        boolean languageMatch = meetsLanguageRequirements(template, employeeLanguageIds);
+        boolean shiftInPreferences = preferredTemplateIds.contains(template.getId());
 
         if (notPreferredDayOff && shiftInPreferences && languageMatch && positionMatch) {
             return 1;
@@ -39,36 +81,27 @@ public class ShiftCandidateTierService {
         return 5;
     }
 
-    private boolean matchesPosition(Employee employee, ShiftInstance shiftInstance) {
-        if (employee.getPosition() == null) {
+    private static boolean matchesPosition(Employee employee, ShiftTemplate template) {
+        if (employee.getPosition() == null || template.getRequiredPositions() == null) {
             return false;
         }
         Long employeePositionId = employee.getPosition().getId();
-        return shiftInstance.getShiftTemplate().getRequiredPositions().stream()
-                .anyMatch(stp -> stp.getPosition().getId().equals(employeePositionId));
+        return template.getRequiredPositions().stream()
+                .anyMatch(stp -> stp.getPosition() != null && stp.getPosition().getId().equals(employeePositionId));
     }
 
-    private boolean meetsLanguageRequirements(Employee employee, ShiftInstance shiftInstance) {
-        var requirements = shiftInstance.getShiftTemplate().getRequiredLanguageRequirements();
-        if (requirements == null || requirements.isEmpty()) {
-            return true;
-        }
-        Set<Long> requiredLanguageIds = requirements.stream()
-                .map(r -> r.getLanguage().getId())
-                .collect(Collectors.toSet());
-        Set<Long> employeeLanguageIds = employeeLanguageRepository.findByEmployee_Id(employee.getId()).stream()
-                .map(el -> el.getLanguage().getId())
-                .collect(Collectors.toSet());
-        return requiredLanguageIds.stream().anyMatch(employeeLanguageIds::contains);
+    private static boolean meetsLanguageRequirements(ShiftTemplate template, Set<Long> employeeLanguageIds) {
+        var requirements = template.getRequiredLanguageRequirements();
+        return requirements == null || requirements.isEmpty()
+                || requirements.stream().anyMatch(r -> employeeLanguageIds.contains(r.getLanguage().getId()));
     }
 
-    private boolean hasShiftTemplateInPreferences(Employee employee, ShiftInstance shiftInstance) {
+    private static Set<Long> preferredTemplateIds(Employee employee) {
         if (employee.getShiftPreferences() == null || employee.getShiftPreferences().isEmpty()) {
-            return false;
+            return Set.of();
         }
-        Long templateId = shiftInstance.getShiftTemplate().getId();
         return employee.getShiftPreferences().stream()
-                .map(EmployeeShiftPreference::getShiftTemplate)
-                .anyMatch(t -> t.getId().equals(templateId));
+                .map(p -> p.getShiftTemplate().getId())
+                .collect(Collectors.toSet());
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,24 @@
 package com.shifterizator.shifterizatorbackend.shift.service.domain;
 
-import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
-import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class ShiftInstanceCompletenessService {
 
-    private final ShiftAssignmentRepository shiftAssignmentRepository;
-
+    /**
+     * Sets completeness from the per-position coverage counters stored on the instance.
+     */
     public void updateCompleteness(ShiftInstance shiftInstance) {
-        List<ShiftAssignment> assignments = shiftAssignmentRepository.findByShiftInstance_IdAndDeletedAtIsNull(
-                shiftInstance.getId());
+        updateCompleteness(shiftInstance, shiftInstance.getAssignedByPosition());
+    }
 
+    /**
+     * Sets completeness from already known per-position assignment counts, without reloading assignments.
+     */
+    public void updateCompleteness(ShiftInstance shiftInstance, Map<Long, Integer> assignedByPositionId) {
         var template = shiftInstance.getShiftTemplate();
         var requiredPositions = template != null ? template.getRequiredPositions() : null;
         if (requiredPositions == null || requiredPositions.isEmpty()) {
@@ -26,12 +27,8 @@ public class ShiftInstanceCompletenessService {
         }
 
         boolean isComplete = requiredPositions.stream()
-                .allMatch(stp -> {
-                    long assignedCount = assignments.stream()
-                            .filter(a -> a.getEmployee().getPosition().getId().equals(stp.getPosition().getId()))
-                            .count();
-                    return assignedCount >= stp.getRequiredCount();
-                });
+                .allMatch(stp -> assignedByPositionId.getOrDefault(stp.getPosition().getId(), 0)
+                        >= stp.getRequiredCount());
 
         shiftInstance.setIsComplete(isComplete);
     }
@@ -0,0 +1,151 @@
+package com.shifterizator.shifterizatorbackend.shift.service.domain;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeLanguage;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLanguageRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.repository.AssignedStaff;
+import com.shifterizator.shifterizatorbackend.shift.repository.CoverageCount;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the coverage counters stored on {@link ShiftInstance} (assigned total, per position, per language)
+ * and its completeness in step with the active assignments. Callers update the counters in the same
+ * transaction as the assignment and must hold the instance's row lock
+ * ({@link ShiftInstanceRepository#findByIdForUpdate}) so concurrent changes do not overwrite each other.
+ */
+@Service
+@RequiredArgsConstructor
+public class ShiftInstanceCoverageService {
+
+    private final ShiftInstanceRepository shiftInstanceRepository;
+    private final ShiftAssignmentRepository shiftAssignmentRepository;
+    private final EmployeeLanguageRepository employeeLanguageRepository;
+    private final ShiftInstanceCompletenessService shiftInstanceCompletenessService;
+
+    public void recordAssigned(ShiftInstance instance, Employee employee) {
+        recordAssigned(instance, positionIdOf(employee), languageIdsOf(employee.getId()));
+    }
+
+    public void recordAssigned(ShiftInstance instance, Long positionId, Collection<Long> languageIds) {
+        apply(instance, positionId, languageIds, 1);
+    }
+
+    /**
+     * Uses the employee's current languages; if they changed since the assignment was made the language
+     * counters drift until the next {@link #reconcile}.
+     */
+    public void recordUnassigned(ShiftInstance instance, Employee employee) {
+        apply(instance, positionIdOf(employee), languageIdsOf(employee.getId()), -1);
+    }
+
+    public void recordUnassigned(ShiftInstance instance, Long positionId, Collection<Long> languageIds) {
+        apply(instance, positionId, languageIds, -1);
+    }
+
+    /**
+     * Recomputes the counters of the instances from their active assignments and rewrites the ones that
+     * drifted. The instances are locked first, so assignments made meanwhile wait for the repair.
+     *
+     * @return how many instances had drifted counters
+     */
+    @Transactional
+    public int reconcile(Collection<Long> instanceIds) {
+        if (instanceIds.isEmpty()) {
+            return 0;
+        }
+        List<ShiftInstance> instances = shiftInstanceRepository.findAllByIdInForUpdate(instanceIds);
+
+        Map<Long, List<AssignedStaff>> staffByInstance = shiftAssignmentRepository
+                .findAssignedStaffByShiftInstanceIds(instanceIds).stream()
+                .collect(Collectors.groupingBy(AssignedStaff::shiftInstanceId));
+        List<Long> employeeIds = staffByInstance.values().stream()
+                .flatMap(List::stream)
+                .map(AssignedStaff::employeeId)
+                .distinct()
+                .toList();
+        Map<Long, Set<Long>> languageIdsByEmployee = new HashMap<>();
+        if (!employeeIds.isEmpty()) {
+            for (EmployeeLanguage el : employeeLanguageRepository.findByEmployee_IdIn(employeeIds)) {
+                languageIdsByEmployee.computeIfAbsent(el.getEmployee().getId(), id -> new HashSet<>())
+                        .add(el.getLanguage().getId());
+            }
+        }
+        Map<Long, Map<Long, Integer>> storedByPosition =
+                CoverageCount.byInstance(shiftInstanceRepository.findPositionCoverageByIds(instanceIds));
+        Map<Long, Map<Long, Integer>> storedByLanguage =
+                CoverageCount.byInstance(shiftInstanceRepository.findLanguageCoverageByIds(instanceIds));
+
+        int repaired = 0;
+        for (ShiftInstance instance : instances) {
+            List<AssignedStaff> staff = staffByInstance.getOrDefault(instance.getId(), List.of());
+            Map<Long, Integer> byPosition = new HashMap<>();
+            Map<Long, Integer> byLanguage = new HashMap<>();
+            for (AssignedStaff s : staff) {
+                if (s.positionId() != null) {
+                    byPosition.merge(s.positionId(), 1, Integer::sum);
+                }
+                languageIdsByEmployee.getOrDefault(s.employeeId(), Set.of())
+                        .forEach(languageId -> byLanguage.merge(languageId, 1, Integer::sum));
+            }
+
+            boolean drifted = instance.getAssignedCount() == null || instance.getAssignedCount() != staff.size()
+                    || !byPosition.equals(storedByPosition.getOrDefault(instance.getId(), Map.of()))
+                    || !byLanguage.equals(storedByLanguage.getOrDefault(instance.getId(), Map.of()));
+            if (drifted) {
+                instance.setAssignedCount(staff.size());
+                replace(instance.getAssignedByPosition(), byPosition);
+                replace(instance.getAssignedByLanguage(), byLanguage);
+                shiftInstanceCompletenessService.updateCompleteness(instance, byPosition);
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    private void apply(ShiftInstance instance, Long positionId, Collection<Long> languageIds, int delta) {
+        int assigned = instance.getAssignedCount() != null ? instance.getAssignedCount() : 0;
+        instance.setAssignedCount(Math.max(0, assigned + delta));
+        if (positionId != null) {
+            adjust(instance.getAssignedByPosition(), positionId, delta);
+        }
+        languageIds.forEach(languageId -> adjust(instance.getAssignedByLanguage(), languageId, delta));
+        shiftInstanceCompletenessService.updateCompleteness(instance);
+    }
+
+    private static void adjust(Map<Long, Integer> counters, Long key, int delta) {
+        int value = counters.getOrDefault(key, 0) + delta;
+        if (value > 0) {
+            counters.put(key, value);
+        } else {
+            counters.remove(key);
+        }
+    }
+
+    private static void replace(Map<Long, Integer> counters, Map<Long, Integer> values) {
+        counters.clear();
+        counters.putAll(values);
+    }
+
+    private Set<Long> languageIdsOf(Long employeeId) {
+        return employeeLanguageRepository.findByEmployee_Id(employeeId).stream()
+                .map(el -> el.getLanguage().getId())
+                .collect(Collectors.toSet());
+    }
+
+    private static Long positionIdOf(Employee employee) {
+        return employee.getPosition() != null ? employee.getPosition().getId() : null;
+    }
+}
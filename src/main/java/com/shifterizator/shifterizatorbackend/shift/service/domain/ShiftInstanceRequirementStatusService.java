@@ -1,18 +1,23 @@
 package com.shifterizator.shifterizatorbackend.shift.service.domain;
 
-import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLanguageRepository;
 import com.shifterizator.shifterizatorbackend.shift.dto.LanguageRequirementStatusDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.PositionRequirementStatusDto;
-import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
-import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.CoverageCount;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -20,64 +25,89 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ShiftInstanceRequirementStatusService {
 
-    private final ShiftAssignmentRepository shiftAssignmentRepository;
-    private final EmployeeLanguageRepository employeeLanguageRepository;
+    private final ShiftInstanceRepository shiftInstanceRepository;
+    private final ShiftTemplateRepository shiftTemplateRepository;
 
-    public List<PositionRequirementStatusDto> getPositionRequirementStatus(ShiftInstance shiftInstance) {
-        List<ShiftAssignment> assignments = shiftAssignmentRepository.findByShiftInstance_IdAndDeletedAtIsNull(shiftInstance.getId());
-        var template = shiftInstance.getShiftTemplate();
-        if (template == null || template.getRequiredPositions() == null) {
+    /**
+     * Requirement status of every instance, keyed by instance id, served from the coverage counters stored on
+     * the instances without reading assignments. Takes a fixed number of queries however many instances are
+     * passed: template positions, template languages, position counters and language counters.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ShiftInstanceStatus> getStatuses(Collection<ShiftInstance> instances) {
+        if (instances.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> instanceIds = instances.stream().map(ShiftInstance::getId).collect(Collectors.toSet());
+        Set<Long> templateIds = instances.stream()
+                .filter(i -> i.getShiftTemplate() != null)
+                .map(i -> i.getShiftTemplate().getId())
+                .collect(Collectors.toSet());
+
+        Map<Long, Set<ShiftTemplatePosition>> positionsByTemplate = new HashMap<>();
+        Map<Long, Set<ShiftTemplateLanguageRequirement>> languagesByTemplate = new HashMap<>();
+        if (!templateIds.isEmpty()) {
+            for (ShiftTemplate t : shiftTemplateRepository.findAllWithRequiredPositionsByIdIn(templateIds)) {
+                positionsByTemplate.put(t.getId(), t.getRequiredPositions());
+            }
+            for (ShiftTemplate t : shiftTemplateRepository.findAllWithLanguageRequirementsByIdIn(templateIds)) {
+                languagesByTemplate.put(t.getId(), t.getRequiredLanguageRequirements());
+            }
+        }
+        Map<Long, Map<Long, Integer>> assignedByPosition =
+                CoverageCount.byInstance(shiftInstanceRepository.findPositionCoverageByIds(instanceIds));
+        Map<Long, Map<Long, Integer>> assignedByLanguage =
+                CoverageCount.byInstance(shiftInstanceRepository.findLanguageCoverageByIds(instanceIds));
+
+        Map<Long, ShiftInstanceStatus> result = new HashMap<>();
+        for (ShiftInstance instance : instances) {
+            Long templateId = instance.getShiftTemplate() != null ? instance.getShiftTemplate().getId() : null;
+            result.put(instance.getId(), new ShiftInstanceStatus(
+                    instance.getAssignedCount() != null ? instance.getAssignedCount() : 0,
+                    positionStatus(positionsByTemplate.get(templateId),
+                            assignedByPosition.getOrDefault(instance.getId(), Map.of())),
+                    languageStatus(languagesByTemplate.get(templateId),
+                            assignedByLanguage.getOrDefault(instance.getId(), Map.of()))));
+        }
+        return result;
+    }
+
+    public ShiftInstanceStatus getStatus(ShiftInstance instance) {
+        return getStatuses(List.of(instance)).getOrDefault(instance.getId(), ShiftInstanceStatus.EMPTY);
+    }
+
+    private List<PositionRequirementStatusDto> positionStatus(Set<ShiftTemplatePosition> requiredPositions,
+                                                              Map<Long, Integer> assignedByPosition) {
+        if (requiredPositions == null) {
             return List.of();
         }
         List<PositionRequirementStatusDto> result = new ArrayList<>();
-        for (ShiftTemplatePosition stp : template.getRequiredPositions()) {
-            long assignedCount = assignments.stream()
-                    .filter(a -> a.getEmployee() != null && a.getEmployee().getPosition() != null
-                            && a.getEmployee().getPosition().getId().equals(stp.getPosition().getId()))
-                    .count();
+        for (ShiftTemplatePosition stp : requiredPositions) {
+            Long positionId = stp.getPosition().getId();
             result.add(new PositionRequirementStatusDto(
-                    stp.getPosition().getId(),
+                    positionId,
                     stp.getPosition().getName(),
                     stp.getRequiredCount(),
                     stp.getIdealCount(),
-                    (int) assignedCount
+                    assignedByPosition.getOrDefault(positionId, 0)
             ));
         }
         return result;
     }
 
-    public List<LanguageRequirementStatusDto> getLanguageRequirementStatus(ShiftInstance shiftInstance) {
-        List<ShiftAssignment> assignments = shiftAssignmentRepository.findByShiftInstance_IdAndDeletedAtIsNull(shiftInstance.getId());
-        var template = shiftInstance.getShiftTemplate();
-        if (template == null || template.getRequiredLanguageRequirements() == null || template.getRequiredLanguageRequirements().isEmpty()) {
+    private List<LanguageRequirementStatusDto> languageStatus(Set<ShiftTemplateLanguageRequirement> requirements,
+                                                              Map<Long, Integer> assignedByLanguage) {
+        if (requirements == null || requirements.isEmpty()) {
             return List.of();
         }
-        List<Long> assignedEmployeeIds = assignments.stream()
-                .map(a -> a.getEmployee().getId())
-                .toList();
-        if (assignedEmployeeIds.isEmpty()) {
-            return template.getRequiredLanguageRequirements().stream()
-                    .map(req -> new LanguageRequirementStatusDto(
-                            req.getLanguage().getId(),
-                            req.getLanguage().getName(),
-                            req.getRequiredCount(),
-                            0
-                    ))
-                    .toList();
-        }
-        var employeeLanguages = employeeLanguageRepository.findByEmployee_IdIn(assignedEmployeeIds);
         List<LanguageRequirementStatusDto> result = new ArrayList<>();
-        for (ShiftTemplateLanguageRequirement req : template.getRequiredLanguageRequirements()) {
+        for (ShiftTemplateLanguageRequirement req : requirements) {
             Long languageId = req.getLanguage().getId();
-            Set<Long> distinctEmployeesWithLanguage = employeeLanguages.stream()
-                    .filter(el -> el.getLanguage().getId().equals(languageId))
-                    .map(el -> el.getEmployee().getId())
-                    .collect(Collectors.toSet());
             result.add(new LanguageRequirementStatusDto(
-                    req.getLanguage().getId(),
+                    languageId,
                     req.getLanguage().getName(),
                     req.getRequiredCount(),
-                    distinctEmployeesWithLanguage.size()
+                    assignedByLanguage.getOrDefault(languageId, 0)
             ));
         }
         return result;
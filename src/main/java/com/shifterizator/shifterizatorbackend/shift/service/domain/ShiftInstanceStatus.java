@@ -0,0 +1,17 @@
+package com.shifterizator.shifterizatorbackend.shift.service.domain;
+
+import com.shifterizator.shifterizatorbackend.shift.dto.LanguageRequirementStatusDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.PositionRequirementStatusDto;
+
+import java.util.List;
+
+/**
+ * Coverage of one shift instance: active assignments and how they fill the template's position and
+ * language requirements.
+ */
+public record ShiftInstanceStatus(int assignedCount,
+                                  List<PositionRequirementStatusDto> positionRequirementStatus,
+                                  List<LanguageRequirementStatusDto> languageRequirementStatus) {
+
+    public static final ShiftInstanceStatus EMPTY = new ShiftInstanceStatus(0, List.of(), List.of());
+}
@@ -11,6 +11,7 @@ import com.shifterizator.shifterizatorbackend.language.model.Language;
 import com.shifterizator.shifterizatorbackend.language.repository.LanguageRepository;
 import com.shifterizator.shifterizatorbackend.shift.dto.LanguageRequirementDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.PositionRequirementDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
@@ -19,10 +20,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,24 +50,75 @@ public class ShiftTemplateDomainService {
             return new HashSet<>();
         }
 
-        return languageIds.stream()
-                .map(id -> languageRepository.findById(id)
-                        .orElseThrow(() -> new LanguageNotFoundException("Language not found")))
-                .collect(Collectors.toSet());
+        return new HashSet<>(resolveLanguagesById(languageIds).values());
+    }
+
+    /**
+     * Loads all the languages in one query.
+     *
+     * @throws LanguageNotFoundException listing every id that does not exist
+     */
+    public Map<Long, Language> resolveLanguagesById(Collection<Long> languageIds) {
+        return resolveAll(languageIds, languageRepository::findAllById, Language::getId,
+                missing -> new LanguageNotFoundException("Languages not found: " + missing));
+    }
+
+    /**
+     * Loads all the positions in one query.
+     *
+     * @throws PositionNotFoundException listing every id that does not exist
+     */
+    public Map<Long, Position> resolvePositionsById(Collection<Long> positionIds) {
+        return resolveAll(positionIds, positionRepository::findAllById, Position::getId,
+                missing -> new PositionNotFoundException("Positions not found: " + missing));
+    }
+
+    /**
+     * The language requirements of a request: the explicit requirements when given, otherwise one speaker of
+     * each of the {@code requiredLanguageIds}.
+     */
+    public static List<LanguageRequirementDto> languageRequirementsOf(ShiftTemplateRequestDto dto) {
+        if (dto.requiredLanguageRequirements() != null && !dto.requiredLanguageRequirements().isEmpty()) {
+            return dto.requiredLanguageRequirements();
+        }
+        Set<Long> ids = dto.requiredLanguageIds();
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<LanguageRequirementDto> list = new ArrayList<>();
+        for (Long languageId : ids) {
+            list.add(new LanguageRequirementDto(languageId, 1));
+        }
+        return list;
     }
 
     public void buildLanguageRequirements(ShiftTemplate template, List<LanguageRequirementDto> requirements) {
+        Set<Long> languageIds = requirements == null ? Set.of() : requirements.stream()
+                .filter(ShiftTemplateDomainService::isRequired)
+                .map(LanguageRequirementDto::languageId)
+                .collect(Collectors.toSet());
+        buildLanguageRequirements(template, requirements, resolveLanguagesById(languageIds));
+    }
+
+    /**
+     * Same as {@link #buildLanguageRequirements(ShiftTemplate, List)} with the languages already loaded through
+     * {@link #resolveLanguagesById}, so many templates can share one lookup.
+     */
+    public void buildLanguageRequirements(ShiftTemplate template, List<LanguageRequirementDto> requirements,
+                                          Map<Long, Language> languagesById) {
         if (requirements == null || requirements.isEmpty()) {
             template.getRequiredLanguageRequirements().clear();
             return;
         }
         Set<ShiftTemplateLanguageRequirement> set = new HashSet<>();
         for (LanguageRequirementDto req : requirements) {
-            if (req.requiredCount() == null || req.requiredCount() <= 0) {
+            if (!isRequired(req)) {
                 continue;
             }
-            Language language = languageRepository.findById(req.languageId())
-                    .orElseThrow(() -> new LanguageNotFoundException("Language not found: " + req.languageId()));
+            Language language = languagesById.get(req.languageId());
+            if (language == null) {
+                throw new LanguageNotFoundException("Language not found: " + req.languageId());
+            }
             set.add(ShiftTemplateLanguageRequirement.builder()
                     .shiftTemplate(template)
                     .language(language)
@@ -72,6 +130,24 @@ public class ShiftTemplateDomainService {
     }
 
     public void buildPositionRequirements(ShiftTemplate template, List<PositionRequirementDto> requirements) {
+        Set<Long> existingPositionIds = template.getRequiredPositions() == null ? Set.of()
+                : template.getRequiredPositions().stream()
+                .map(stp -> stp.getPosition() != null ? stp.getPosition().getId() : null)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> newPositionIds = requirements == null ? Set.of() : requirements.stream()
+                .map(PositionRequirementDto::positionId)
+                .filter(id -> !existingPositionIds.contains(id))
+                .collect(Collectors.toSet());
+        buildPositionRequirements(template, requirements, resolvePositionsById(newPositionIds));
+    }
+
+    /**
+     * Same as {@link #buildPositionRequirements(ShiftTemplate, List)} with the positions not yet on the template
+     * already loaded through {@link #resolvePositionsById}, so many templates can share one lookup.
+     */
+    public void buildPositionRequirements(ShiftTemplate template, List<PositionRequirementDto> requirements,
+                                          Map<Long, Position> positionsById) {
         if (requirements == null || requirements.isEmpty()) {
             if (template.getRequiredPositions() != null) {
                 template.getRequiredPositions().clear();
@@ -105,7 +181,7 @@ public class ShiftTemplateDomainService {
 
         Set<Long> existingPositionIds = set.stream()
                 .map(stp -> stp.getPosition() != null ? stp.getPosition().getId() : null)
-                .filter(id -> id != null)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
         for (PositionRequirementDto req : requirements) {
@@ -113,8 +189,10 @@ public class ShiftTemplateDomainService {
                 continue;
             }
             validateIdealCount(req.requiredCount(), req.idealCount());
-            Position position = positionRepository.findById(req.positionId())
-                    .orElseThrow(() -> new PositionNotFoundException("Position not found: " + req.positionId()));
+            Position position = positionsById.get(req.positionId());
+            if (position == null) {
+                throw new PositionNotFoundException("Position not found: " + req.positionId());
+            }
             ShiftTemplatePosition templatePosition = ShiftTemplatePosition.builder()
                     .shiftTemplate(template)
                     .position(position)
@@ -126,6 +204,28 @@ public class ShiftTemplateDomainService {
         }
     }
 
+    private static boolean isRequired(LanguageRequirementDto requirement) {
+        return requirement.requiredCount() != null && requirement.requiredCount() > 0;
+    }
+
+    private static <T> Map<Long, T> resolveAll(Collection<Long> ids, Function<Set<Long>, List<T>> loader,
+                                               Function<T, Long> idOf,
+                                               Function<Set<Long>, RuntimeException> notFound) {
+        Set<Long> wanted = ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(TreeSet::new));
+        if (wanted.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<Long, T> byId = loader.apply(wanted).stream()
+                .collect(Collectors.toMap(idOf, entity -> entity, (a, b) -> a, HashMap::new));
+        Set<Long> missing = wanted.stream()
+                .filter(id -> !byId.containsKey(id))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!missing.isEmpty()) {
+            throw notFound.apply(missing);
+        }
+        return byId;
+    }
+
     public void validateAtLeastOneRequiredPosition(ShiftTemplate template) {
         if (template.getRequiredPositions() == null || template.getRequiredPositions().isEmpty()) {
             throw new ShiftValidationException(
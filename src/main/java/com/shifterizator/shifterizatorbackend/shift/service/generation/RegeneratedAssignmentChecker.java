@@ -0,0 +1,176 @@
+package com.shifterizator.shifterizatorbackend.shift.service.generation;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeLanguage;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLanguageRepository;
+import com.shifterizator.shifterizatorbackend.notification.event.ShiftAssignmentRemovedEvent;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCoverageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Re-runs the assignment checks on the shifts a regeneration keeps, whose times and headcounts may have
+ * been rewritten in place. An assignment is released (soft-deleted, with its coverage counters given back)
+ * when the template no longer requires the employee's position, when its position is filled beyond the
+ * ideal count, or when it now overlaps another shift of the employee that day. Assignments are kept
+ * oldest first, and those on unchanged shifts before those on updated ones, so the updated shift gives way.
+ * The caller must hold the row locks of the kept shifts, taken before they were read.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegeneratedAssignmentChecker {
+
+    private final ShiftAssignmentRepository shiftAssignmentRepository;
+    private final EmployeeLanguageRepository employeeLanguageRepository;
+    private final ShiftInstanceCoverageService shiftInstanceCoverageService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * @return the released assignments
+     */
+    public List<ShiftAssignment> releaseInvalid(List<ShiftInstance> unchanged, List<ShiftInstance> updated,
+                                                LocalDateTime releasedAt) {
+        Map<Long, ShiftInstance> keptById = Stream.concat(unchanged.stream(), updated.stream())
+                .collect(Collectors.toMap(ShiftInstance::getId, Function.identity()));
+        if (keptById.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> updatedIds = updated.stream().map(ShiftInstance::getId).collect(Collectors.toSet());
+        List<ShiftAssignment> assignments = shiftAssignmentRepository
+                .findActiveWithEmployeeByShiftInstanceIds(keptById.keySet()).stream()
+                .sorted(Comparator.comparingInt(a -> updatedIds.contains(instanceIdOf(a)) ? 1 : 0))
+                .toList();
+        if (assignments.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<ShiftInstance>> bookedByEmployee = loadShiftsElsewhere(assignments, keptById);
+        Map<Long, Map<Long, Integer>> filledByInstance = new HashMap<>();
+        List<ShiftAssignment> released = new ArrayList<>();
+        for (ShiftAssignment assignment : assignments) {
+            ShiftInstance instance = keptById.get(instanceIdOf(assignment));
+            Employee employee = assignment.getEmployee();
+            Long positionId = positionIdOf(employee);
+            List<ShiftInstance> booked = bookedByEmployee.computeIfAbsent(employee.getId(), id -> new ArrayList<>());
+            Map<Long, Integer> filled = filledByInstance.computeIfAbsent(instance.getId(), id -> new HashMap<>());
+
+            String reason = rejectionReason(instance, positionId, filled, booked);
+            if (reason != null) {
+                log.info("Releasing assignment {} of employee {} from regenerated shift {}: {}",
+                        assignment.getId(), employee.getId(), instance.getId(), reason);
+                released.add(assignment);
+                continue;
+            }
+            filled.merge(positionId, 1, Integer::sum);
+            booked.add(instance);
+        }
+
+        release(released, keptById, releasedAt);
+        return released;
+    }
+
+    /**
+     * The employees' other active shifts in the window, at any location, that this regeneration does not touch.
+     */
+    private Map<Long, List<ShiftInstance>> loadShiftsElsewhere(List<ShiftAssignment> assignments,
+                                                               Map<Long, ShiftInstance> keptById) {
+        List<Long> employeeIds = assignments.stream().map(a -> a.getEmployee().getId()).distinct().toList();
+        LocalDate firstDay = keptById.values().stream().map(ShiftInstance::getDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate lastDay = keptById.values().stream().map(ShiftInstance::getDate).max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<Long, List<ShiftInstance>> bookedByEmployee = new HashMap<>();
+        for (ShiftAssignment other : shiftAssignmentRepository.findActiveByEmployeeIdsAndDateBetween(employeeIds, firstDay, lastDay)) {
+            if (!keptById.containsKey(instanceIdOf(other))) {
+                bookedByEmployee.computeIfAbsent(other.getEmployee().getId(), id -> new ArrayList<>())
+                        .add(other.getShiftInstance());
+            }
+        }
+        return bookedByEmployee;
+    }
+
+    /**
+     * Mirrors the position, capacity and overlap checks made when the assignment was created;
+     * returns {@code null} when the assignment still fits.
+     */
+    private static String rejectionReason(ShiftInstance instance, Long positionId, Map<Long, Integer> filled,
+                                          List<ShiftInstance> booked) {
+        ShiftTemplatePosition requirement = requirementFor(instance, positionId);
+        if (requirement == null || requirement.getRequiredCount() == null || requirement.getRequiredCount() == 0) {
+            return "position no longer required";
+        }
+        int cap = requirement.getIdealCount() != null ? requirement.getIdealCount() : requirement.getRequiredCount();
+        if (filled.getOrDefault(positionId, 0) >= cap) {
+            return String.format("position over capacity (max: %d)", cap);
+        }
+        if (booked.stream().anyMatch(other -> isOverlapping(instance, other))) {
+            return "overlaps another shift of the employee";
+        }
+        return null;
+    }
+
+    private void release(List<ShiftAssignment> released, Map<Long, ShiftInstance> keptById, LocalDateTime releasedAt) {
+        if (released.isEmpty()) {
+            return;
+        }
+        List<Long> employeeIds = released.stream().map(a -> a.getEmployee().getId()).distinct().toList();
+        Map<Long, Set<Long>> languageIdsByEmployee = new HashMap<>();
+        for (EmployeeLanguage el : employeeLanguageRepository.findByEmployee_IdIn(employeeIds)) {
+            languageIdsByEmployee.computeIfAbsent(el.getEmployee().getId(), id -> new HashSet<>())
+                    .add(el.getLanguage().getId());
+        }
+
+        for (ShiftAssignment assignment : released) {
+            assignment.setDeletedAt(releasedAt);
+            Employee employee = assignment.getEmployee();
+            shiftInstanceCoverageService.recordUnassigned(keptById.get(instanceIdOf(assignment)),
+                    positionIdOf(employee), languageIdsByEmployee.getOrDefault(employee.getId(), Set.of()));
+            applicationEventPublisher.publishEvent(new ShiftAssignmentRemovedEvent(assignment));
+        }
+    }
+
+    private static ShiftTemplatePosition requirementFor(ShiftInstance instance, Long positionId) {
+        if (positionId == null || instance.getShiftTemplate() == null || instance.getShiftTemplate().getRequiredPositions() == null) {
+            return null;
+        }
+        return instance.getShiftTemplate().getRequiredPositions().stream()
+                .filter(stp -> stp.getPosition() != null && positionId.equals(stp.getPosition().getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean isOverlapping(ShiftInstance shift1, ShiftInstance shift2) {
+        if (!shift1.getDate().equals(shift2.getDate())) {
+            return false;
+        }
+        return !shift1.getEndTime().isBefore(shift2.getStartTime())
+                && !shift1.getStartTime().isAfter(shift2.getEndTime());
+    }
+
+    private static Long instanceIdOf(ShiftAssignment assignment) {
+        return assignment.getShiftInstance().getId();
+    }
+
+    private static Long positionIdOf(Employee employee) {
+        return employee.getPosition() != null ? employee.getPosition().getId() : null;
+    }
+}
@@ -0,0 +1,123 @@
+package com.shifterizator.shifterizatorbackend.shift.service.generation;
+
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts generated shift instances with JDBC batches instead of one {@code save} per row.
+ * {@code ShiftInstance} uses IDENTITY ids, which stops Hibernate from batching inserts, so this
+ * goes straight to the table and copies the generated keys back onto the instances.
+ * Inserted instances are not attached to the persistence context.
+ */
+@Component
+@Slf4j
+public class ShiftInstanceBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO shift_instances
+                (shift_template_id, location_id, date, start_time, end_time, required_employees,
+                 ideal_employees, is_complete, assigned_count, notes, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ShiftInstanceBatchWriter(JdbcTemplate jdbcTemplate,
+                                    @Value("${shift.generation.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public BatchInsertResult insertAll(List<ShiftInstance> instances) {
+        if (instances.isEmpty()) {
+            return new BatchInsertResult(0, 0);
+        }
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < instances.size(); from += batchSize) {
+            insertChunk(instances.subList(from, Math.min(from + batchSize, instances.size())), now);
+        }
+
+        BatchInsertResult result = new BatchInsertResult(instances.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        log.info("Inserted {} shift instances in {} ms ({} rows/s)",
+                result.rows(), result.durationMs(), result.rowsPerSecond());
+        return result;
+    }
+
+    private void insertChunk(List<ShiftInstance> chunk, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, chunk.get(i), now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException(String.format(
+                    "Driver returned %d generated keys for a batch of %d shift instances", keys.size(), chunk.size()));
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            ShiftInstance instance = chunk.get(i);
+            instance.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            instance.setCreatedAt(now);
+            instance.setUpdatedAt(now);
+        }
+    }
+
+    private static void bind(PreparedStatement ps, ShiftInstance instance, LocalDateTime now) throws SQLException {
+        ps.setLong(1, instance.getShiftTemplate().getId());
+        ps.setLong(2, instance.getLocation().getId());
+        ps.setDate(3, Date.valueOf(instance.getDate()));
+        ps.setTime(4, Time.valueOf(instance.getStartTime()));
+        ps.setTime(5, Time.valueOf(instance.getEndTime()));
+        ps.setInt(6, instance.getRequiredEmployees());
+        if (instance.getIdealEmployees() != null) {
+            ps.setInt(7, instance.getIdealEmployees());
+        } else {
+            ps.setNull(7, Types.INTEGER);
+        }
+        ps.setBoolean(8, Boolean.TRUE.equals(instance.getIsComplete()));
+        ps.setInt(9, instance.getAssignedCount() != null ? instance.getAssignedCount() : 0);
+        ps.setString(10, instance.getNotes());
+        ps.setTimestamp(11, Timestamp.valueOf(now));
+        ps.setTimestamp(12, Timestamp.valueOf(now));
+    }
+
+    public record BatchInsertResult(int rows, long durationMs) {
+
+        public long rowsPerSecond() {
+            return rows * 1000L / Math.max(durationMs, 1);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.shifterizator.shifterizatorbackend.shift.service.generation;
+
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Difference between the shifts that exist in a window and the shifts generation would create for it.
+ * Shifts are matched on date and template; a matched existing shift is kept (with its id and assignments)
+ * and takes the desired times and headcounts. Existing duplicates beyond the first match are retired.
+ *
+ * @param inserted  desired shifts with no existing match, not yet persisted
+ * @param updated   existing shifts whose times or headcounts were changed in place
+ * @param unchanged existing shifts that already match
+ * @param retired   existing shifts that generation no longer calls for
+ */
+public record ShiftInstanceDiff(
+        List<ShiftInstance> inserted,
+        List<ShiftInstance> updated,
+        List<ShiftInstance> unchanged,
+        List<ShiftInstance> retired
+) {
+
+    public static ShiftInstanceDiff compute(List<ShiftInstance> existing, List<ShiftInstance> desired) {
+        Map<Key, Deque<ShiftInstance>> existingByKey = new LinkedHashMap<>();
+        for (ShiftInstance instance : existing) {
+            existingByKey.computeIfAbsent(Key.of(instance), k -> new ArrayDeque<>()).add(instance);
+        }
+
+        List<ShiftInstance> inserted = new ArrayList<>();
+        List<ShiftInstance> updated = new ArrayList<>();
+        List<ShiftInstance> unchanged = new ArrayList<>();
+
+        for (ShiftInstance wanted : desired) {
+            Deque<ShiftInstance> candidates = existingByKey.get(Key.of(wanted));
+            ShiftInstance match = candidates != null ? candidates.pollFirst() : null;
+            if (match == null) {
+                inserted.add(wanted);
+            } else if (copyChanges(wanted, match)) {
+                updated.add(match);
+            } else {
+                unchanged.add(match);
+            }
+        }
+
+        List<ShiftInstance> retired = existingByKey.values().stream()
+                .flatMap(Deque::stream)
+                .toList();
+
+        return new ShiftInstanceDiff(inserted, updated, unchanged, retired);
+    }
+
+    /**
+     * Shifts that are active in the window once the diff is applied.
+     */
+    public List<ShiftInstance> active() {
+        return Stream.of(unchanged, updated, inserted).flatMap(List::stream).toList();
+    }
+
+    private static boolean copyChanges(ShiftInstance from, ShiftInstance to) {
+        boolean changed = false;
+        if (!Objects.equals(from.getStartTime(), to.getStartTime())) {
+            to.setStartTime(from.getStartTime());
+            changed = true;
+        }
+        if (!Objects.equals(from.getEndTime(), to.getEndTime())) {
+            to.setEndTime(from.getEndTime());
+            changed = true;
+        }
+        if (!Objects.equals(from.getRequiredEmployees(), to.getRequiredEmployees())) {
+            to.setRequiredEmployees(from.getRequiredEmployees());
+            changed = true;
+        }
+        if (!Objects.equals(from.getIdealEmployees(), to.getIdealEmployees())) {
+            to.setIdealEmployees(from.getIdealEmployees());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private record Key(LocalDate date, Long templateId) {
+
+        static Key of(ShiftInstance instance) {
+            return new Key(instance.getDate(), instance.getShiftTemplate().getId());
+        }
+    }
+}
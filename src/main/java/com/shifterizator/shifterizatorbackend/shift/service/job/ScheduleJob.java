@@ -0,0 +1,84 @@
+package com.shifterizator.shifterizatorbackend.shift.service.job;
+
+import com.shifterizator.shifterizatorbackend.shift.service.ScheduleProgressListener;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory state of a background schedule-range run. Updated from worker threads and read by the
+ * polling endpoint, so all mutable state is either volatile or held in concurrent collections.
+ */
+@Getter
+public class ScheduleJob implements ScheduleProgressListener {
+
+    private final String id;
+    private final Long locationId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int totalDays;
+    private final LocalDateTime submittedAt;
+
+    private volatile ScheduleJobStatus status = ScheduleJobStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private final Map<LocalDate, DayResult> dayResults = new ConcurrentSkipListMap<>();
+
+    public ScheduleJob(String id, Long locationId, LocalDate startDate, LocalDate endDate) {
+        this.id = id;
+        this.locationId = locationId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        this.submittedAt = LocalDateTime.now();
+    }
+
+    public void markRunning() {
+        this.startedAt = LocalDateTime.now();
+        this.status = ScheduleJobStatus.RUNNING;
+    }
+
+    public void markCompleted() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = ScheduleJobStatus.COMPLETED;
+    }
+
+    public void markFailed(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ScheduleJobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == ScheduleJobStatus.COMPLETED || status == ScheduleJobStatus.FAILED;
+    }
+
+    public List<DayResult> getDays() {
+        return List.copyOf(dayResults.values());
+    }
+
+    @Override
+    public void onDayCompleted(LocalDate date, long durationMs) {
+        dayResults.put(date, new DayResult(date, ScheduleJobDayStatus.SCHEDULED, null, durationMs));
+    }
+
+    @Override
+    public void onDaySkipped(LocalDate date, String reason, long durationMs) {
+        dayResults.put(date, new DayResult(date, ScheduleJobDayStatus.SKIPPED, reason, durationMs));
+    }
+
+    @Override
+    public void onDayFailed(LocalDate date, String message, long durationMs) {
+        dayResults.put(date, new DayResult(date, ScheduleJobDayStatus.FAILED, message, durationMs));
+    }
+
+    public record DayResult(LocalDate date, ScheduleJobDayStatus status, String message, long durationMs) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.shifterizator.shifterizatorbackend.shift.service.job;
+
+public enum ScheduleJobDayStatus {
+    SCHEDULED,
+    SKIPPED,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.shifterizator.shifterizatorbackend.shift.service.job;
+
+public enum ScheduleJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
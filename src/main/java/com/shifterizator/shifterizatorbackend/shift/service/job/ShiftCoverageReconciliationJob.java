@@ -0,0 +1,60 @@
+package com.shifterizator.shifterizatorbackend.shift.service.job;
+
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCoverageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically walks every active shift instance and repairs coverage counters that no longer match the
+ * assignments, e.g. after an employee's languages changed or rows were edited outside the application.
+ * The first run after startup also fills in counters of instances created before they existed.
+ * Each chunk is reconciled in its own transaction so row locks are held briefly.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "shift.coverage.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class ShiftCoverageReconciliationJob {
+
+    private final ShiftInstanceRepository shiftInstanceRepository;
+    private final ShiftInstanceCoverageService shiftInstanceCoverageService;
+    private final int chunkSize;
+
+    public ShiftCoverageReconciliationJob(ShiftInstanceRepository shiftInstanceRepository,
+                                          ShiftInstanceCoverageService shiftInstanceCoverageService,
+                                          @Value("${shift.coverage.reconciliation.chunk-size:500}") int chunkSize) {
+        this.shiftInstanceRepository = shiftInstanceRepository;
+        this.shiftInstanceCoverageService = shiftInstanceCoverageService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(initialDelayString = "${shift.coverage.reconciliation.initial-delay:PT5M}",
+            fixedDelayString = "${shift.coverage.reconciliation.interval:PT24H}")
+    public void run() {
+        long afterId = 0L;
+        int checked = 0;
+        int repaired = 0;
+        List<Long> ids;
+        do {
+            ids = shiftInstanceRepository.findActiveIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            repaired += shiftInstanceCoverageService.reconcile(ids);
+            checked += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == chunkSize);
+
+        if (repaired > 0) {
+            log.warn("Coverage reconciliation repaired {} of {} shift instances", repaired, checked);
+        } else {
+            log.info("Coverage reconciliation checked {} shift instances, no drift", checked);
+        }
+    }
+}
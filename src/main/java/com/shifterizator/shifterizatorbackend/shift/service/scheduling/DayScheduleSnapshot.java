@@ -0,0 +1,159 @@
+package com.shifterizator.shifterizatorbackend.shift.service.scheduling;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory view of one location/day used by the scheduler. Holds everything the assignment rules need
+ * (instances, candidates, current coverage, busy slots, languages) so the scheduling passes run without
+ * going back to the database. Assignments planned during the run are recorded here and written as one batch.
+ */
+public class DayScheduleSnapshot {
+
+    @Getter
+    private final LocalDate date;
+    @Getter
+    private final List<ShiftInstance> instances;
+    @Getter
+    private final List<Employee> candidates;
+
+    private final Set<Long> companyEmployeeIds;
+    private final Map<Long, Set<Long>> languageIdsByEmployee;
+    private final Set<Long> assignedEmployeeIds;
+    private final Map<Long, Integer> assignedCountByInstance;
+    private final Map<Long, Map<Long, Integer>> assignedCountByInstanceAndPosition;
+    private final Map<Long, List<TimeSlot>> busySlotsByEmployee;
+    private final List<PlannedAssignment> plannedAssignments = new ArrayList<>();
+
+    public DayScheduleSnapshot(LocalDate date,
+                               List<ShiftInstance> instances,
+                               List<Employee> candidates,
+                               Set<Long> companyEmployeeIds,
+                               Map<Long, Set<Long>> languageIdsByEmployee,
+                               List<ExistingAssignment> existingAssignments) {
+        this.date = date;
+        this.instances = List.copyOf(instances);
+        this.candidates = List.copyOf(candidates);
+        this.companyEmployeeIds = Set.copyOf(companyEmployeeIds);
+        this.languageIdsByEmployee = Map.copyOf(languageIdsByEmployee);
+        this.assignedEmployeeIds = new HashSet<>();
+        this.assignedCountByInstance = new HashMap<>();
+        this.assignedCountByInstanceAndPosition = new HashMap<>();
+        this.busySlotsByEmployee = new HashMap<>();
+
+        Set<Long> instanceIds = new HashSet<>();
+        instances.forEach(i -> instanceIds.add(i.getId()));
+        for (ExistingAssignment existing : existingAssignments) {
+            if (instanceIds.contains(existing.shiftInstanceId())) {
+                record(existing.shiftInstanceId(), existing.employeeId(), existing.positionId());
+            }
+            addBusySlot(existing.employeeId(), existing.startTime(), existing.endTime());
+        }
+    }
+
+    public Set<Long> getLanguageIds(Long employeeId) {
+        return languageIdsByEmployee.getOrDefault(employeeId, Set.of());
+    }
+
+    public boolean isAssignedToday(Long employeeId) {
+        return assignedEmployeeIds.contains(employeeId);
+    }
+
+    public int getAssignedCount(ShiftInstance instance) {
+        return assignedCountByInstance.getOrDefault(instance.getId(), 0);
+    }
+
+    public Map<Long, Integer> getAssignedCountByPosition(ShiftInstance instance) {
+        return Collections.unmodifiableMap(
+                assignedCountByInstanceAndPosition.getOrDefault(instance.getId(), Map.of()));
+    }
+
+    public List<PlannedAssignment> getPlannedAssignments() {
+        return Collections.unmodifiableList(plannedAssignments);
+    }
+
+    /**
+     * Applies the same rules as the assignment validator against the in-memory state: company membership,
+     * not already on this day's shifts, position required with remaining capacity and no overlapping shift.
+     */
+    public boolean canAssign(Employee employee, ShiftInstance instance) {
+        if (!companyEmployeeIds.contains(employee.getId()) || isAssignedToday(employee.getId())) {
+            return false;
+        }
+        if (employee.getPosition() == null || instance.getShiftTemplate() == null) {
+            return false;
+        }
+        Long positionId = employee.getPosition().getId();
+        ShiftTemplatePosition positionReq = findPositionRequirement(instance, positionId);
+        if (positionReq == null || positionReq.getRequiredCount() == null || positionReq.getRequiredCount() == 0) {
+            return false;
+        }
+        int cap = positionReq.getIdealCount() != null ? positionReq.getIdealCount() : positionReq.getRequiredCount();
+        int assignedForPosition = getAssignedCountByPosition(instance).getOrDefault(positionId, 0);
+        if (assignedForPosition + 1 > cap) {
+            return false;
+        }
+        return busySlotsByEmployee.getOrDefault(employee.getId(), List.of()).stream()
+                .noneMatch(slot -> slot.overlaps(instance.getStartTime(), instance.getEndTime()));
+    }
+
+    public void assign(Employee employee, ShiftInstance instance) {
+        record(instance.getId(), employee.getId(), employee.getPosition().getId());
+        addBusySlot(employee.getId(), instance.getStartTime(), instance.getEndTime());
+        plannedAssignments.add(new PlannedAssignment(instance, employee));
+    }
+
+    private ShiftTemplatePosition findPositionRequirement(ShiftInstance instance, Long positionId) {
+        var requiredPositions = instance.getShiftTemplate().getRequiredPositions();
+        if (requiredPositions == null) {
+            return null;
+        }
+        return requiredPositions.stream()
+                .filter(stp -> stp.getPosition() != null && stp.getPosition().getId().equals(positionId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void record(Long shiftInstanceId, Long employeeId, Long positionId) {
+        assignedEmployeeIds.add(employeeId);
+        assignedCountByInstance.merge(shiftInstanceId, 1, Integer::sum);
+        if (positionId != null) {
+            assignedCountByInstanceAndPosition
+                    .computeIfAbsent(shiftInstanceId, k -> new HashMap<>())
+                    .merge(positionId, 1, Integer::sum);
+        }
+    }
+
+    private void addBusySlot(Long employeeId, LocalTime start, LocalTime end) {
+        busySlotsByEmployee.computeIfAbsent(employeeId, k -> new ArrayList<>()).add(new TimeSlot(start, end));
+    }
+
+    /**
+     * Active assignment already stored for a candidate on the scheduled date (at this or any other location).
+     */
+    public record ExistingAssignment(Long shiftInstanceId, Long employeeId, Long positionId,
+                                     LocalTime startTime, LocalTime endTime) {
+    }
+
+    public record PlannedAssignment(ShiftInstance shiftInstance, Employee employee) {
+    }
+
+    private record TimeSlot(LocalTime start, LocalTime end) {
+
+        boolean overlaps(LocalTime otherStart, LocalTime otherEnd) {
+            return !otherEnd.isBefore(start) && !otherStart.isAfter(end);
+        }
+    }
+}
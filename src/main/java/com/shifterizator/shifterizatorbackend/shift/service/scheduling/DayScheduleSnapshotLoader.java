@@ -0,0 +1,71 @@
+package com.shifterizator.shifterizatorbackend.shift.service.scheduling;
+
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeLanguage;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeCompanyRepository;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLanguageRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a {@link DayScheduleSnapshot} with a fixed number of queries, independent of how many
+ * shifts or candidates the day has.
+ */
+@Component
+@RequiredArgsConstructor
+public class DayScheduleSnapshotLoader {
+
+    private final ShiftAssignmentRepository shiftAssignmentRepository;
+    private final EmployeeCompanyRepository employeeCompanyRepository;
+    private final EmployeeLanguageRepository employeeLanguageRepository;
+
+    public DayScheduleSnapshot load(Location location, LocalDate date,
+                                    List<ShiftInstance> instances, List<Employee> candidates) {
+        List<Long> candidateIds = candidates.stream().map(Employee::getId).toList();
+
+        Set<Long> companyEmployeeIds = new HashSet<>(
+                employeeCompanyRepository.findEmployeeIdsInCompany(location.getCompany().getId(), candidateIds));
+
+        Map<Long, Set<Long>> languageIdsByEmployee = employeeLanguageRepository.findByEmployee_IdIn(candidateIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        el -> el.getEmployee().getId(),
+                        Collectors.mapping(el -> el.getLanguage().getId(), Collectors.toSet())));
+
+        List<DayScheduleSnapshot.ExistingAssignment> existing = shiftAssignmentRepository
+                .findActiveByDateForLocationOrEmployees(location.getId(), date, candidateIds)
+                .stream()
+                .map(DayScheduleSnapshotLoader::toExisting)
+                .toList();
+
+        instances.forEach(DayScheduleSnapshotLoader::initializeLanguageRequirements);
+
+        return new DayScheduleSnapshot(date, instances, candidates, companyEmployeeIds,
+                languageIdsByEmployee, existing);
+    }
+
+    private static DayScheduleSnapshot.ExistingAssignment toExisting(ShiftAssignment assignment) {
+        ShiftInstance instance = assignment.getShiftInstance();
+        Employee employee = assignment.getEmployee();
+        Long positionId = employee.getPosition() != null ? employee.getPosition().getId() : null;
+        return new DayScheduleSnapshot.ExistingAssignment(
+                instance.getId(), employee.getId(), positionId, instance.getStartTime(), instance.getEndTime());
+    }
+
+    private static void initializeLanguageRequirements(ShiftInstance instance) {
+        if (instance.getShiftTemplate() != null && instance.getShiftTemplate().getRequiredLanguageRequirements() != null) {
+            instance.getShiftTemplate().getRequiredLanguageRequirements().size();
+        }
+    }
+}
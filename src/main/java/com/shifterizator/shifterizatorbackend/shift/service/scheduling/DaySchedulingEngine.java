@@ -0,0 +1,83 @@
+package com.shifterizator.shifterizatorbackend.shift.service.scheduling;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.service.advisor.CandidateTierMatrix;
+import com.shifterizator.shifterizatorbackend.shift.service.advisor.ShiftCandidateTierService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the scheduling passes (minimums, ideal, language distribution) against a {@link DayScheduleSnapshot}.
+ * Nothing is persisted here; successful picks are recorded as planned assignments on the snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+public class DaySchedulingEngine {
+
+    private final ShiftCandidateTierService shiftCandidateTierService;
+
+    public void run(DayScheduleSnapshot snapshot) {
+        CandidateTierMatrix tiers = shiftCandidateTierService.buildMatrix(snapshot.getDate(),
+                snapshot.getInstances(), snapshot.getCandidates(), snapshot::getLanguageIds);
+        fillMinimumsForAllShifts(snapshot, tiers);
+        fillUpToIdealByPriority(snapshot, tiers);
+        improveLanguageDistribution(snapshot, tiers);
+    }
+
+    private void fillMinimumsForAllShifts(DayScheduleSnapshot snapshot, CandidateTierMatrix tiers) {
+        for (ShiftInstance instance : snapshot.getInstances()) {
+            fillShiftUpTo(snapshot, tiers, instance, getRequiredEmployeesSafe(instance));
+        }
+    }
+
+    private void fillUpToIdealByPriority(DayScheduleSnapshot snapshot, CandidateTierMatrix tiers) {
+        for (ShiftInstance instance : snapshot.getInstances()) {
+            int target = getIdealTarget(instance);
+            if (snapshot.getAssignedCount(instance) >= target) {
+                continue;
+            }
+            fillShiftUpTo(snapshot, tiers, instance, target);
+        }
+    }
+
+    private void improveLanguageDistribution(DayScheduleSnapshot snapshot, CandidateTierMatrix tiers) {
+        for (ShiftInstance instance : snapshot.getInstances()) {
+            if (snapshot.getAssignedCount(instance) >= getIdealTarget(instance)) {
+                continue;
+            }
+            tryAssignNext(snapshot, tiers, instance);
+        }
+    }
+
+    private void fillShiftUpTo(DayScheduleSnapshot snapshot, CandidateTierMatrix tiers, ShiftInstance instance,
+                               int targetCount) {
+        while (snapshot.getAssignedCount(instance) < targetCount) {
+            if (!tryAssignNext(snapshot, tiers, instance)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Assigns the best-tiered candidate that can still take the instance. The snapshot rules only get stricter
+     * as the day fills up, so candidates rejected once are skipped by the matrix from then on.
+     */
+    private boolean tryAssignNext(DayScheduleSnapshot snapshot, CandidateTierMatrix tiers, ShiftInstance instance) {
+        Employee employee = tiers.nextCandidate(instance, e -> snapshot.canAssign(e, instance));
+        if (employee == null) {
+            return false;
+        }
+        snapshot.assign(employee, instance);
+        return true;
+    }
+
+    private int getIdealTarget(ShiftInstance instance) {
+        int required = getRequiredEmployeesSafe(instance);
+        return instance.getIdealEmployees() != null ? instance.getIdealEmployees() : required;
+    }
+
+    private int getRequiredEmployeesSafe(ShiftInstance instance) {
+        return instance.getRequiredEmployees() != null ? instance.getRequiredEmployees() : 1;
+    }
+}
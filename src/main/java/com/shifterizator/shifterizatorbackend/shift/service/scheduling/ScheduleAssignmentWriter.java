@@ -0,0 +1,48 @@
+package com.shifterizator.shifterizatorbackend.shift.service.scheduling;
+
+import com.shifterizator.shifterizatorbackend.notification.event.ShiftAssignmentCreatedEvent;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCoverageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Persists the assignments planned on a {@link DayScheduleSnapshot} in one batch and adds them to the
+ * coverage counters of their instances, using the languages already loaded on the snapshot.
+ * The caller must hold the row locks of the day's instances, taken before the snapshot was loaded.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleAssignmentWriter {
+
+    private final ShiftAssignmentRepository shiftAssignmentRepository;
+    private final ShiftInstanceCoverageService shiftInstanceCoverageService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public List<ShiftAssignment> write(DayScheduleSnapshot snapshot) {
+        List<ShiftAssignment> assignments = snapshot.getPlannedAssignments().stream()
+                .map(planned -> ShiftAssignment.builder()
+                        .shiftInstance(planned.shiftInstance())
+                        .employee(planned.employee())
+                        .isConfirmed(false)
+                        .build())
+                .toList();
+        if (assignments.isEmpty()) {
+            return List.of();
+        }
+
+        List<ShiftAssignment> saved = shiftAssignmentRepository.saveAll(assignments);
+
+        for (DayScheduleSnapshot.PlannedAssignment planned : snapshot.getPlannedAssignments()) {
+            shiftInstanceCoverageService.recordAssigned(planned.shiftInstance(),
+                    planned.employee().getPosition().getId(), snapshot.getLanguageIds(planned.employee().getId()));
+        }
+
+        saved.forEach(assignment -> applicationEventPublisher.publishEvent(new ShiftAssignmentCreatedEvent(assignment)));
+        return saved;
+    }
+}
@@ -0,0 +1,76 @@
+package com.shifterizator.shifterizatorbackend.shift.service.scheduling;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.shift.repository.EmployeeShiftCount;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shifts per employee in one week, loaded with a grouped count the first time an employee is seen and then
+ * kept up to date in memory as the scheduler assigns. Assignments made while scheduling a day are held as
+ * pending until the day's transaction commits, so a failed day does not count towards the cap.
+ * Not thread-safe: one tracker belongs to the single thread scheduling its week.
+ */
+public class WeekLoadTracker {
+
+    public static final int DEFAULT_SHIFTS_PER_WEEK = 5;
+
+    private final LocalDate weekStart;
+    private final LocalDate weekEnd;
+    private final Map<Long, Integer> countByEmployee = new HashMap<>();
+    private final List<Long> pending = new ArrayList<>();
+
+    public WeekLoadTracker(LocalDate weekStart, LocalDate weekEnd) {
+        this.weekStart = weekStart;
+        this.weekEnd = weekEnd;
+    }
+
+    /**
+     * Loads counts for the employees not seen yet in one query; employees without assignments count as zero.
+     */
+    public void ensureLoaded(Collection<Long> employeeIds, ShiftAssignmentRepository shiftAssignmentRepository) {
+        List<Long> missing = employeeIds.stream()
+                .filter(id -> !countByEmployee.containsKey(id))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        missing.forEach(id -> countByEmployee.put(id, 0));
+        for (EmployeeShiftCount row : shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(missing, weekStart, weekEnd)) {
+            countByEmployee.put(row.employeeId(), (int) row.count());
+        }
+    }
+
+    public boolean hasCapacity(Employee employee) {
+        int maxAllowed = employee.getShiftsPerWeek() != null ? employee.getShiftsPerWeek() : DEFAULT_SHIFTS_PER_WEEK;
+        return getCount(employee.getId()) < maxAllowed;
+    }
+
+    public int getCount(Long employeeId) {
+        Integer count = countByEmployee.get(employeeId);
+        if (count == null) {
+            throw new IllegalStateException("Week load not loaded for employee " + employeeId);
+        }
+        return count;
+    }
+
+    public void recordPending(Long employeeId) {
+        pending.add(employeeId);
+    }
+
+    public void commitPending() {
+        pending.forEach(id -> countByEmployee.merge(id, 1, Integer::sum));
+        pending.clear();
+    }
+
+    public void discardPending() {
+        pending.clear();
+    }
+}
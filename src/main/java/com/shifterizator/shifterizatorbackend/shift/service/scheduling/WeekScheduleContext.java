@@ -0,0 +1,10 @@
+package com.shifterizator.shifterizatorbackend.shift.service.scheduling;
+
+import com.shifterizator.shifterizatorbackend.availability.index.AvailabilityIndex;
+
+/**
+ * State shared by the days of one week while a range is scheduled: availabilities loaded for the week and the
+ * running shifts-per-week counts.
+ */
+public record WeekScheduleContext(AvailabilityIndex availability, WeekLoadTracker weekLoad) {
+}
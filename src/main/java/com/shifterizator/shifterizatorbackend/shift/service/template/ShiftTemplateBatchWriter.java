@@ -0,0 +1,144 @@
+package com.shifterizator.shifterizatorbackend.shift.service.template;
+
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts shift templates and their position and language requirements with JDBC batches instead of one
+ * {@code save} per row; the IDENTITY ids keep Hibernate from batching them. Template ids are copied back onto
+ * the templates before their requirements are written. Inserted templates are not attached to the
+ * persistence context and, being new rows, leave nothing stale in the reference data cache.
+ */
+@Component
+@Slf4j
+public class ShiftTemplateBatchWriter {
+
+    private static final String INSERT_TEMPLATE_SQL = """
+            INSERT INTO shift_templates
+                (location_id, start_time, end_time, required_employees, ideal_employees, description,
+                 is_active, priority_order, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_POSITION_SQL = """
+            INSERT INTO shift_template_positions (shift_template_id, position_id, required_count, ideal_count)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_LANGUAGE_SQL = """
+            INSERT INTO shift_template_language_requirements (shift_template_id, language_id, required_count)
+            VALUES (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ShiftTemplateBatchWriter(JdbcTemplate jdbcTemplate,
+                                    @Value("${shift.template-import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void insertAll(List<ShiftTemplate> templates) {
+        if (templates.isEmpty()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < templates.size(); from += batchSize) {
+            insertTemplates(templates.subList(from, Math.min(from + batchSize, templates.size())), now);
+        }
+        List<ShiftTemplatePosition> positions = templates.stream()
+                .flatMap(template -> template.getRequiredPositions().stream())
+                .toList();
+        List<ShiftTemplateLanguageRequirement> languages = templates.stream()
+                .flatMap(template -> template.getRequiredLanguageRequirements().stream())
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_POSITION_SQL, positions, batchSize, (ps, stp) -> {
+            ps.setLong(1, stp.getShiftTemplate().getId());
+            ps.setLong(2, stp.getPosition().getId());
+            ps.setInt(3, stp.getRequiredCount());
+            setNullableInt(ps, 4, stp.getIdealCount());
+        });
+        jdbcTemplate.batchUpdate(INSERT_LANGUAGE_SQL, languages, batchSize, (ps, req) -> {
+            ps.setLong(1, req.getShiftTemplate().getId());
+            ps.setLong(2, req.getLanguage().getId());
+            ps.setInt(3, req.getRequiredCount());
+        });
+
+        log.info("Inserted {} shift templates with {} position and {} language requirements in {} ms",
+                templates.size(), positions.size(), languages.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private void insertTemplates(List<ShiftTemplate> chunk, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_TEMPLATE_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, chunk.get(i), now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException(String.format(
+                    "Driver returned %d generated keys for a batch of %d shift templates", keys.size(), chunk.size()));
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            ShiftTemplate template = chunk.get(i);
+            template.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            template.setCreatedAt(now);
+            template.setUpdatedAt(now);
+        }
+    }
+
+    private static void bind(PreparedStatement ps, ShiftTemplate template, LocalDateTime now) throws SQLException {
+        ps.setLong(1, template.getLocation().getId());
+        ps.setTime(2, Time.valueOf(template.getStartTime()));
+        ps.setTime(3, Time.valueOf(template.getEndTime()));
+        ps.setInt(4, template.getRequiredEmployees());
+        setNullableInt(ps, 5, template.getIdealEmployees());
+        ps.setString(6, template.getDescription());
+        ps.setBoolean(7, !Boolean.FALSE.equals(template.getIsActive()));
+        setNullableInt(ps, 8, template.getPriority());
+        ps.setTimestamp(9, Timestamp.valueOf(now));
+        ps.setTimestamp(10, Timestamp.valueOf(now));
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package com.shifterizator.shifterizatorbackend.shift.service.validator;
 
-import com.shifterizator.shifterizatorbackend.availability.model.AvailabilityType;
-import com.shifterizator.shifterizatorbackend.availability.model.EmployeeAvailability;
-import com.shifterizator.shifterizatorbackend.availability.repository.EmployeeAvailabilityRepository;
+import com.shifterizator.shifterizatorbackend.availability.index.AvailabilityIndexLoader;
 import com.shifterizator.shifterizatorbackend.employee.model.Employee;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
@@ -11,6 +9,7 @@ import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRe
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Component
@@ -18,7 +17,7 @@ import java.util.List;
 public class ShiftAssignmentValidatorImpl implements ShiftAssignmentValidator {
 
     private final ShiftAssignmentRepository shiftAssignmentRepository;
-    private final EmployeeAvailabilityRepository employeeAvailabilityRepository;
+    private final AvailabilityIndexLoader availabilityIndexLoader;
 
     @Override
     public void validateNotAlreadyAssigned(Long shiftInstanceId, Long employeeId) {
@@ -29,17 +28,13 @@ public class ShiftAssignmentValidatorImpl implements ShiftAssignmentValidator {
     }
 
     @Override
-    public void validateEmployeeAvailability(Long employeeId, java.time.LocalDate date) {
-        List<EmployeeAvailability> availabilities = employeeAvailabilityRepository.findOverlapping(
-                employeeId, date, date, null);
-
-        for (EmployeeAvailability availability : availabilities) {
-            AvailabilityType type = availability.getType();
-            if (type.isBlocking()) {
-                throw new ShiftValidationException(
-                        String.format("Employee is marked as %s on this date", type.name()));
-            }
-        }
+    public void validateEmployeeAvailability(Long employeeId, LocalDate date) {
+        availabilityIndexLoader.loadForEmployee(employeeId, date, date)
+                .findBlockingType(employeeId, date)
+                .ifPresent(type -> {
+                    throw new ShiftValidationException(
+                            String.format("Employee is marked as %s on this date", type.name()));
+                });
     }
 
     @Override
@@ -59,7 +59,7 @@ public class UploadController {
     private String buildKey(UploadUrlRequestDto dto) {
         String ext = extensionFromContentType(dto.contentType());
         if ("user".equals(dto.scope())) {
-            long userId = currentUserService.getCurrentUser().getId();
+            long userId = currentUserService.getCurrentUserId();
             return "users/" + userId + "/avatar." + ext;
         }
         if (dto.entityId() == null) {
@@ -139,7 +139,7 @@ public class UserController {
     })
     @PatchMapping("/me/profile-picture")
     public ResponseEntity<UserResponseDto> updateMyProfilePicture(@Valid @RequestBody ProfilePictureUpdateDto dto) {
-        long userId = currentUserService.getCurrentUser().getId();
+        long userId = currentUserService.getCurrentUserId();
         User updated = userService.updateProfilePicture(userId, dto.profilePictureUrl());
         return ResponseEntity.ok(userMapper.toDto(updated));
     }
@@ -1,5 +1,7 @@
 package com.shifterizator.shifterizatorbackend.user.service;
 
+import com.shifterizator.shifterizatorbackend.auth.jwt.TokenVersionRegistry;
+import com.shifterizator.shifterizatorbackend.auth.service.PrincipalCache;
 import com.shifterizator.shifterizatorbackend.company.exception.CompanyNotFoundException;
 import com.shifterizator.shifterizatorbackend.company.model.Company;
 import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
@@ -35,6 +37,8 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final CompanyRepository companyRepository;
+    private final PrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
 
     @Override
@@ -59,6 +63,7 @@ public class UserServiceImpl implements UserService {
         User user = validateUserExistsAndReturnUser(id);
 
         validateUpdateConstraints(requestDto, user);
+        revokeAuthentication(user);
 
         user.setUsername(requestDto.username());
         user.setEmail(requestDto.email());
@@ -85,6 +90,7 @@ public class UserServiceImpl implements UserService {
         User user = validateUserExistsAndReturnUser(id);
 
         user.setIsActive(false);
+        revokeAuthentication(user);
 
         return userRepository.save(user);
 
@@ -97,6 +103,7 @@ public class UserServiceImpl implements UserService {
         User user = validateUserExistsAndReturnUser(id);
 
         user.setIsActive(true);
+        principalCache.invalidate(user.getUsername());
 
         return userRepository.save(user);
 
@@ -118,6 +125,7 @@ public class UserServiceImpl implements UserService {
             throw new ForbiddenOperationException("System user cannot be deleted");
         }
 
+        revokeAuthentication(user);
         if (physicalDelete) {
             userRepository.delete(user);
         } else {
@@ -181,9 +189,18 @@ public class UserServiceImpl implements UserService {
     public User resetPassword(Long id, String newPassword) {
         User user = findByIdOrThrow(id);
         user.setPassword(passwordEncoder.encode(newPassword));
+        revokeAuthentication(user);
         return userRepository.save(user);
     }
 
+    /**
+     * Drops the cached principal and revokes access tokens already issued, whose claims may no longer hold.
+     */
+    private void revokeAuthentication(User user) {
+        principalCache.invalidate(user.getUsername());
+        tokenVersionRegistry.revoke(user.getId());
+    }
+
     private void validateUniqueUsername(String username) {
         if (userRepository.existsByUsername(username)) {
             throw new UserAlreadyExistsException("Username already exists: " + username);
@@ -0,0 +1,7 @@
+-- The feed pages on (created_at, id). Runs after V9 so user_id stays indexed for its foreign key
+-- while this index is redefined.
+
+alter table notifications
+   drop index ix_notifications_user_created,
+   add index ix_notifications_user_created (user_id, created_at, id),
+   algorithm=inplace, lock=none;
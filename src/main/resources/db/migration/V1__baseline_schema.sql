@@ -0,0 +1,429 @@
+-- Schema as created by Hibernate (ddl-auto) before migrations were introduced.
+-- Databases that already have these tables are baselined at this version instead of running it.
+
+create table blackout_days (
+    applies_to_company bit not null,
+    date date not null,
+    created_at datetime(6) not null,
+    deleted_at datetime(6),
+    id bigint not null auto_increment,
+    location_id bigint not null,
+    updated_at datetime(6),
+    reason varchar(200) not null,
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table companies (
+    is_active bit not null,
+    created_at datetime(6),
+    deleted_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    country varchar(255),
+    created_by varchar(255),
+    email varchar(255) not null,
+    legal_name varchar(255),
+    name varchar(255) not null,
+    phone varchar(255),
+    tax_id varchar(255) not null,
+    updated_by varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table employee_availabilities (
+    end_date date not null,
+    start_date date not null,
+    created_at datetime(6) not null,
+    deleted_at datetime(6),
+    employee_id bigint not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    created_by varchar(255),
+    updated_by varchar(255),
+    type enum ('AVAILABLE','PERSONAL_LEAVE','SICK_LEAVE','UNAVAILABLE','UNJUSTIFIED_ABSENCE','VACATION') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table employee_companies (
+    company_id bigint not null,
+    employee_id bigint not null,
+    id bigint not null auto_increment,
+    primary key (id)
+) engine=InnoDB;
+
+create table employee_languages (
+    employee_id bigint not null,
+    id bigint not null auto_increment,
+    language_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table employee_locations (
+    employee_id bigint not null,
+    id bigint not null auto_increment,
+    location_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table employee_shift_preferences (
+    priority_order integer,
+    employee_id bigint not null,
+    id bigint not null auto_increment,
+    shift_template_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table employees (
+    shifts_per_week integer,
+    created_at datetime(6) not null,
+    deleted_at datetime(6),
+    id bigint not null auto_increment,
+    position_id bigint not null,
+    updated_at datetime(6),
+    user_id bigint,
+    profile_picture_url varchar(512),
+    created_by varchar(255),
+    email varchar(255),
+    name varchar(255) not null,
+    phone varchar(255),
+    surname varchar(255) not null,
+    updated_by varchar(255),
+    preferred_day_off enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY'),
+    primary key (id)
+) engine=InnoDB;
+
+create table languages (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    code varchar(10) not null,
+    name varchar(50) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table location_open_days (
+    location_id bigint not null,
+    day_of_week enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY') not null,
+    primary key (location_id, day_of_week)
+) engine=InnoDB;
+
+create table locations (
+    company_id bigint not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    address varchar(255) not null,
+    name varchar(255) not null,
+    first_day_of_week enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY'),
+    primary key (id)
+) engine=InnoDB;
+
+create table notifications (
+    is_read bit not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    related_entity_id bigint,
+    user_id bigint not null,
+    related_entity_type varchar(64),
+    body varchar(1000),
+    title varchar(255) not null,
+    type enum ('SHIFT_ASSIGNED','SHIFT_UNASSIGNED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table positions (
+    company_id bigint not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table shift_assignments (
+    is_confirmed bit not null,
+    assigned_at datetime(6) not null,
+    confirmed_at datetime(6),
+    deleted_at datetime(6),
+    employee_id bigint not null,
+    id bigint not null auto_increment,
+    shift_instance_id bigint not null,
+    assigned_by varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table shift_instances (
+    date date not null,
+    end_time time(0) not null,
+    ideal_employees integer,
+    is_complete bit not null,
+    required_employees integer not null,
+    start_time time(0) not null,
+    created_at datetime(6) not null,
+    deleted_at datetime(6),
+    id bigint not null auto_increment,
+    location_id bigint not null,
+    shift_template_id bigint not null,
+    updated_at datetime(6),
+    notes varchar(200),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table shift_template_language_requirements (
+    required_count integer not null,
+    id bigint not null auto_increment,
+    language_id bigint not null,
+    shift_template_id bigint not null,
+    primary key (id),
+    check ((required_count>=0))
+) engine=InnoDB;
+
+create table shift_template_positions (
+    ideal_count integer,
+    required_count integer not null,
+    id bigint not null auto_increment,
+    position_id bigint not null,
+    shift_template_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table shift_templates (
+    end_time time(0) not null,
+    ideal_employees integer,
+    is_active bit not null,
+    priority_order integer,
+    required_employees integer not null,
+    start_time time(0) not null,
+    created_at datetime(6) not null,
+    deleted_at datetime(6),
+    id bigint not null auto_increment,
+    location_id bigint not null,
+    updated_at datetime(6),
+    description varchar(200),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table special_opening_hours (
+    applies_to_company bit not null,
+    close_time time(0) not null,
+    date date not null,
+    open_time time(0) not null,
+    created_at datetime(6) not null,
+    deleted_at datetime(6),
+    id bigint not null auto_increment,
+    location_id bigint not null,
+    updated_at datetime(6),
+    color_code varchar(20),
+    reason varchar(200) not null,
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    is_active bit not null,
+    is_system_user bit not null,
+    company_id bigint,
+    created_at datetime(6),
+    deleted_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    profile_picture_url varchar(512),
+    created_by varchar(255),
+    email varchar(255) not null,
+    password varchar(255) not null,
+    phone varchar(255),
+    updated_by varchar(255),
+    username varchar(255) not null,
+    role enum ('COMPANYADMIN','EMPLOYEE','READONLYMANAGER','SHIFTMANAGER','SUPERADMIN') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table companies
+   add constraint UKqjgsqh1oq7xhof2tdte9l7e2b unique (email);
+
+alter table companies
+   add constraint UK3rwiitcpynth8k187vsmivxbk unique (tax_id);
+
+alter table employee_companies
+   add constraint uk_employee_company unique (employee_id, company_id);
+
+alter table employee_languages
+   add constraint uk_employee_language unique (employee_id, language_id);
+
+alter table employee_locations
+   add constraint uk_employee_location unique (employee_id, location_id);
+
+alter table employee_shift_preferences
+   add constraint uk_employee_shift_template unique (employee_id, shift_template_id);
+
+alter table employees
+   add constraint UKj2dmgsma6pont6kf7nic9elpd unique (user_id);
+
+alter table languages
+   add constraint uk_language_code unique (code);
+
+alter table locations
+   add constraint uk_location_name_company unique (name, company_id);
+
+create index ix_notifications_user_created
+   on notifications (user_id, created_at);
+
+alter table positions
+   add constraint uk_position_name_company unique (name, company_id);
+
+alter table shift_assignments
+   add constraint uk_shift_instance_employee unique (shift_instance_id, employee_id);
+
+alter table shift_template_language_requirements
+   add constraint uk_shift_template_language unique (shift_template_id, language_id);
+
+alter table shift_template_positions
+   add constraint uk_shift_template_position unique (shift_template_id, position_id);
+
+alter table users
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users
+   add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table blackout_days
+   add constraint FKp6ifk7as6ln4f3t2jwtg3otbk
+   foreign key (location_id)
+   references locations (id);
+
+alter table employee_availabilities
+   add constraint FKpxn3nk7wgi7a40heyycg6glim
+   foreign key (employee_id)
+   references employees (id);
+
+alter table employee_companies
+   add constraint FKjnpgg9xhxghlpqk02j06d8pec
+   foreign key (company_id)
+   references companies (id);
+
+alter table employee_companies
+   add constraint FKjnu7oske5ih1yo85hlfbmr2wk
+   foreign key (employee_id)
+   references employees (id);
+
+alter table employee_languages
+   add constraint FK5k7v26wo0nr4fp419fubb4e7d
+   foreign key (employee_id)
+   references employees (id);
+
+alter table employee_languages
+   add constraint FKaaxlv8pidljysmp8ovwne6gwf
+   foreign key (language_id)
+   references languages (id);
+
+alter table employee_locations
+   add constraint FKbbxejevoq16pjs2oasybmwhp9
+   foreign key (employee_id)
+   references employees (id);
+
+alter table employee_locations
+   add constraint FKg0ivx68sanhv573shs0k84vsn
+   foreign key (location_id)
+   references locations (id);
+
+alter table employee_shift_preferences
+   add constraint FK61l390wtfuclcdvathcuchs1f
+   foreign key (employee_id)
+   references employees (id);
+
+alter table employee_shift_preferences
+   add constraint FKjgaehwrti0ml212fd6bkx6qrp
+   foreign key (shift_template_id)
+   references shift_templates (id);
+
+alter table employees
+   add constraint FKngcpgx7fx5kednw3m7u0u8of3
+   foreign key (position_id)
+   references positions (id);
+
+alter table employees
+   add constraint FK69x3vjuy1t5p18a5llb8h2fjx
+   foreign key (user_id)
+   references users (id);
+
+alter table location_open_days
+   add constraint FK9w0com252lrifykf27iqa6159
+   foreign key (location_id)
+   references locations (id);
+
+alter table locations
+   add constraint FKbiaa8rb5x5a3o7ri73q0b5og7
+   foreign key (company_id)
+   references companies (id);
+
+alter table notifications
+   add constraint FK9y21adhxn0ayjhfocscqox7bh
+   foreign key (user_id)
+   references users (id);
+
+alter table positions
+   add constraint FKcp04rkt24x05oleew0hliak1b
+   foreign key (company_id)
+   references companies (id);
+
+alter table shift_assignments
+   add constraint FKbfmt35sngf827e1fldbpvdi8a
+   foreign key (employee_id)
+   references employees (id);
+
+alter table shift_assignments
+   add constraint FKmdq2kaiimnq8jkxabvfhswdjh
+   foreign key (shift_instance_id)
+   references shift_instances (id);
+
+alter table shift_instances
+   add constraint FK3fblwtde185vu07thnv5soorm
+   foreign key (location_id)
+   references locations (id);
+
+alter table shift_instances
+   add constraint FKmleesbj3unq39msnguvq2jp17
+   foreign key (shift_template_id)
+   references shift_templates (id);
+
+alter table shift_template_language_requirements
+   add constraint FKdysv1ykfxhtdvafbf5irh2nur
+   foreign key (language_id)
+   references languages (id);
+
+alter table shift_template_language_requirements
+   add constraint FKbn02fbrsewqlejnfwff39gfk
+   foreign key (shift_template_id)
+   references shift_templates (id);
+
+alter table shift_template_positions
+   add constraint FKj7prmrexf4dtjs02guyrc4mu7
+   foreign key (position_id)
+   references positions (id);
+
+alter table shift_template_positions
+   add constraint FK7diyl4jy4nohwatuoj195bpih
+   foreign key (shift_template_id)
+   references shift_templates (id);
+
+alter table shift_templates
+   add constraint FK62ioak78smsr8kvwt667mesu1
+   foreign key (location_id)
+   references locations (id);
+
+alter table special_opening_hours
+   add constraint FKr9oo58npm0h4dhhif9wwsitue
+   foreign key (location_id)
+   references locations (id);
+
+alter table users
+   add constraint FKin8gn4o1hpiwe6qe4ey7ykwq7
+   foreign key (company_id)
+   references companies (id);
@@ -0,0 +1,51 @@
+-- Coverage counters kept on shift_instances by ShiftInstanceCoverageService, backfilled from the
+-- active assignments so existing shifts start out consistent.
+
+alter table shift_instances
+   add column assigned_count integer not null default 0,
+   algorithm=instant;
+
+create table shift_instance_position_coverage (
+    assigned_count integer not null,
+    position_id bigint not null,
+    shift_instance_id bigint not null,
+    primary key (position_id, shift_instance_id)
+) engine=InnoDB;
+
+create table shift_instance_language_coverage (
+    assigned_count integer not null,
+    language_id bigint not null,
+    shift_instance_id bigint not null,
+    primary key (language_id, shift_instance_id)
+) engine=InnoDB;
+
+alter table shift_instance_position_coverage
+   add constraint FKbva1ufj660h591g5dqdfdp2t
+   foreign key (shift_instance_id)
+   references shift_instances (id);
+
+alter table shift_instance_language_coverage
+   add constraint FKg460xorss54gcy2sbb1ha4vm6
+   foreign key (shift_instance_id)
+   references shift_instances (id);
+
+update shift_instances si
+   join (select shift_instance_id, count(*) as assigned
+         from shift_assignments
+         where deleted_at is null
+         group by shift_instance_id) a on a.shift_instance_id = si.id
+   set si.assigned_count = a.assigned;
+
+insert into shift_instance_position_coverage (assigned_count, position_id, shift_instance_id)
+select count(*), e.position_id, sa.shift_instance_id
+from shift_assignments sa
+join employees e on e.id = sa.employee_id
+where sa.deleted_at is null and e.position_id is not null
+group by e.position_id, sa.shift_instance_id;
+
+insert into shift_instance_language_coverage (assigned_count, language_id, shift_instance_id)
+select count(*), el.language_id, sa.shift_instance_id
+from shift_assignments sa
+join employee_languages el on el.employee_id = sa.employee_id
+where sa.deleted_at is null
+group by el.language_id, sa.shift_instance_id;
@@ -0,0 +1,5 @@
+-- Assignment ids grouped into a digest notification.
+
+alter table notifications
+   add column related_entity_ids varchar(4000),
+   algorithm=instant;
@@ -0,0 +1,5 @@
+-- Secondary indexes are built online: concurrent reads and writes continue while the index is built.
+
+alter table shift_instances
+   add index ix_shift_instances_location_date (location_id, date, deleted_at, start_time),
+   algorithm=inplace, lock=none;
@@ -0,0 +1,3 @@
+alter table shift_instances
+   add index ix_shift_instances_date (date, deleted_at),
+   algorithm=inplace, lock=none;
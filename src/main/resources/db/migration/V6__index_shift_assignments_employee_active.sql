@@ -0,0 +1,3 @@
+alter table shift_assignments
+   add index ix_shift_assignments_employee_active (employee_id, deleted_at, shift_instance_id),
+   algorithm=inplace, lock=none;
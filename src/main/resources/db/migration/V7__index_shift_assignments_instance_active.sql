@@ -0,0 +1,3 @@
+alter table shift_assignments
+   add index ix_shift_assignments_instance_active (shift_instance_id, deleted_at, employee_id),
+   algorithm=inplace, lock=none;
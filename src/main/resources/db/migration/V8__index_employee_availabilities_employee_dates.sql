@@ -0,0 +1,3 @@
+alter table employee_availabilities
+   add index ix_employee_availabilities_employee_dates (employee_id, deleted_at, start_date, end_date),
+   algorithm=inplace, lock=none;
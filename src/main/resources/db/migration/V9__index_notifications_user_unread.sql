@@ -0,0 +1,3 @@
+alter table notifications
+   add index ix_notifications_user_unread (user_id, is_read, created_at),
+   algorithm=inplace, lock=none;
@@ -1,6 +1,7 @@
 package com.shifterizator.shifterizatorbackend.auth;
 
 import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
+import com.shifterizator.shifterizatorbackend.auth.service.PrincipalCache;
 import com.shifterizator.shifterizatorbackend.user.model.Role;
 import com.shifterizator.shifterizatorbackend.user.model.User;
 import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
@@ -31,6 +32,9 @@ class RoleAuthorizationTest {
     @MockitoBean
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     private User mockUser(Role role) {
         User u = new User("john", "mail", "pass", role, null);
         u.setId(1L);
@@ -40,6 +44,8 @@ class RoleAuthorizationTest {
     private void mockToken(Role role) {
         when(jwtUtil.getUsername("token")).thenReturn("john");
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(mockUser(role)));
+        // role changes go through UserServiceImpl, which evicts the cached principal
+        principalCache.invalidate("john");
     }
 
     @Test
@@ -2,10 +2,12 @@ package com.shifterizator.shifterizatorbackend.auth.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
+import com.shifterizator.shifterizatorbackend.auth.jwt.TokenVersionRegistry;
 import com.shifterizator.shifterizatorbackend.user.dto.ChangePasswordRequestDto;
 import com.shifterizator.shifterizatorbackend.auth.service.AuthService;
 import com.shifterizator.shifterizatorbackend.user.service.ChangePasswordUserService;
 import com.shifterizator.shifterizatorbackend.auth.service.CurrentUserService;
+import com.shifterizator.shifterizatorbackend.auth.service.PrincipalCache;
 import com.shifterizator.shifterizatorbackend.user.exception.InvalidPasswordException;
 import com.shifterizator.shifterizatorbackend.user.model.Role;
 import com.shifterizator.shifterizatorbackend.user.model.User;
@@ -46,6 +48,12 @@ public class AuthControllerChangePasswordTest {
     @MockitoBean
     private UserRepository userRepository;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
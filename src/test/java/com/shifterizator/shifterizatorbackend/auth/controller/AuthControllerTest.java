@@ -8,8 +8,10 @@ import com.shifterizator.shifterizatorbackend.auth.exception.AuthException;
 import com.shifterizator.shifterizatorbackend.auth.exception.InvalidCredentialsException;
 import com.shifterizator.shifterizatorbackend.auth.exception.InvalidRefreshTokenException;
 import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
+import com.shifterizator.shifterizatorbackend.auth.jwt.TokenVersionRegistry;
 import com.shifterizator.shifterizatorbackend.auth.service.AuthService;
 import com.shifterizator.shifterizatorbackend.auth.service.CurrentUserService;
+import com.shifterizator.shifterizatorbackend.auth.service.PrincipalCache;
 import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
 import com.shifterizator.shifterizatorbackend.user.service.ChangePasswordUserService;
 import org.junit.jupiter.api.Test;
@@ -49,6 +51,12 @@ class AuthControllerTest {
     @MockitoBean
     private UserRepository userRepository;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -0,0 +1,91 @@
+package com.shifterizator.shifterizatorbackend.auth.jwt;
+
+import com.shifterizator.shifterizatorbackend.auth.service.AuthenticatedPrincipal;
+import com.shifterizator.shifterizatorbackend.auth.service.PrincipalCache;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+import com.shifterizator.shifterizatorbackend.user.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterStatelessTest {
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private final JwtUtil jwtUtil = new JwtUtil("12345678901234567890123456789012", 60000, 120000, 100);
+    private final TokenVersionRegistry tokenVersionRegistry = new TokenVersionRegistry(60000);
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new JwtAuthenticationFilter(jwtUtil, principalCache, tokenVersionRegistry, true);
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static User user() {
+        User user = new User("john", "mail", "pass", Role.SHIFTMANAGER, null);
+        user.setId(1L);
+        return user;
+    }
+
+    private MockHttpServletResponse perform(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/shift-instances");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void should_authenticate_from_claims_without_looking_up_user() throws Exception {
+        MockHttpServletResponse response = perform(jwtUtil.generateAccessToken(user(), 0L));
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(authentication.getPrincipal())
+                .isEqualTo(new AuthenticatedPrincipal(1L, "john", Role.SHIFTMANAGER, null));
+        assertThat(authentication.getName()).isEqualTo("john");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_SHIFTMANAGER");
+        verifyNoInteractions(principalCache);
+    }
+
+    @Test
+    void should_return_401_for_token_issued_before_revocation() throws Exception {
+        String oldToken = jwtUtil.generateAccessToken(user(), tokenVersionRegistry.currentVersion(1L));
+        tokenVersionRegistry.revoke(1L);
+        String newToken = jwtUtil.generateAccessToken(user(), tokenVersionRegistry.currentVersion(1L));
+
+        MockHttpServletResponse rejected = perform(oldToken);
+        assertThat(rejected.getStatus()).isEqualTo(401);
+        assertThat(rejected.getContentAsString()).contains("TOKEN_REVOKED");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+
+        assertThat(perform(newToken).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void should_return_401_for_refresh_token() throws Exception {
+        MockHttpServletResponse response = perform(jwtUtil.generateRefreshToken(user()));
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains("INVALID_TOKEN");
+    }
+}
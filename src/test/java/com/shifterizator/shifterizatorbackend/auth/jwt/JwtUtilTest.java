@@ -3,11 +3,15 @@ package com.shifterizator.shifterizatorbackend.auth.jwt;
 import com.shifterizator.shifterizatorbackend.user.model.Role;
 import com.shifterizator.shifterizatorbackend.user.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import com.shifterizator.shifterizatorbackend.auth.service.AuthenticatedPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 
 class JwtUtilTest {
@@ -19,7 +23,8 @@ class JwtUtilTest {
         jwtUtil = new JwtUtil(
                 "12345678901234567890123456789012",
                 10000,
-                20000
+                20000,
+                100
         );
     }
 
@@ -67,5 +72,59 @@ class JwtUtilTest {
         assertThat(jwtUtil.isRefreshToken(token)).isFalse();
     }
 
+    @Test
+    void parseAccessToken_should_read_principal_and_version_from_claims() {
+        User user = new User("john", "mail", "pass", Role.SHIFTMANAGER, null);
+        user.setId(1L);
+
+        AccessTokenClaims claims = jwtUtil.parseAccessToken(jwtUtil.generateAccessToken(user, 42L));
+
+        assertThat(claims.principal()).isEqualTo(new AuthenticatedPrincipal(1L, "john", Role.SHIFTMANAGER, null));
+        assertThat(claims.tokenVersion()).isEqualTo(42L);
+    }
+
+    @Test
+    void parseAccessToken_should_reject_refresh_token() {
+        User user = new User("john", "mail", "pass", Role.EMPLOYEE, null);
+        user.setId(1L);
 
-}
\ No newline at end of file
+        String token = jwtUtil.generateRefreshToken(user);
+
+        assertThatThrownBy(() -> jwtUtil.parseAccessToken(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void parseToken_should_reuse_claims_of_verified_token() {
+        User user = new User("john", "mail", "pass", Role.EMPLOYEE, null);
+        user.setId(1L);
+
+        String token = jwtUtil.generateAccessToken(user);
+
+        assertThat(jwtUtil.parseToken(token)).isSameAs(jwtUtil.parseToken(token));
+    }
+
+    @Test
+    void parseToken_should_verify_tampered_token_even_when_original_is_cached() {
+        User user = new User("john", "mail", "pass", Role.EMPLOYEE, null);
+        user.setId(1L);
+
+        String token = jwtUtil.generateAccessToken(user);
+        jwtUtil.parseToken(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtUtil.parseToken(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void parseToken_should_keep_rejecting_expired_token() {
+        JwtUtil expiring = new JwtUtil("12345678901234567890123456789012", -1000, 20000, 100);
+        User user = new User("john", "mail", "pass", Role.EMPLOYEE, null);
+        user.setId(1L);
+
+        String token = expiring.generateAccessToken(user);
+
+        assertThatThrownBy(() -> expiring.parseToken(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> expiring.parseToken(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+}
@@ -6,6 +6,7 @@ import com.shifterizator.shifterizatorbackend.auth.dto.TokenResponseDto;
 import com.shifterizator.shifterizatorbackend.auth.exception.InvalidCredentialsException;
 import com.shifterizator.shifterizatorbackend.auth.exception.InvalidRefreshTokenException;
 import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
+import com.shifterizator.shifterizatorbackend.auth.jwt.TokenVersionRegistry;
 import com.shifterizator.shifterizatorbackend.user.exception.UserNotFoundException;
 import com.shifterizator.shifterizatorbackend.user.model.Role;
 import com.shifterizator.shifterizatorbackend.user.model.User;
@@ -31,6 +32,8 @@ class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
 
     @InjectMocks
     private AuthService authService;
@@ -43,7 +46,8 @@ class AuthServiceTest {
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password1!", "hashed")).thenReturn(true);
-        when(jwtUtil.generateAccessToken(user)).thenReturn("access");
+        when(tokenVersionRegistry.currentVersion(1L)).thenReturn(7L);
+        when(jwtUtil.generateAccessToken(user, 7L)).thenReturn("access");
         when(jwtUtil.generateRefreshToken(user)).thenReturn("refresh");
 
         LoginRequestDto dto = new LoginRequestDto("john", "Password1!");
@@ -88,7 +92,7 @@ class AuthServiceTest {
         when(jwtUtil.isRefreshToken("refreshToken")).thenReturn(true);
         when(jwtUtil.getUsername("refreshToken")).thenReturn("john");
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(jwtUtil.generateAccessToken(user)).thenReturn("newAccess");
+        when(jwtUtil.generateAccessToken(user, 0L)).thenReturn("newAccess");
 
         TokenResponseDto response = authService.refresh(dto);
 
@@ -118,5 +122,20 @@ class AuthServiceTest {
                 .isInstanceOf(InvalidRefreshTokenException.class);
     }
 
+    @Test
+    void refresh_should_throw_when_user_deactivated() {
+        RefreshTokenRequestDto dto = new RefreshTokenRequestDto("refreshToken");
 
-}
\ No newline at end of file
+        User user = new User("john", "john@mail.com", "hashed", Role.EMPLOYEE, null);
+        user.setId(1L);
+        user.setIsActive(false);
+
+        when(jwtUtil.isRefreshToken("refreshToken")).thenReturn(true);
+        when(jwtUtil.getUsername("refreshToken")).thenReturn("john");
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> authService.refresh(dto))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        verify(jwtUtil, never()).generateAccessToken(any(), anyLong());
+    }
+}
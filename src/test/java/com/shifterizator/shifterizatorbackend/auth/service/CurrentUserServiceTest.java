@@ -19,6 +19,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +28,9 @@ class CurrentUserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private CurrentUserService currentUserService;
 
@@ -79,4 +83,29 @@ class CurrentUserServiceTest {
                 .isInstanceOf(UserNotFoundException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    void getCurrentUserId_should_use_principal_cache_without_loading_user() {
+        Authentication auth = new UsernamePasswordAuthenticationToken(
+                "john",
+                null,
+                List.of(() -> "ROLE_EMPLOYEE")
+        );
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        when(principalCache.get("john")).thenReturn(new AuthenticatedPrincipal(1L, "john", Role.EMPLOYEE, null));
+
+        assertThat(currentUserService.getCurrentUserId()).isEqualTo(1L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCurrentPrincipal_should_return_principal_set_by_filter() {
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(1L, "john", Role.COMPANYADMIN, 5L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of(() -> "ROLE_COMPANYADMIN")));
+
+        assertThat(currentUserService.getCurrentPrincipal()).isEqualTo(principal);
+        verifyNoInteractions(userRepository, principalCache);
+    }
+
+}
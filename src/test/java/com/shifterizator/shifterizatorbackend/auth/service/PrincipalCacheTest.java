@@ -0,0 +1,91 @@
+package com.shifterizator.shifterizatorbackend.auth.service;
+
+import com.shifterizator.shifterizatorbackend.user.exception.UserNotFoundException;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+import com.shifterizator.shifterizatorbackend.user.model.User;
+import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userRepository, 100, Duration.ofMinutes(5));
+    }
+
+    private User user(String username, Role role) {
+        User user = new User(username, username + "@mail.com", "hash", role, null);
+        user.setId(1L);
+        return user;
+    }
+
+    @Test
+    void get_should_load_user_once_and_serve_repeats_from_cache() {
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user("john", Role.EMPLOYEE)));
+
+        principalCache.get("john");
+        AuthenticatedPrincipal principal = principalCache.get("john");
+
+        assertThat(principal).isEqualTo(new AuthenticatedPrincipal(1L, "john", Role.EMPLOYEE, null));
+        verify(userRepository, times(1)).findByUsername("john");
+    }
+
+    @Test
+    void get_should_throw_and_not_cache_unknown_username() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> principalCache.get("ghost")).isInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> principalCache.get("ghost")).isInstanceOf(UserNotFoundException.class);
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    void invalidate_should_reload_user_with_new_role() {
+        when(userRepository.findByUsername("john"))
+                .thenReturn(Optional.of(user("john", Role.EMPLOYEE)))
+                .thenReturn(Optional.of(user("john", Role.SHIFTMANAGER)));
+        principalCache.get("john");
+
+        principalCache.invalidate("john");
+
+        assertThat(principalCache.get("john").role()).isEqualTo(Role.SHIFTMANAGER);
+    }
+
+    @Test
+    void invalidate_should_evict_again_when_transaction_completes() {
+        when(userRepository.findByUsername("john"))
+                .thenReturn(Optional.of(user("john", Role.EMPLOYEE)))
+                .thenReturn(Optional.of(user("john", Role.SHIFTMANAGER)));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.invalidate("john");
+            principalCache.get("john");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(principalCache.get("john").role()).isEqualTo(Role.SHIFTMANAGER);
+    }
+}
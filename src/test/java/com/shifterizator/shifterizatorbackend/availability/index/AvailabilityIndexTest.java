@@ -0,0 +1,68 @@
+package com.shifterizator.shifterizatorbackend.availability.index;
+
+import com.shifterizator.shifterizatorbackend.availability.model.AvailabilityType;
+import com.shifterizator.shifterizatorbackend.availability.model.EmployeeAvailability;
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AvailabilityIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 2, 3);
+    private static final LocalDate END = LocalDate.of(2025, 2, 16);
+
+    private static EmployeeAvailability availability(long employeeId, LocalDate from, LocalDate to, AvailabilityType type) {
+        return EmployeeAvailability.builder()
+                .employee(Employee.builder().id(employeeId).build())
+                .startDate(from)
+                .endDate(to)
+                .type(type)
+                .build();
+    }
+
+    @Test
+    void isBlocked_shouldCoverInclusiveBoundsOfBlockingAvailabilities() {
+        AvailabilityIndex index = AvailabilityIndex.of(START, END, List.of(
+                availability(1L, START.plusDays(2), START.plusDays(4), AvailabilityType.VACATION),
+                availability(1L, START.plusDays(8), START.plusDays(8), AvailabilityType.SICK_LEAVE)));
+
+        assertThat(index.isBlocked(1L, START.plusDays(1))).isFalse();
+        assertThat(index.isBlocked(1L, START.plusDays(2))).isTrue();
+        assertThat(index.isBlocked(1L, START.plusDays(4))).isTrue();
+        assertThat(index.isBlocked(1L, START.plusDays(5))).isFalse();
+        assertThat(index.findBlockingType(1L, START.plusDays(8))).contains(AvailabilityType.SICK_LEAVE);
+    }
+
+    @Test
+    void isBlocked_shouldIgnoreNonBlockingTypesAndOtherEmployees() {
+        AvailabilityIndex index = AvailabilityIndex.of(START, END, List.of(
+                availability(1L, START, END, AvailabilityType.AVAILABLE),
+                availability(2L, START, END, AvailabilityType.UNAVAILABLE)));
+
+        assertThat(index.isBlocked(1L, START.plusDays(3))).isFalse();
+        assertThat(index.isBlocked(2L, START.plusDays(3))).isTrue();
+        assertThat(index.isBlocked(3L, START.plusDays(3))).isFalse();
+    }
+
+    @Test
+    void isBlocked_shouldFindLongBlockThatStartsBeforeShorterOnes() {
+        AvailabilityIndex index = AvailabilityIndex.of(START, END, List.of(
+                availability(1L, START.minusDays(10), END, AvailabilityType.PERSONAL_LEAVE),
+                availability(1L, START.plusDays(1), START.plusDays(1), AvailabilityType.SICK_LEAVE)));
+
+        assertThat(index.findBlockingType(1L, START.plusDays(6))).contains(AvailabilityType.PERSONAL_LEAVE);
+    }
+
+    @Test
+    void findBlockingType_shouldRejectDatesOutsideWindow() {
+        AvailabilityIndex index = AvailabilityIndex.of(START, END, List.of());
+
+        assertThatThrownBy(() -> index.isBlocked(1L, END.plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
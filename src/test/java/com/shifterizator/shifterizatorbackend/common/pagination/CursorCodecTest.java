@@ -0,0 +1,48 @@
+package com.shifterizator.shifterizatorbackend.common.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void decode_shouldReturnPartsOfEncodedCursor() {
+        String cursor = CursorCodec.encode(LocalDate.of(2025, 2, 3), LocalTime.of(9, 30), 42L);
+
+        List<String> parts = CursorCodec.decode(cursor, 3, p -> p);
+
+        assertThat(cursor).doesNotContain("|", "=", "+", "/");
+        assertThat(parts).containsExactly("2025-02-03", "09:30", "42");
+    }
+
+    @Test
+    void decode_shouldRejectMalformedCursors() {
+        String twoParts = CursorCodec.encode("2025-02-03", 42L);
+
+        assertThatThrownBy(() -> CursorCodec.decode("not base64!", 2, p -> p))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(twoParts, 3, p -> p))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(twoParts, 2, p -> Long.valueOf(p.get(0))))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode("yesterday", 1L), 2,
+                p -> LocalDate.parse(p.get(0))))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void of_shouldSetCursorOnlyWhenAnotherPageExists() {
+        CursorPage<Integer> page = CursorPage.of(List.of(1, 2, 3), 2, String::valueOf);
+        CursorPage<Integer> last = CursorPage.of(List.of(1, 2), 2, String::valueOf);
+
+        assertThat(page.items()).containsExactly(1, 2);
+        assertThat(page.nextCursor()).isEqualTo("2");
+        assertThat(last.nextCursor()).isNull();
+    }
+}
@@ -0,0 +1,324 @@
+package com.shifterizator.shifterizatorbackend.common.queryplan;
+
+import com.shifterizator.shifterizatorbackend.availability.model.AvailabilityType;
+import com.shifterizator.shifterizatorbackend.availability.model.EmployeeAvailability;
+import com.shifterizator.shifterizatorbackend.availability.repository.EmployeeAvailabilityRepository;
+import com.shifterizator.shifterizatorbackend.common.queryplan.StatementRecorder.RecordedStatement;
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeLocation;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeRepository;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.notification.model.Notification;
+import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
+import com.shifterizator.shifterizatorbackend.notification.repository.NotificationRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+import com.shifterizator.shifterizatorbackend.user.model.User;
+import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every query of the hot repositories, replays the SQL Hibernate sent under {@code EXPLAIN} and fails
+ * when any of them reads a table with a full scan. The plans are printed as a report.
+ * <p>
+ * Runs on the embedded H2 by default. To check the plans MySQL chooses, point it at a MySQL schema with
+ * {@code -Dspring.test.database.replace=none -Dspring.datasource.url=jdbc:mysql://...}; MySQL picks plans
+ * from table statistics, so use a schema with realistic data there.
+ */
+@DataJpaTest
+class RepositoryQueryPlanTest {
+
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("/\\* ([\\w.]+)\\.tableScan");
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 2, 3);
+    private static final LocalDate SUNDAY = MONDAY.plusDays(6);
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor recordingDataSource(StatementRecorder statementRecorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? statementRecorder.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ShiftInstanceRepository shiftInstanceRepository;
+    @Autowired
+    private ShiftAssignmentRepository shiftAssignmentRepository;
+    @Autowired
+    private EmployeeAvailabilityRepository employeeAvailabilityRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private CompanyRepository companyRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private PositionRepository positionRepository;
+    @Autowired
+    private ShiftTemplateRepository shiftTemplateRepository;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private EmployeeLocationRepository employeeLocationRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void hotRepositoryQueries_shouldNotScanWholeTables() throws SQLException {
+        Seed seed = seed();
+        entityManager.flush();
+        entityManager.clear();
+
+        statementRecorder.start();
+        runShiftInstanceQueries(seed);
+        runShiftAssignmentQueries(seed);
+        runAvailabilityQueries(seed);
+        runNotificationQueries(seed);
+        entityManager.flush();
+        List<RecordedStatement> statements = statementRecorder.stop();
+
+        Map<String, List<String>> fullScans = new LinkedHashMap<>();
+        StringBuilder report = new StringBuilder("Query plan report\n");
+        for (RecordedStatement statement : distinctSql(statements)) {
+            List<String> plan = explain(statement);
+            List<String> scanned = fullScans(plan);
+            report.append(scanned.isEmpty() ? "  ok    " : "  SCAN  ").append(statement.sql()).append('\n');
+            accessPaths(plan).forEach(line -> report.append("        ").append(line).append('\n'));
+            if (!scanned.isEmpty()) {
+                fullScans.put(statement.sql(), scanned);
+            }
+        }
+        System.out.println(report);
+
+        assertThat(statements).isNotEmpty();
+        assertThat(fullScans).as("statements reading whole tables").isEmpty();
+    }
+
+    private void runShiftInstanceQueries(Seed s) {
+        Long locationId = s.location.getId();
+        Long instanceId = s.instance.getId();
+        shiftInstanceRepository.findByLocation_IdAndDateAndDeletedAtIsNullOrderByStartTimeAsc(locationId, MONDAY);
+        shiftInstanceRepository.findByLocationIdAndDateWithTemplateAndPositions(locationId, MONDAY);
+        shiftInstanceRepository.findActiveIdsByLocationIdAndDate(locationId, MONDAY);
+        shiftInstanceRepository.findActiveIdsByLocationIdAndDateBetween(locationId, MONDAY, SUNDAY);
+        shiftInstanceRepository.findByLocation_IdAndDateAndShiftTemplate_IdAndDeletedAtIsNull(locationId, MONDAY, s.template.getId());
+        shiftInstanceRepository.findByLocation_IdAndDateBetweenAndDeletedAtIsNullOrderByDateAscStartTimeAsc(locationId, MONDAY, SUNDAY);
+        shiftInstanceRepository.findByIdFullyLoaded(instanceId);
+        shiftInstanceRepository.findByIdWithTemplateAndPositions(instanceId);
+        shiftInstanceRepository.countActiveAssignments(instanceId);
+        shiftInstanceRepository.findByIdForUpdate(instanceId);
+        shiftInstanceRepository.findAllByIdInForUpdate(List.of(instanceId));
+        shiftInstanceRepository.findActiveIdsAfter(0L, FIRST_PAGE);
+        shiftInstanceRepository.findPositionCoverageByIds(List.of(instanceId));
+        shiftInstanceRepository.findLanguageCoverageByIds(List.of(instanceId));
+        shiftInstanceRepository.softDeleteByIds(List.of(-1L), LocalDateTime.now());
+        shiftInstanceRepository.softDeleteByLocationAndDateBetween(locationId, SUNDAY.plusDays(1), SUNDAY.plusDays(7), LocalDateTime.now());
+    }
+
+    private void runShiftAssignmentQueries(Seed s) {
+        Long employeeId = s.employee.getId();
+        Long instanceId = s.instance.getId();
+        shiftAssignmentRepository.findByShiftInstance_IdAndDeletedAtIsNull(instanceId);
+        shiftAssignmentRepository.findByEmployee_IdAndDeletedAtIsNullOrderByShiftInstance_DateAscShiftInstance_StartTimeAsc(employeeId);
+        shiftAssignmentRepository.findEmployeeFeedFirstPage(employeeId, FIRST_PAGE);
+        shiftAssignmentRepository.findEmployeeFeedPageAfter(employeeId, MONDAY, LocalTime.NOON, s.assignment.getId(), FIRST_PAGE);
+        shiftAssignmentRepository.findByEmployeeAndDate(employeeId, MONDAY);
+        shiftAssignmentRepository.findByEmployee_IdAndShiftInstance_DateBetweenAndDeletedAtIsNull(employeeId, MONDAY, SUNDAY);
+        shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(List.of(employeeId), MONDAY, SUNDAY);
+        shiftAssignmentRepository.findAssignedStaffByShiftInstanceIds(List.of(instanceId));
+        shiftAssignmentRepository.findByShiftInstance_IdAndEmployee_IdAndDeletedAtIsNull(instanceId, employeeId);
+        shiftAssignmentRepository.findAssignedEmployeeIdsByShiftInstanceIdIn(List.of(instanceId));
+        shiftAssignmentRepository.findActiveByDateForLocationOrEmployees(s.location.getId(), MONDAY, List.of(employeeId));
+        shiftAssignmentRepository.findActiveWithEmployeeByShiftInstanceIds(List.of(instanceId));
+        shiftAssignmentRepository.findActiveByEmployeeIdsAndDateBetween(List.of(employeeId), MONDAY, SUNDAY);
+        shiftAssignmentRepository.findByIdWithShiftInstanceAndEmployeeUser(s.assignment.getId());
+        shiftAssignmentRepository.findAllByIdWithShiftInstanceAndEmployeeUser(List.of(s.assignment.getId()));
+        shiftAssignmentRepository.softDeleteByShiftInstanceId(-1L, LocalDateTime.now());
+        shiftAssignmentRepository.softDeleteByShiftInstanceIds(List.of(-1L), LocalDateTime.now());
+        shiftAssignmentRepository.softDeleteByLocationAndDateBetween(s.location.getId(), SUNDAY.plusDays(1), SUNDAY.plusDays(7), LocalDateTime.now());
+    }
+
+    private void runAvailabilityQueries(Seed s) {
+        Long employeeId = s.employee.getId();
+        employeeAvailabilityRepository.findByEmployee_IdAndDeletedAtIsNullOrderByStartDateAsc(employeeId);
+        employeeAvailabilityRepository.findOverlapping(employeeId, MONDAY, SUNDAY, null);
+        employeeAvailabilityRepository.findOverlappingForLocation(s.location.getId(), MONDAY, SUNDAY);
+    }
+
+    private void runNotificationQueries(Seed s) {
+        Long userId = s.user.getId();
+        notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, FIRST_PAGE);
+        notificationRepository.countByUserIdAndReadFalse(userId);
+        notificationRepository.findFeedFirstPage(userId, FIRST_PAGE);
+        notificationRepository.findFeedPageAfter(userId, LocalDateTime.now(), Long.MAX_VALUE, FIRST_PAGE);
+        notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, 0L, FIRST_PAGE);
+        notificationRepository.markAllAsReadByUserId(-1L);
+    }
+
+    private List<String> explain(RecordedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet()) {
+                explain.setObject(parameter.getKey(), parameter.getValue());
+            }
+            List<String> rows = new ArrayList<>();
+            try (ResultSet rs = explain.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                while (rs.next()) {
+                    StringBuilder row = new StringBuilder();
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        if (meta.getColumnCount() > 1) {
+                            row.append(meta.getColumnLabel(i).toLowerCase()).append('=');
+                        }
+                        row.append(rs.getString(i)).append(i < meta.getColumnCount() ? " " : "");
+                    }
+                    rows.add(row.toString());
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * H2 marks a scan with a {@code tableScan} comment on the table; MySQL reports access type {@code ALL}.
+     */
+    private static List<String> fullScans(List<String> plan) {
+        List<String> scanned = new ArrayList<>();
+        for (String row : plan) {
+            Matcher h2 = H2_TABLE_SCAN.matcher(row);
+            while (h2.find()) {
+                scanned.add(h2.group(1));
+            }
+            if (row.contains(" type=ALL ")) {
+                scanned.add(row);
+            }
+        }
+        return scanned;
+    }
+
+    /**
+     * The lines of the plan that say how each table is read: H2's index comments or MySQL's plan rows.
+     */
+    private static List<String> accessPaths(List<String> plan) {
+        return plan.stream()
+                .flatMap(String::lines)
+                .map(String::strip)
+                .filter(line -> line.contains("/*") || line.startsWith("id="))
+                .toList();
+    }
+
+    private static List<RecordedStatement> distinctSql(List<RecordedStatement> statements) {
+        Map<String, RecordedStatement> bySql = new LinkedHashMap<>();
+        statements.stream()
+                .filter(st -> !st.sql().stripLeading().toLowerCase().startsWith("insert"))
+                .forEach(st -> bySql.putIfAbsent(st.sql(), st));
+        return List.copyOf(bySql.values());
+    }
+
+    private record Seed(Location location, ShiftTemplate template, Employee employee, User user,
+                        ShiftInstance instance, ShiftAssignment assignment) {
+    }
+
+    private Seed seed() {
+        Company company = companyRepository.save(
+                new Company("Skynet", "Skynet", "12345678T", "test@test.com", "+34999999999"));
+        Location location = locationRepository.save(Location.builder().name("HQ").address("Main").company(company).build());
+        Position position = positionRepository.save(Position.builder().name("Waiter").company(company).build());
+        ShiftTemplate template = ShiftTemplate.builder()
+                .location(location)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .isActive(true)
+                .build();
+        template.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                .shiftTemplate(template).position(position).requiredCount(1).build());
+        template = shiftTemplateRepository.save(template);
+        User user = userRepository.save(new User("john", "john@test.com", "pass", Role.EMPLOYEE, null));
+        Employee employee = employeeRepository.save(Employee.builder()
+                .name("John").surname("Doe").position(position).user(user).build());
+        employeeLocationRepository.save(EmployeeLocation.builder().employee(employee).location(location).build());
+
+        ShiftInstance instance = null;
+        ShiftAssignment assignment = null;
+        for (int day = 0; day < 7; day++) {
+            instance = shiftInstanceRepository.save(ShiftInstance.builder()
+                    .shiftTemplate(template)
+                    .location(location)
+                    .date(MONDAY.plusDays(day))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(17, 0))
+                    .requiredEmployees(1)
+                    .build());
+            assignment = shiftAssignmentRepository.save(ShiftAssignment.builder()
+                    .shiftInstance(instance)
+                    .employee(employee)
+                    .assignedAt(LocalDateTime.now())
+                    .build());
+            notificationRepository.save(Notification.builder()
+                    .user(user)
+                    .type(NotificationType.SHIFT_ASSIGNED)
+                    .title("New shift assignment")
+                    .relatedEntityId(assignment.getId())
+                    .build());
+        }
+        employeeAvailabilityRepository.save(EmployeeAvailability.builder()
+                .employee(employee).startDate(MONDAY).endDate(MONDAY.plusDays(1)).type(AvailabilityType.VACATION).build());
+        return new Seed(location, template, employee, user, instance, assignment);
+    }
+}
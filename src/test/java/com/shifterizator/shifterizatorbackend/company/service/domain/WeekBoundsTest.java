@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -39,4 +40,24 @@ class WeekBoundsTest {
         LocalDate end = WeekBounds.weekEnd(date, DayOfWeek.MONDAY);
         assertThat(end).isEqualTo(start.plusDays(6));
     }
+
+    @Test
+    void splitIntoWeeks_shouldReturnOneChunkPerWeek() {
+        List<List<LocalDate>> weeks = WeekBounds.splitIntoWeeks(
+                LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 19), DayOfWeek.MONDAY);
+        assertThat(weeks).hasSize(2);
+        assertThat(weeks.get(0)).hasSize(7).startsWith(LocalDate.of(2025, 1, 6)).endsWith(LocalDate.of(2025, 1, 12));
+        assertThat(weeks.get(1)).hasSize(7).startsWith(LocalDate.of(2025, 1, 13)).endsWith(LocalDate.of(2025, 1, 19));
+    }
+
+    @Test
+    void splitIntoWeeks_shouldProducePartialWeeksWhenFirstDayDiffersFromRangeStart() {
+        List<List<LocalDate>> weeks = WeekBounds.splitIntoWeeks(
+                LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 12), DayOfWeek.SUNDAY);
+        assertThat(weeks).hasSize(2);
+        assertThat(weeks.get(0)).containsExactly(
+                LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 7), LocalDate.of(2025, 1, 8),
+                LocalDate.of(2025, 1, 9), LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 11));
+        assertThat(weeks.get(1)).containsExactly(LocalDate.of(2025, 1, 12));
+    }
 }
@@ -0,0 +1,124 @@
+package com.shifterizator.shifterizatorbackend.config;
+
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ReferenceDataCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReferenceDataCacheConfigTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterBinder referenceDataCacheMetrics;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private ShiftTemplateRepository shiftTemplateRepository;
+
+    private Location saveLocation(String name) {
+        Company company = companyRepository.save(
+                new Company(name, name, name + "T", name + "@test.com", "+34999999999"));
+        return locationRepository.save(Location.builder()
+                .name(name)
+                .address("Main")
+                .company(company)
+                .openDaysOfWeek(Set.of(DayOfWeek.MONDAY))
+                .build());
+    }
+
+    private static double hits(SimpleMeterRegistry registry) {
+        return registry.get("cache.gets").tags("cache", "reference.locations", "result", "hit").functionCounter().count();
+    }
+
+    @Test
+    void findById_shouldServeRepeatedReadsFromCacheAndCountHits() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        referenceDataCacheMetrics.bindTo(registry);
+        Long id = saveLocation("Cached").getId();
+        entityManagerFactory.getCache().evict(Location.class);
+
+        transactionTemplate.execute(tx -> locationRepository.findById(id).orElseThrow());
+        double hitsAfterFirstRead = hits(registry);
+        Location second = transactionTemplate.execute(tx -> locationRepository.findById(id).orElseThrow());
+
+        assertThat(second.getOpenDaysOfWeek()).containsExactly(DayOfWeek.MONDAY);
+        assertThat(entityManagerFactory.getCache().contains(Location.class, id)).isTrue();
+        assertThat(hitsAfterFirstRead).isZero();
+        assertThat(hits(registry)).isPositive();
+        assertThat(registry.get("cache.gets").tags("cache", "reference.locations", "result", "miss")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void save_shouldReplaceCachedTemplateAndItsPositions() {
+        Location location = saveLocation("Templates");
+        Position waiter = positionRepository.save(Position.builder().name("Waiter").company(location.getCompany()).build());
+        Position cook = positionRepository.save(Position.builder().name("Cook").company(location.getCompany()).build());
+        Long templateId = transactionTemplate.execute(tx -> {
+            ShiftTemplate template = ShiftTemplate.builder()
+                    .location(location)
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(17, 0))
+                    .build();
+            template.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                    .shiftTemplate(template).position(waiter).requiredCount(1).build());
+            return shiftTemplateRepository.save(template).getId();
+        });
+        transactionTemplate.executeWithoutResult(tx ->
+                shiftTemplateRepository.findById(templateId).orElseThrow().getRequiredPositions().size());
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            ShiftTemplate template = shiftTemplateRepository.findById(templateId).orElseThrow();
+            template.setStartTime(LocalTime.of(10, 0));
+            template.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                    .shiftTemplate(template).position(cook).requiredCount(2).build());
+        });
+
+        ShiftTemplate reloaded = transactionTemplate.execute(tx -> {
+            ShiftTemplate template = shiftTemplateRepository.findById(templateId).orElseThrow();
+            template.getRequiredPositions().forEach(tp -> tp.getPosition().getName());
+            return template;
+        });
+        assertThat(reloaded.getStartTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(reloaded.getRequiredPositions())
+                .extracting(tp -> tp.getPosition().getName())
+                .containsExactlyInAnyOrder("Waiter", "Cook");
+    }
+}
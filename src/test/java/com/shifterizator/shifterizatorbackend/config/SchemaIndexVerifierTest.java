@@ -0,0 +1,39 @@
+package com.shifterizator.shifterizatorbackend.config;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SchemaIndexVerifier.class)
+class SchemaIndexVerifierTest {
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void findDrift_shouldBeEmptyForSchemaGeneratedFromEntities() throws Exception {
+        assertThat(schemaIndexVerifier.findDrift()).isEmpty();
+    }
+
+    @Test
+    @DirtiesContext
+    void findDrift_shouldReportMissingAndChangedIndexes() throws Exception {
+        entityManager.createNativeQuery("DROP INDEX ix_shift_instances_date").executeUpdate();
+        entityManager.createNativeQuery("DROP INDEX ix_notifications_user_unread").executeUpdate();
+        entityManager.createNativeQuery("CREATE INDEX ix_notifications_user_unread ON notifications (user_id, is_read)")
+                .executeUpdate();
+
+        assertThat(schemaIndexVerifier.findDrift()).containsExactlyInAnyOrder(
+                "shift_instances.ix_shift_instances_date is missing",
+                "notifications.ix_notifications_user_unread covers [user_id, is_read] instead of [user_id, is_read, created_at]");
+    }
+}
@@ -0,0 +1,73 @@
+package com.shifterizator.shifterizatorbackend.notification.controller;
+
+import com.shifterizator.shifterizatorbackend.auth.jwt.JwtAuthenticationFilter;
+import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
+import com.shifterizator.shifterizatorbackend.auth.service.CurrentUserService;
+import com.shifterizator.shifterizatorbackend.notification.service.NotificationService;
+import com.shifterizator.shifterizatorbackend.notification.service.stream.NotificationStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WithMockUser
+@WebMvcTest(NotificationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class NotificationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private NotificationStream notificationStream;
+
+    @MockitoBean
+    private CurrentUserService currentUserService;
+
+    @MockitoBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    void unreadCount_shouldReturnCountWithEtag() throws Exception {
+        when(currentUserService.getCurrentUserId()).thenReturn(1L);
+        when(notificationService.countUnreadByUserId(1L)).thenReturn(4);
+
+        mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"unread-4\""))
+                .andExpect(jsonPath("$.unreadCount").value(4));
+    }
+
+    @Test
+    void unreadCount_shouldReturn304WithoutBodyWhenCountUnchanged() throws Exception {
+        when(currentUserService.getCurrentUserId()).thenReturn(1L);
+        when(notificationService.countUnreadByUserId(1L)).thenReturn(4);
+
+        mockMvc.perform(get("/api/notifications/unread-count").header("If-None-Match", "\"unread-4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void unreadCount_shouldReturnNewCountWhenEtagIsStale() throws Exception {
+        when(currentUserService.getCurrentUserId()).thenReturn(1L);
+        when(notificationService.countUnreadByUserId(1L)).thenReturn(5);
+
+        mockMvc.perform(get("/api/notifications/unread-count").header("If-None-Match", "\"unread-4\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unreadCount").value(5));
+    }
+}
@@ -0,0 +1,68 @@
+package com.shifterizator.shifterizatorbackend.notification.repository;
+
+import com.shifterizator.shifterizatorbackend.notification.model.Notification;
+import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+import com.shifterizator.shifterizatorbackend.user.model.User;
+import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class NotificationRepositoryTest {
+
+    @Autowired
+    private NotificationRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Notification save(User user, LocalDateTime createdAt) {
+        Notification n = repository.saveAndFlush(Notification.builder()
+                .user(user)
+                .type(NotificationType.SHIFT_ASSIGNED)
+                .title("New shift assignment")
+                .build());
+        // created_at is set by Hibernate on insert; move it to control the feed order
+        entityManager.createNativeQuery("UPDATE notifications SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, n.getId())
+                .executeUpdate();
+        return n;
+    }
+
+    @Test
+    void feed_shouldWalkNewestFirstAcrossEqualTimestamps() {
+        User john = userRepository.save(new User("john", "john@test.com", "pass", Role.EMPLOYEE, null));
+        User jane = userRepository.save(new User("jane", "jane@test.com", "pass", Role.EMPLOYEE, null));
+        LocalDateTime noon = LocalDateTime.of(2025, 2, 3, 12, 0);
+        Notification oldest = save(john, noon.minusDays(1));
+        Notification tieA = save(john, noon);
+        Notification tieB = save(john, noon);
+        Notification newest = save(john, noon.plusHours(1));
+        save(jane, noon);
+        entityManager.clear();
+
+        List<Long> walked = new ArrayList<>();
+        List<Notification> page = repository.findFeedFirstPage(john.getId(), PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(n -> walked.add(n.getId()));
+            Notification last = page.getLast();
+            page = repository.findFeedPageAfter(john.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+        }
+
+        assertThat(walked).containsExactly(newest.getId(), tieB.getId(), tieA.getId(), oldest.getId());
+    }
+}
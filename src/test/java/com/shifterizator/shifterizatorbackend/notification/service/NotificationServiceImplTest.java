@@ -0,0 +1,155 @@
+package com.shifterizator.shifterizatorbackend.notification.service;
+
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.notification.model.Notification;
+import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
+import com.shifterizator.shifterizatorbackend.notification.repository.NotificationRepository;
+import com.shifterizator.shifterizatorbackend.notification.service.dispatch.NotificationBatchWriter;
+import com.shifterizator.shifterizatorbackend.notification.service.dispatch.PendingNotification;
+import com.shifterizator.shifterizatorbackend.notification.service.stream.NotificationStream;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+import com.shifterizator.shifterizatorbackend.user.model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceImplTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 2, 3);
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private ShiftAssignmentRepository shiftAssignmentRepository;
+
+    @Mock
+    private NotificationBatchWriter notificationBatchWriter;
+
+    @Mock
+    private UnreadCountCache unreadCountCache;
+
+    @Mock
+    private NotificationStream notificationStream;
+
+    @InjectMocks
+    private NotificationServiceImpl notificationService;
+
+    @Captor
+    private ArgumentCaptor<List<Notification>> notificationsCaptor;
+
+    private static User user(long id, String username) {
+        User user = new User(username, username + "@test.com", "pass", Role.EMPLOYEE, null);
+        user.setId(id);
+        return user;
+    }
+
+    private static ShiftAssignment assignment(long id, User user, LocalDate date) {
+        ShiftInstance instance = ShiftInstance.builder()
+                .id(id)
+                .date(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .location(Location.builder().name("HQ").build())
+                .build();
+        return ShiftAssignment.builder()
+                .id(id)
+                .shiftInstance(instance)
+                .employee(Employee.builder().id(user.getId()).user(user).build())
+                .build();
+    }
+
+    @Test
+    void createForShiftAssignments_shouldCoalesceBulkChangesOfOneUserIntoDigest() {
+        User john = user(1L, "john");
+        User jane = user(2L, "jane");
+        List<ShiftAssignment> assignments = new ArrayList<>();
+        List<PendingNotification> pending = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            assignments.add(assignment(id, john, MONDAY.plusDays(4 - id)));
+            pending.add(new PendingNotification(NotificationType.SHIFT_ASSIGNED, id, 1L));
+        }
+        assignments.add(assignment(5L, jane, MONDAY));
+        pending.add(new PendingNotification(NotificationType.SHIFT_ASSIGNED, 5L, 2L));
+        when(shiftAssignmentRepository.findAllByIdWithShiftInstanceAndEmployeeUser(List.of(1L, 2L, 3L, 4L, 5L)))
+                .thenReturn(assignments);
+
+        int created = notificationService.createForShiftAssignments(pending);
+
+        assertThat(created).isEqualTo(2);
+        verify(notificationBatchWriter).insertAll(notificationsCaptor.capture());
+        List<Notification> notifications = notificationsCaptor.getValue();
+        Notification digest = notifications.getFirst();
+        assertThat(digest.getUser()).isSameAs(john);
+        assertThat(digest.getRelatedEntityId()).isNull();
+        assertThat(digest.getRelatedEntityIds()).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(digest.getBody()).isEqualTo("You have 4 new shifts between 03 Feb 2025 and 06 Feb 2025.");
+        Notification single = notifications.get(1);
+        assertThat(single.getUser()).isSameAs(jane);
+        assertThat(single.getRelatedEntityId()).isEqualTo(5L);
+        assertThat(single.getRelatedEntityIds()).isEmpty();
+        verify(unreadCountCache).adjustAfterCommit(Map.of(1L, 1, 2L, 1));
+        verify(notificationStream).publishAfterCommit(argThat(byUser -> byUser.keySet().equals(Set.of(1L, 2L))));
+    }
+
+    @Test
+    void createForShiftAssignments_shouldSkipMissingAssignmentsAndEmployeesWithoutUser() {
+        ShiftAssignment withoutUser = assignment(2L, user(1L, "john"), MONDAY);
+        withoutUser.getEmployee().setUser(null);
+        when(shiftAssignmentRepository.findAllByIdWithShiftInstanceAndEmployeeUser(List.of(1L, 2L)))
+                .thenReturn(List.of(withoutUser));
+
+        int created = notificationService.createForShiftAssignments(List.of(
+                new PendingNotification(NotificationType.SHIFT_UNASSIGNED, 1L, 1L),
+                new PendingNotification(NotificationType.SHIFT_UNASSIGNED, 2L, 1L)));
+
+        assertThat(created).isZero();
+        verify(notificationBatchWriter).insertAll(List.of());
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void markAsRead_shouldDecrementUnreadCountOnlyForUnreadNotification() {
+        User john = user(1L, "john");
+        Notification unread = Notification.builder().id(10L).user(john).read(false).build();
+        Notification read = Notification.builder().id(11L).user(john).read(true).build();
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(unread));
+        when(notificationRepository.findById(11L)).thenReturn(Optional.of(read));
+
+        notificationService.markAsRead(10L, 1L);
+        notificationService.markAsRead(11L, 1L);
+
+        assertThat(unread.getRead()).isTrue();
+        verify(unreadCountCache, times(1)).adjustAfterCommit(1L, -1);
+    }
+
+    @Test
+    void markAllAsRead_shouldSubtractUpdatedRowsFromUnreadCount() {
+        when(notificationRepository.markAllAsReadByUserId(1L)).thenReturn(6);
+
+        notificationService.markAllAsRead(1L);
+
+        verify(unreadCountCache).adjustAfterCommit(1L, -6);
+    }
+}
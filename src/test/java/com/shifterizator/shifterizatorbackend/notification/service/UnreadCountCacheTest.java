@@ -0,0 +1,102 @@
+package com.shifterizator.shifterizatorbackend.notification.service;
+
+import com.shifterizator.shifterizatorbackend.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCountCacheTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private UnreadCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UnreadCountCache(notificationRepository, 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void get_shouldCountOnceAndApplyLaterChanges() {
+        when(notificationRepository.countByUserIdAndReadFalse(1L)).thenReturn(3);
+
+        assertThat(cache.get(1L)).isEqualTo(3);
+        TransactionSynchronizationManager.initSynchronization();
+        cache.adjustAfterCommit(Map.of(1L, 2, 2L, 5));
+        cache.adjustAfterCommit(1L, -1);
+        commit();
+
+        assertThat(cache.get(1L)).isEqualTo(4);
+        verify(notificationRepository, times(1)).countByUserIdAndReadFalse(1L);
+        verifyNoMoreInteractions(notificationRepository);
+    }
+
+    @Test
+    void adjustAfterCommit_shouldEvictCountReadWhileTheWriteWasCommitting() {
+        when(notificationRepository.countByUserIdAndReadFalse(1L)).thenReturn(3, 4);
+        TransactionSynchronizationManager.initSynchronization();
+        cache.adjustAfterCommit(1L, 1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+
+        assertThat(cache.get(1L)).isEqualTo(3);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.get(1L)).isEqualTo(4);
+        verify(notificationRepository, times(2)).countByUserIdAndReadFalse(1L);
+    }
+
+    @Test
+    void adjustAfterCommit_shouldEvictWithoutTransaction() {
+        when(notificationRepository.countByUserIdAndReadFalse(1L)).thenReturn(3, 2);
+        cache.get(1L);
+
+        cache.adjustAfterCommit(1L, -1);
+
+        assertThat(cache.get(1L)).isEqualTo(2);
+        verify(notificationRepository, times(2)).countByUserIdAndReadFalse(1L);
+    }
+
+    @Test
+    void adjustAfterCommit_shouldWaitForCommitAndSkipRollback() {
+        when(notificationRepository.countByUserIdAndReadFalse(1L)).thenReturn(3);
+        cache.get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.adjustAfterCommit(1L, -3);
+        assertThat(cache.get(1L)).isEqualTo(3);
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(
+                TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(cache.get(1L)).isEqualTo(3);
+
+        cache.adjustAfterCommit(1L, -5);
+        TransactionSynchronizationManager.getSynchronizations().getLast().beforeCommit(false);
+        TransactionSynchronizationManager.getSynchronizations().getLast().afterCommit();
+        assertThat(cache.get(1L)).isZero();
+    }
+}
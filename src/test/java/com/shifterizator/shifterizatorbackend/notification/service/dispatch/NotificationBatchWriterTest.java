@@ -0,0 +1,108 @@
+package com.shifterizator.shifterizatorbackend.notification.service.dispatch;
+
+import com.shifterizator.shifterizatorbackend.notification.model.Notification;
+import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
+import com.shifterizator.shifterizatorbackend.notification.repository.NotificationRepository;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+import com.shifterizator.shifterizatorbackend.user.model.User;
+import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import(NotificationBatchWriter.class)
+class NotificationBatchWriterTest {
+
+    @Autowired
+    private NotificationBatchWriter writer;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private static Notification notification(User user, NotificationType type, Long assignmentId) {
+        return Notification.builder()
+                .user(user)
+                .type(type)
+                .title("title " + assignmentId)
+                .body("body " + assignmentId)
+                .relatedEntityType("SHIFT_ASSIGNMENT")
+                .relatedEntityId(assignmentId)
+                .read(false)
+                .build();
+    }
+
+    @Test
+    void insertAll_shouldInsertEveryNotificationAsUnread() {
+        User user = userRepository.saveAndFlush(new User("john", "john@test.com", "pass", Role.EMPLOYEE, null));
+
+        List<Notification> inserted = List.of(
+                notification(user, NotificationType.SHIFT_ASSIGNED, 1L),
+                notification(user, NotificationType.SHIFT_UNASSIGNED, 2L));
+        writer.insertAll(inserted);
+
+        List<Notification> stored = notificationRepository
+                .findByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.of(0, 10)).getContent();
+        assertThat(stored).extracting(Notification::getRelatedEntityId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(stored).extracting(Notification::getId)
+                .containsExactlyInAnyOrderElementsOf(inserted.stream().map(Notification::getId).toList());
+        assertThat(stored).extracting(Notification::getType)
+                .containsExactlyInAnyOrder(NotificationType.SHIFT_ASSIGNED, NotificationType.SHIFT_UNASSIGNED);
+        assertThat(stored).allSatisfy(n -> {
+            assertThat(n.getRead()).isFalse();
+            assertThat(n.getCreatedAt()).isNotNull();
+        });
+        assertThat(notificationRepository.countByUserIdAndReadFalse(user.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void insertAll_shouldFailWhenDriverReturnsFewerKeysThanRows() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<KeyHolder>getArgument(2).getKeyList().add(Map.of("id", 1L));
+            return new int[]{1, 1};
+        }).when(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        NotificationBatchWriter shortKeysWriter = new NotificationBatchWriter(jdbcTemplate);
+        User user = new User("john", "john@test.com", "pass", Role.EMPLOYEE, null);
+        List<Notification> notifications = List.of(
+                notification(user, NotificationType.SHIFT_ASSIGNED, 1L),
+                notification(user, NotificationType.SHIFT_ASSIGNED, 2L));
+
+        assertThatThrownBy(() -> shortKeysWriter.insertAll(notifications))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Driver returned 1 generated keys for a batch of 2 notifications");
+        assertThat(notifications).allMatch(n -> n.getId() == null);
+    }
+
+    @Test
+    void insertAll_shouldStoreDigestIds() {
+        User user = userRepository.saveAndFlush(new User("john", "john@test.com", "pass", Role.EMPLOYEE, null));
+        Notification digest = notification(user, NotificationType.SHIFT_ASSIGNED, null);
+        digest.setRelatedEntityIds(List.of(3L, 1L, 2L));
+
+        writer.insertAll(List.of(digest));
+
+        Notification stored = notificationRepository
+                .findByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.of(0, 10)).getContent().getFirst();
+        assertThat(stored.getRelatedEntityId()).isNull();
+        assertThat(stored.getRelatedEntityIds()).containsExactly(3L, 1L, 2L);
+    }
+}
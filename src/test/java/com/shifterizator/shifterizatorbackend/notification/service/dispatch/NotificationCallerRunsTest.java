@@ -0,0 +1,134 @@
+package com.shifterizator.shifterizatorbackend.notification.service.dispatch;
+
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeRepository;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.notification.event.ShiftAssignmentCreatedEvent;
+import com.shifterizator.shifterizatorbackend.notification.listener.NotificationCreationListener;
+import com.shifterizator.shifterizatorbackend.notification.repository.NotificationRepository;
+import com.shifterizator.shifterizatorbackend.notification.service.NotificationServiceImpl;
+import com.shifterizator.shifterizatorbackend.notification.service.UnreadCountCache;
+import com.shifterizator.shifterizatorbackend.notification.service.stream.NotificationStream;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import com.shifterizator.shifterizatorbackend.user.model.Role;
+import com.shifterizator.shifterizatorbackend.user.model.User;
+import com.shifterizator.shifterizatorbackend.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * With the dispatcher stopped, the AFTER_COMMIT listener writes the notification itself, after the
+ * assignment's transaction has committed.
+ */
+@DataJpaTest
+@Import({NotificationCreationListener.class, NotificationDispatcher.class, NotificationServiceImpl.class,
+        NotificationBatchWriter.class, UnreadCountCache.class, NotificationStream.class,
+        NotificationCallerRunsTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationCallerRunsTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UnreadCountCache unreadCountCache;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ShiftTemplateRepository shiftTemplateRepository;
+
+    @Autowired
+    private ShiftInstanceRepository shiftInstanceRepository;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftAssignmentRepository;
+
+    @Test
+    void enqueue_shouldPersistNotificationWhenWrittenByTheCommittingThread() {
+        notificationDispatcher.stop();
+        User user = userRepository.save(new User("caller", "caller@test.com", "pass", Role.EMPLOYEE, null));
+        assertThat(unreadCountCache.get(user.getId())).isZero();
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            Company company = companyRepository.save(
+                    new Company("Caller", "Caller", "87654321T", "caller@test.com", "+34999999999"));
+            Location location = locationRepository.save(
+                    Location.builder().name("HQ").address("Main").company(company).build());
+            Position position = positionRepository.save(Position.builder().name("Waiter").company(company).build());
+            Employee employee = employeeRepository.save(Employee.builder()
+                    .name("John").surname("Doe").position(position).user(user).build());
+            ShiftTemplate template = shiftTemplateRepository.save(ShiftTemplate.builder()
+                    .location(location).startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).build());
+            ShiftInstance instance = shiftInstanceRepository.save(ShiftInstance.builder()
+                    .shiftTemplate(template).location(location).date(LocalDate.of(2025, 2, 10))
+                    .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).requiredEmployees(1).build());
+            ShiftAssignment assignment = shiftAssignmentRepository.save(ShiftAssignment.builder()
+                    .shiftInstance(instance).employee(employee).assignedAt(LocalDateTime.now()).build());
+            applicationEventPublisher.publishEvent(new ShiftAssignmentCreatedEvent(assignment));
+        });
+
+        assertThat(meterRegistry.counter("notifications.dispatch.caller.runs").count()).isEqualTo(1);
+        assertThat(notificationRepository.countByUserIdAndReadFalse(user.getId())).isEqualTo(1);
+        assertThat(unreadCountCache.get(user.getId())).isEqualTo(1);
+    }
+}
@@ -0,0 +1,112 @@
+package com.shifterizator.shifterizatorbackend.notification.service.dispatch;
+
+import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
+import com.shifterizator.shifterizatorbackend.notification.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void cleanup() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    private static PendingNotification assigned(long assignmentId) {
+        return new PendingNotification(NotificationType.SHIFT_ASSIGNED, assignmentId, 7L);
+    }
+
+    @Test
+    void enqueue_shouldWriteQueuedNotificationsInBatches() {
+        dispatcher = new NotificationDispatcher(notificationService, meterRegistry, 100, 2, Duration.ofSeconds(5));
+        when(notificationService.createForShiftAssignments(anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        dispatcher.start();
+
+        dispatcher.enqueue(assigned(1L));
+        dispatcher.enqueue(assigned(2L));
+        dispatcher.enqueue(assigned(3L));
+
+        verify(notificationService, timeout(2000)).createForShiftAssignments(List.of(assigned(1L), assigned(2L)));
+        dispatcher.stop();
+        verify(notificationService).createForShiftAssignments(List.of(assigned(3L)));
+        assertThat(meterRegistry.counter("notifications.dispatch.written").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("notifications.dispatch.caller.runs").count()).isZero();
+    }
+
+    @Test
+    void enqueue_shouldHoldEventsOfOneEmployeeUntilTheWindowCloses() {
+        dispatcher = new NotificationDispatcher(notificationService, meterRegistry, 100, 100, Duration.ofMillis(300));
+        when(notificationService.createForShiftAssignments(anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        PendingNotification other = new PendingNotification(NotificationType.SHIFT_UNASSIGNED, 9L, 8L);
+        dispatcher.start();
+
+        dispatcher.enqueue(assigned(1L));
+        dispatcher.enqueue(other);
+        dispatcher.enqueue(assigned(2L));
+
+        verify(notificationService, timeout(2000)).createForShiftAssignments(
+                argThat(batch -> batch.containsAll(List.of(assigned(1L), assigned(2L)))));
+        verify(notificationService, timeout(2000).atLeastOnce()).createForShiftAssignments(
+                argThat(batch -> batch.contains(other)));
+    }
+
+    @Test
+    void enqueue_shouldWriteOnCallerWhenQueueIsFull() throws InterruptedException {
+        dispatcher = new NotificationDispatcher(notificationService, meterRegistry, 1, 10, Duration.ZERO);
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationService.createForShiftAssignments(anyList())).thenAnswer(invocation -> {
+            List<PendingNotification> batch = invocation.getArgument(0);
+            if (batch.contains(assigned(1L))) {
+                workerBusy.countDown();
+                release.await();
+            }
+            return batch.size();
+        });
+        dispatcher.start();
+
+        dispatcher.enqueue(assigned(1L));
+        assertThat(workerBusy.await(2, TimeUnit.SECONDS)).isTrue();
+        dispatcher.enqueue(assigned(2L));
+        dispatcher.enqueue(assigned(3L));
+
+        verify(notificationService).createForShiftAssignments(List.of(assigned(3L)));
+        assertThat(meterRegistry.counter("notifications.dispatch.caller.runs").count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void enqueue_shouldCountFailedWriteWithoutThrowing() {
+        dispatcher = new NotificationDispatcher(notificationService, meterRegistry, 1, 10, Duration.ZERO);
+        when(notificationService.createForShiftAssignments(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        dispatcher.enqueue(assigned(1L));
+
+        assertThat(meterRegistry.counter("notifications.dispatch.failed").count()).isEqualTo(1);
+    }
+}
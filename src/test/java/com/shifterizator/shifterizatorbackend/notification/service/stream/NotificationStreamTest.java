@@ -0,0 +1,112 @@
+package com.shifterizator.shifterizatorbackend.notification.service.stream;
+
+import com.shifterizator.shifterizatorbackend.auth.service.CurrentUserService;
+import com.shifterizator.shifterizatorbackend.notification.controller.NotificationController;
+import com.shifterizator.shifterizatorbackend.notification.dto.NotificationResponseDto;
+import com.shifterizator.shifterizatorbackend.notification.model.NotificationType;
+import com.shifterizator.shifterizatorbackend.notification.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private NotificationStream notificationStream;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        notificationStream = new NotificationStream(new SimpleMeterRegistry(), Duration.ofMinutes(1), 16);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new NotificationController(notificationService, notificationStream, currentUserService))
+                .build();
+    }
+
+    @AfterEach
+    void cleanup() {
+        notificationStream.closeAll();
+    }
+
+    private static NotificationResponseDto notification(long id) {
+        return new NotificationResponseDto(id, NotificationType.SHIFT_ASSIGNED, "New shift assignment", "body " + id,
+                false, LocalDateTime.of(2025, 2, 3, 9, 0), "SHIFT_ASSIGNMENT", id, List.of());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, Predicate<String> condition)
+            throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        String content = response.getContentAsString();
+        while (!condition.test(content) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    @Test
+    void stream_shouldReplayMissedNotificationsThenSendLiveOnesOnce() throws Exception {
+        when(currentUserService.getCurrentUserId()).thenReturn(1L);
+        when(notificationService.findByUserIdAfter(1L, 4L, 200)).thenReturn(List.of(notification(5L)));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/notifications/stream")
+                        .header("Last-Event-ID", "4"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        notificationStream.publishAfterCommit(Map.of(
+                1L, List.of(notification(5L), notification(6L)),
+                2L, List.of(notification(7L))));
+
+        String content = awaitContent(response, c -> c.contains("id:6"));
+        assertThat(content).containsOnlyOnce("id:5");
+        assertThat(content).contains("event:notification", "id:6", "\"body\":\"body 6\"");
+        assertThat(content).doesNotContain("id:7");
+    }
+
+    @Test
+    void stream_shouldSendHeartbeatsWithoutReplayWhenNoLastEventId() throws Exception {
+        when(currentUserService.getCurrentUserId()).thenReturn(1L);
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/notifications/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        notificationStream.heartbeat();
+
+        assertThat(awaitContent(response, c -> c.contains(":heartbeat"))).contains(":heartbeat");
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void offer_shouldCloseSubscriberWhenBufferIsFull() {
+        NotificationSubscriber subscriber = new NotificationSubscriber(1L, new SseEmitter(), 1);
+
+        assertThat(subscriber.offer(notification(1L))).isTrue();
+        assertThat(subscriber.offer(notification(2L))).isFalse();
+    }
+}
@@ -11,9 +11,10 @@ import com.shifterizator.shifterizatorbackend.company.dto.CompanyResponseDto;
 import com.shifterizator.shifterizatorbackend.company.dto.LocationRequestDto;
 import com.shifterizator.shifterizatorbackend.company.dto.LocationResponseDto;
 import com.shifterizator.shifterizatorbackend.employee.dto.PositionDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.GenerateAndScheduleRangeResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.GenerateMonthRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.GenerateRangeRequestDto;
-import com.shifterizator.shifterizatorbackend.shift.dto.GenerateRangeResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ScheduleJobResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftInstanceResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateResponseDto;
@@ -24,6 +25,7 @@ import com.shifterizator.shifterizatorbackend.employee.dto.EmployeeRequestDto;
 import com.shifterizator.shifterizatorbackend.employee.dto.EmployeeResponseDto;
 import com.shifterizator.shifterizatorbackend.availability.dto.AvailabilityRequestDto;
 import com.shifterizator.shifterizatorbackend.availability.model.AvailabilityType;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJobStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
@@ -499,7 +501,8 @@ class ShiftFlowIT extends BaseIntegrationTest {
                 locationId,
                 monday,
                 sunday,
-                true
+                true,
+                null
         );
 
         MvcResult generateResult = mockMvc.perform(post("/api/shift-instances/generate-and-schedule-range")
@@ -509,17 +512,33 @@ class ShiftFlowIT extends BaseIntegrationTest {
                 .andExpect(status().isCreated())
                 .andReturn();
 
-        GenerateRangeResponseDto response = objectMapper.readValue(
+        GenerateAndScheduleRangeResponseDto response = objectMapper.readValue(
                 generateResult.getResponse().getContentAsString(),
-                GenerateRangeResponseDto.class
+                GenerateAndScheduleRangeResponseDto.class
         );
         assertThat(response.count()).isGreaterThan(0);
         assertThat(response.instances()).isNotEmpty();
+        assertThat(response.scheduleJob()).isNotNull();
 
         // Verify instances have requiredEmployees from template (sum of positions)
         assertThat(response.instances())
                 .allMatch(i -> i.requiredEmployees() != null && i.requiredEmployees() >= 1);
 
+        // Scheduling runs in the background; poll the job until it finishes
+        ScheduleJobResponseDto job = response.scheduleJob();
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (job.status() != ScheduleJobStatus.COMPLETED && job.status() != ScheduleJobStatus.FAILED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(200);
+            MvcResult jobResult = mockMvc.perform(get("/api/schedule-jobs/{id}", job.id())
+                            .header("Authorization", adminToken))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            job = objectMapper.readValue(jobResult.getResponse().getContentAsString(), ScheduleJobResponseDto.class);
+        }
+        assertThat(job.status()).isEqualTo(ScheduleJobStatus.COMPLETED);
+        assertThat(job.processedDays()).isEqualTo(7);
+
         // Fetch by range and verify at least one instance has at least one assignment
         MvcResult rangeResult = mockMvc.perform(get("/api/shift-instances/by-location/{locationId}/range", locationId)
                         .header("Authorization", adminToken)
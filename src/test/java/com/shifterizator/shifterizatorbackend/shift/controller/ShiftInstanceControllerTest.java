@@ -5,17 +5,23 @@ import com.shifterizator.shifterizatorbackend.auth.jwt.JwtAuthenticationFilter;
 import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
 import com.shifterizator.shifterizatorbackend.company.model.Company;
 import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.shift.dto.ScheduleJobResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftInstanceRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftInstanceResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
 import com.shifterizator.shifterizatorbackend.shift.service.ShiftGenerationService;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftInstanceNotFoundException;
+import com.shifterizator.shifterizatorbackend.shift.mapper.ScheduleJobMapper;
 import com.shifterizator.shifterizatorbackend.shift.mapper.ShiftInstanceMapper;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.service.ScheduleJobService;
 import com.shifterizator.shifterizatorbackend.shift.service.ShiftInstanceService;
 import com.shifterizator.shifterizatorbackend.shift.service.ShiftSchedulerService;
 import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceRequirementStatusService;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceStatus;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJob;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJobStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +39,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -65,6 +72,12 @@ class ShiftInstanceControllerTest {
     @MockitoBean
     private ShiftInstanceRequirementStatusService requirementStatusService;
 
+    @MockitoBean
+    private ScheduleJobService scheduleJobService;
+
+    @MockitoBean
+    private ScheduleJobMapper scheduleJobMapper;
+
     @MockitoBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -137,9 +150,7 @@ class ShiftInstanceControllerTest {
     @Test
     void create_shouldReturn201AndBody() throws Exception {
         when(shiftInstanceService.create(any())).thenReturn(instance);
-        when(shiftInstanceService.getAssignedCount(99L)).thenReturn(0);
-        when(requirementStatusService.getPositionRequirementStatus(instance)).thenReturn(List.of());
-        when(requirementStatusService.getLanguageRequirementStatus(instance)).thenReturn(List.of());
+        when(requirementStatusService.getStatus(instance)).thenReturn(new ShiftInstanceStatus(0, List.of(), List.of()));
         when(shiftInstanceMapper.toDto(eq(instance), eq(0), anyList(), anyList())).thenReturn(responseDto);
 
         mockMvc.perform(post("/api/shift-instances")
@@ -156,9 +167,7 @@ class ShiftInstanceControllerTest {
     @Test
     void findById_shouldReturn200AndBody() throws Exception {
         when(shiftInstanceService.findById(99L)).thenReturn(instance);
-        when(shiftInstanceService.getAssignedCount(99L)).thenReturn(2);
-        when(requirementStatusService.getPositionRequirementStatus(instance)).thenReturn(List.of());
-        when(requirementStatusService.getLanguageRequirementStatus(instance)).thenReturn(List.of());
+        when(requirementStatusService.getStatus(instance)).thenReturn(new ShiftInstanceStatus(2, List.of(), List.of()));
         when(shiftInstanceMapper.toDto(eq(instance), eq(2), anyList(), anyList())).thenReturn(responseDto);
 
         mockMvc.perform(get("/api/shift-instances/99").with(csrf()))
@@ -172,9 +181,8 @@ class ShiftInstanceControllerTest {
     @Test
     void findByLocationAndDate_shouldReturnList() throws Exception {
         when(shiftInstanceService.findByLocationAndDate(10L, DATE)).thenReturn(List.of(instance));
-        when(shiftInstanceService.getAssignedCount(99L)).thenReturn(2);
-        when(requirementStatusService.getPositionRequirementStatus(instance)).thenReturn(List.of());
-        when(requirementStatusService.getLanguageRequirementStatus(instance)).thenReturn(List.of());
+        when(requirementStatusService.getStatuses(anyList()))
+                .thenReturn(Map.of(99L, new ShiftInstanceStatus(2, List.of(), List.of())));
         when(shiftInstanceMapper.toDto(eq(instance), eq(2), anyList(), anyList())).thenReturn(responseDto);
 
         mockMvc.perform(get("/api/shift-instances/by-location/10/date/" + DATE.toString()).with(csrf()))
@@ -187,9 +195,8 @@ class ShiftInstanceControllerTest {
     @Test
     void generateMonth_shouldReturn201AndListOfInstances() throws Exception {
         when(shiftGenerationService.generateMonth(10L, YearMonth.of(2025, 2))).thenReturn(List.of(instance));
-        when(shiftInstanceService.getAssignedCount(99L)).thenReturn(0);
-        when(requirementStatusService.getPositionRequirementStatus(instance)).thenReturn(List.of());
-        when(requirementStatusService.getLanguageRequirementStatus(instance)).thenReturn(List.of());
+        when(requirementStatusService.getStatuses(anyList()))
+                .thenReturn(Map.of(99L, new ShiftInstanceStatus(0, List.of(), List.of())));
         when(shiftInstanceMapper.toDto(eq(instance), eq(0), anyList(), anyList())).thenReturn(responseDto);
 
         mockMvc.perform(post("/api/shift-instances/generate-month")
@@ -209,9 +216,8 @@ class ShiftInstanceControllerTest {
         LocalDate monday = LocalDate.of(2025, 2, 3);
         LocalDate sunday = LocalDate.of(2025, 2, 9);
         when(shiftGenerationService.generateRange(10L, monday, sunday, false)).thenReturn(List.of(instance));
-        when(shiftInstanceService.getAssignedCount(99L)).thenReturn(0);
-        when(requirementStatusService.getPositionRequirementStatus(instance)).thenReturn(List.of());
-        when(requirementStatusService.getLanguageRequirementStatus(instance)).thenReturn(List.of());
+        when(requirementStatusService.getStatuses(anyList()))
+                .thenReturn(Map.of(99L, new ShiftInstanceStatus(0, List.of(), List.of())));
         when(shiftInstanceMapper.toDto(eq(instance), eq(0), anyList(), anyList())).thenReturn(responseDto);
 
         mockMvc.perform(post("/api/shift-instances/generate-range")
@@ -226,6 +232,26 @@ class ShiftInstanceControllerTest {
         verify(shiftGenerationService).generateRange(10L, monday, sunday, false);
     }
 
+    @Test
+    void generateRange_shouldRegenerateIncrementallyWhenRequested() throws Exception {
+        LocalDate monday = LocalDate.of(2025, 2, 3);
+        LocalDate sunday = LocalDate.of(2025, 2, 9);
+        when(shiftGenerationService.regenerateRange(10L, monday, sunday)).thenReturn(List.of(instance));
+        when(requirementStatusService.getStatuses(anyList()))
+                .thenReturn(Map.of(99L, new ShiftInstanceStatus(0, List.of(), List.of())));
+        when(shiftInstanceMapper.toDto(eq(instance), eq(0), anyList(), anyList())).thenReturn(responseDto);
+
+        mockMvc.perform(post("/api/shift-instances/generate-range")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"locationId\":10,\"startDate\":\"2025-02-03\",\"endDate\":\"2025-02-09\",\"incremental\":true}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.count").value(1));
+
+        verify(shiftGenerationService).regenerateRange(10L, monday, sunday);
+        verify(shiftGenerationService, never()).generateRange(any(), any(), any(), anyBoolean());
+    }
+
     @Test
     void generateRange_shouldReturn400WhenStartNotMonday() throws Exception {
         when(shiftGenerationService.generateRange(any(), any(), any(), anyBoolean()))
@@ -250,13 +276,25 @@ class ShiftInstanceControllerTest {
     }
 
     @Test
-    void scheduleRange_shouldReturn202Accepted() throws Exception {
+    void scheduleRange_shouldReturn202AcceptedWithJob() throws Exception {
+        LocalDate start = LocalDate.of(2025, 2, 3);
+        LocalDate end = LocalDate.of(2025, 2, 9);
+        ScheduleJob job = new ScheduleJob("job-1", 10L, start, end);
+        ScheduleJobResponseDto jobDto = new ScheduleJobResponseDto("job-1", 10L, start, end, ScheduleJobStatus.QUEUED,
+                7, 0, 0, 0, 0, job.getSubmittedAt(), null, null, null, List.of());
+        when(scheduleJobService.submitScheduleRange(10L, start, end)).thenReturn(job);
+        when(scheduleJobMapper.toDto(job)).thenReturn(jobDto);
+
         mockMvc.perform(post("/api/shift-instances/schedule-range")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"locationId\":10,\"startDate\":\"2025-02-03\",\"endDate\":\"2025-02-09\"}"))
-                .andExpect(status().isAccepted());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/schedule-jobs/job-1"))
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
 
-        verify(shiftSchedulerService).scheduleRange(10L, LocalDate.of(2025, 2, 3), LocalDate.of(2025, 2, 9));
+        verify(scheduleJobService).submitScheduleRange(10L, start, end);
+        verify(shiftSchedulerService, never()).scheduleRange(any(), any(), any());
     }
 }
@@ -6,12 +6,15 @@ import com.shifterizator.shifterizatorbackend.auth.jwt.JwtUtil;
 import com.shifterizator.shifterizatorbackend.company.model.Company;
 import com.shifterizator.shifterizatorbackend.company.model.Location;
 import com.shifterizator.shifterizatorbackend.shift.dto.PositionRequirementResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkRowResultDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateResponseDto;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftTemplateNotFoundException;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
 import com.shifterizator.shifterizatorbackend.shift.mapper.ShiftTemplateMapper;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.service.ShiftTemplateBulkService;
 import com.shifterizator.shifterizatorbackend.shift.service.ShiftTemplateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +34,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -48,6 +52,9 @@ class ShiftTemplateControllerTest {
     @MockitoBean
     private ShiftTemplateService shiftTemplateService;
 
+    @MockitoBean
+    private ShiftTemplateBulkService shiftTemplateBulkService;
+
     @MockitoBean
     private ShiftTemplateMapper shiftTemplateMapper;
 
@@ -135,6 +142,53 @@ class ShiftTemplateControllerTest {
         verify(shiftTemplateService).create(any());
     }
 
+    @Test
+    void importAll_shouldReturnPerRowResult() throws Exception {
+        when(shiftTemplateBulkService.importAll(any())).thenReturn(new ShiftTemplateBulkResponseDto(1, 1, List.of(
+                new ShiftTemplateBulkRowResultDto(0, 10L, null, 99L, null),
+                new ShiftTemplateBulkRowResultDto(1, 11L, null, null, "Location not found: 11"))));
+
+        mockMvc.perform(post("/api/shift-templates/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"templates\":[" + toJson(10L, "09:00:00", "17:00:00", "Morning", true) + ","
+                                + toJson(11L, "09:00:00", "17:00:00", "Morning", true) + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.rows[0].templateId").value(99))
+                .andExpect(jsonPath("$.rows[1].error").value("Location not found: 11"));
+
+        verify(shiftTemplateBulkService).importAll(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    void importAll_shouldReturn400WhenNoTemplates() throws Exception {
+        mockMvc.perform(post("/api/shift-templates/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"templates\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(shiftTemplateBulkService);
+    }
+
+    @Test
+    void cloneToLocations_shouldReturnPerRowResult() throws Exception {
+        when(shiftTemplateBulkService.cloneToLocations(10L, List.of(20L, 21L)))
+                .thenReturn(new ShiftTemplateBulkResponseDto(1, 0, List.of(
+                        new ShiftTemplateBulkRowResultDto(0, 20L, 99L, 150L, null))));
+
+        mockMvc.perform(post("/api/shift-templates/clone")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sourceLocationId\":10,\"targetLocationIds\":[20,21]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rows[0].sourceTemplateId").value(99))
+                .andExpect(jsonPath("$.rows[0].templateId").value(150));
+    }
+
     @Test
     void update_shouldReturn200AndBody() throws Exception {
         when(shiftTemplateService.update(eq(99L), any())).thenReturn(template);
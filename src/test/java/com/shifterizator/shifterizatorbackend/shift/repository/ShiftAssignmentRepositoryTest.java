@@ -0,0 +1,115 @@
+package com.shifterizator.shifterizatorbackend.shift.repository;
+
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeRepository;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ShiftAssignmentRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 2, 3);
+
+    @Autowired
+    private ShiftAssignmentRepository repository;
+
+    @Autowired
+    private ShiftInstanceRepository shiftInstanceRepository;
+
+    @Autowired
+    private ShiftTemplateRepository shiftTemplateRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Location location;
+    private ShiftTemplate template;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        Company company = companyRepository.save(
+                new Company("Skynet", "Skynet", "12345678T", "test@test.com", "+34999999999"));
+        location = locationRepository.save(Location.builder().name("HQ").address("Main").company(company).build());
+        template = shiftTemplateRepository.save(ShiftTemplate.builder()
+                .location(location)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .isActive(true)
+                .build());
+        Position position = positionRepository.save(Position.builder().name("Waiter").company(company).build());
+        employee = employeeRepository.save(Employee.builder().name("John").surname("Doe").position(position).build());
+    }
+
+    private ShiftAssignment assign(LocalDate date, LocalTime start, boolean deleted) {
+        ShiftInstance instance = shiftInstanceRepository.save(ShiftInstance.builder()
+                .shiftTemplate(template)
+                .location(location)
+                .date(date)
+                .startTime(start)
+                .endTime(start.plusHours(4))
+                .requiredEmployees(1)
+                .build());
+        return repository.save(ShiftAssignment.builder()
+                .shiftInstance(instance)
+                .employee(employee)
+                .assignedAt(LocalDateTime.now())
+                .deletedAt(deleted ? LocalDateTime.now() : null)
+                .build());
+    }
+
+    @Test
+    void employeeFeed_shouldWalkAllActiveAssignmentsInOrderAcrossTies() {
+        ShiftAssignment late = assign(MONDAY.plusDays(1), LocalTime.of(9, 0), false);
+        ShiftAssignment morningA = assign(MONDAY, LocalTime.of(9, 0), false);
+        ShiftAssignment morningB = assign(MONDAY, LocalTime.of(9, 0), false);
+        ShiftAssignment afternoon = assign(MONDAY, LocalTime.of(14, 0), false);
+        assign(MONDAY, LocalTime.of(11, 0), true);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> walked = new ArrayList<>();
+        List<ShiftAssignment> page = repository.findEmployeeFeedFirstPage(employee.getId(), PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(sa -> walked.add(sa.getId()));
+            ShiftAssignment last = page.getLast();
+            page = repository.findEmployeeFeedPageAfter(employee.getId(), last.getShiftInstance().getDate(),
+                    last.getShiftInstance().getStartTime(), last.getId(), PageRequest.of(0, 2));
+        }
+
+        assertThat(walked).containsExactly(morningA.getId(), morningB.getId(), afternoon.getId(), late.getId());
+    }
+}
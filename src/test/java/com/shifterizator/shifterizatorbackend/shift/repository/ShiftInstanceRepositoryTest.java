@@ -17,11 +17,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -167,4 +171,92 @@ class ShiftInstanceRepositoryTest {
 
         assertThat(count).isEqualTo(2);
     }
+
+    @Test
+    void softDeleteByLocationAndDateBetween_shouldClearInstancesAndAssignmentsOnlyInsideWindow() {
+        LocalDate monday = LocalDate.of(2025, 2, 3);
+        LocalDate sunday = LocalDate.of(2025, 2, 9);
+        ShiftInstance inside = repository.save(ShiftInstance.builder()
+                .shiftTemplate(template1).location(location1).date(monday.plusDays(2))
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).requiredEmployees(1)
+                .build());
+        ShiftInstance outside = repository.save(ShiftInstance.builder()
+                .shiftTemplate(template1).location(location1).date(sunday.plusDays(1))
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).requiredEmployees(1)
+                .build());
+        Position position = template1.getRequiredPositions().iterator().next().getPosition();
+        Employee employee = employeeRepository.save(Employee.builder()
+                .name("John").surname("Doe").position(position).build());
+        shiftAssignmentRepository.save(ShiftAssignment.builder().shiftInstance(inside).employee(employee).build());
+        shiftAssignmentRepository.save(ShiftAssignment.builder().shiftInstance(outside).employee(employee).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+        int assignments = shiftAssignmentRepository.softDeleteByLocationAndDateBetween(
+                location1.getId(), monday, sunday, deletedAt);
+        int instances = repository.softDeleteByLocationAndDateBetween(location1.getId(), monday, sunday, deletedAt);
+        entityManager.clear();
+
+        assertThat(assignments).isEqualTo(1);
+        assertThat(instances).isEqualTo(1);
+        assertThat(repository.countActiveAssignments(inside.getId())).isZero();
+        assertThat(repository.countActiveAssignments(outside.getId())).isEqualTo(1);
+        assertThat(repository.findByLocation_IdAndDateBetweenAndDeletedAtIsNullOrderByDateAscStartTimeAsc(
+                location1.getId(), monday, sunday.plusDays(1)))
+                .extracting(ShiftInstance::getId)
+                .containsExactly(outside.getId());
+    }
+
+    @Test
+    void findCoverageByIds_shouldReturnStoredCountersOfRequestedInstances() {
+        LocalDate date = LocalDate.of(2024, 12, 24);
+        ShiftInstance covered = repository.save(ShiftInstance.builder()
+                .shiftTemplate(template1)
+                .location(location1)
+                .date(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .assignedCount(2)
+                .assignedByPosition(new HashMap<>(Map.of(7L, 2)))
+                .assignedByLanguage(new HashMap<>(Map.of(3L, 1)))
+                .build());
+        ShiftInstance other = repository.save(ShiftInstance.builder()
+                .shiftTemplate(template1)
+                .location(location1)
+                .date(date)
+                .startTime(LocalTime.of(18, 0))
+                .endTime(LocalTime.of(22, 0))
+                .assignedByPosition(new HashMap<>(Map.of(7L, 1)))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(repository.findPositionCoverageByIds(List.of(covered.getId())))
+                .containsExactly(new CoverageCount(covered.getId(), 7L, 2));
+        assertThat(repository.findLanguageCoverageByIds(List.of(covered.getId(), other.getId())))
+                .containsExactly(new CoverageCount(covered.getId(), 3L, 1));
+        assertThat(repository.findById(covered.getId()).orElseThrow().getAssignedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findActiveIdsAfter_shouldPageActiveIdsInOrder() {
+        LocalDate date = LocalDate.of(2024, 12, 24);
+        ShiftInstance first = repository.save(ShiftInstance.builder()
+                .shiftTemplate(template1).location(location1).date(date)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(12, 0)).build());
+        ShiftInstance deleted = repository.save(ShiftInstance.builder()
+                .shiftTemplate(template1).location(location1).date(date)
+                .startTime(LocalTime.of(12, 0)).endTime(LocalTime.of(15, 0))
+                .deletedAt(LocalDateTime.now()).build());
+        ShiftInstance last = repository.save(ShiftInstance.builder()
+                .shiftTemplate(template1).location(location1).date(date)
+                .startTime(LocalTime.of(15, 0)).endTime(LocalTime.of(18, 0)).build());
+        entityManager.flush();
+
+        assertThat(repository.findActiveIdsAfter(0L, PageRequest.of(0, 1))).containsExactly(first.getId());
+        assertThat(repository.findActiveIdsAfter(first.getId(), PageRequest.of(0, 10)))
+                .containsExactly(last.getId())
+                .doesNotContain(deleted.getId());
+    }
 }
@@ -0,0 +1,99 @@
+package com.shifterizator.shifterizatorbackend.shift.service;
+
+import com.shifterizator.shifterizatorbackend.company.service.LocationService;
+import com.shifterizator.shifterizatorbackend.shift.exception.ScheduleJobNotFoundException;
+import com.shifterizator.shifterizatorbackend.shift.exception.ScheduleJobRejectedException;
+import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJob;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJobDayStatus;
+import com.shifterizator.shifterizatorbackend.shift.service.job.ScheduleJobStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleJobServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 2, 3);
+    private static final LocalDate END = LocalDate.of(2025, 2, 9);
+
+    @Mock
+    private ShiftSchedulerService shiftSchedulerService;
+    @Mock
+    private LocationService locationService;
+
+    private ScheduleJobServiceImpl service(TaskExecutor executor) {
+        return new ScheduleJobServiceImpl(shiftSchedulerService, locationService, executor, Duration.ofHours(1));
+    }
+
+    @Test
+    void submitScheduleRange_shouldRunJobAndRecordDayProgress() {
+        doAnswer(inv -> {
+            ScheduleProgressListener listener = inv.getArgument(3);
+            listener.onDayCompleted(START, 12);
+            listener.onDaySkipped(START.plusDays(1), "No shifts", 1);
+            return null;
+        }).when(shiftSchedulerService).scheduleRange(eq(10L), eq(START), eq(END), any(ScheduleProgressListener.class));
+        ScheduleJobServiceImpl service = service(Runnable::run);
+
+        ScheduleJob job = service.submitScheduleRange(10L, START, END);
+
+        assertThat(job.getStatus()).isEqualTo(ScheduleJobStatus.COMPLETED);
+        assertThat(job.getTotalDays()).isEqualTo(7);
+        assertThat(job.getDays()).extracting(ScheduleJob.DayResult::status)
+                .containsExactly(ScheduleJobDayStatus.SCHEDULED, ScheduleJobDayStatus.SKIPPED);
+        assertThat(service.findById(job.getId())).isSameAs(job);
+        verify(locationService).findById(10L);
+    }
+
+    @Test
+    void submitScheduleRange_shouldMarkJobFailedWhenRangeThrows() {
+        doThrow(new IllegalStateException("boom"))
+                .when(shiftSchedulerService).scheduleRange(eq(10L), eq(START), eq(END), any(ScheduleProgressListener.class));
+
+        ScheduleJob job = service(Runnable::run).submitScheduleRange(10L, START, END);
+
+        assertThat(job.getStatus()).isEqualTo(ScheduleJobStatus.FAILED);
+        assertThat(job.getError()).isEqualTo("boom");
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void submitScheduleRange_shouldValidateBeforeQueueing() {
+        doThrow(new ShiftValidationException("Start date must be a Monday"))
+                .when(shiftSchedulerService).validateRange(START.plusDays(1), END);
+        TaskExecutor executor = mock(TaskExecutor.class);
+
+        assertThatThrownBy(() -> service(executor).submitScheduleRange(10L, START.plusDays(1), END))
+                .isInstanceOf(ShiftValidationException.class);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void submitScheduleRange_shouldRejectWhenExecutorIsFull() {
+        ScheduleJobServiceImpl service = service(task -> {
+            throw new TaskRejectedException("full");
+        });
+
+        assertThatThrownBy(() -> service.submitScheduleRange(10L, START, END))
+                .isInstanceOf(ScheduleJobRejectedException.class);
+    }
+
+    @Test
+    void findById_shouldThrowWhenUnknown() {
+        assertThatThrownBy(() -> service(Runnable::run).findById("missing"))
+                .isInstanceOf(ScheduleJobNotFoundException.class);
+    }
+}
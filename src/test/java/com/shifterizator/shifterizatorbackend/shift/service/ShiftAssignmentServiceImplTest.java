@@ -16,7 +16,7 @@ import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
 import com.shifterizator.shifterizatorbackend.shift.service.advisor.ShiftAssignmentPreferenceAdvisor;
-import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCompletenessService;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCoverageService;
 import com.shifterizator.shifterizatorbackend.shift.service.validator.ShiftAssignmentValidator;
 import com.shifterizator.shifterizatorbackend.company.model.Company;
 import com.shifterizator.shifterizatorbackend.company.model.Location;
@@ -52,7 +52,7 @@ class ShiftAssignmentServiceImplTest {
     private ShiftAssignmentValidator shiftAssignmentValidator;
 
     @Mock
-    private ShiftInstanceCompletenessService shiftInstanceCompletenessService;
+    private ShiftInstanceCoverageService shiftInstanceCoverageService;
 
     @Mock
     private ShiftAssignmentPreferenceAdvisor shiftAssignmentPreferenceAdvisor;
@@ -122,7 +122,8 @@ class ShiftAssignmentServiceImplTest {
                 .isConfirmed(false)
                 .build();
 
-        when(shiftInstanceRepository.findById(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdFullyLoaded(99L)).thenReturn(Optional.of(shiftInstance));
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
         when(shiftAssignmentRepository.save(any(ShiftAssignment.class))).thenReturn(assignment);
         doNothing().when(shiftAssignmentValidator).validateNotAlreadyAssigned(any(), any());
@@ -132,7 +133,6 @@ class ShiftAssignmentServiceImplTest {
         doNothing().when(shiftAssignmentValidator).validateLanguageRequirements(any(), any());
         doNothing().when(shiftAssignmentValidator).validateNoOverlappingShifts(any(), any());
         doNothing().when(shiftAssignmentValidator).validatePositionCapacity(any(), any());
-        doNothing().when(shiftInstanceCompletenessService).updateCompleteness(any());
         when(shiftAssignmentPreferenceAdvisor.getWarnings(any(), any())).thenReturn(List.of());
 
         ShiftAssignmentAssignResult result = service.assign(dto);
@@ -147,7 +147,7 @@ class ShiftAssignmentServiceImplTest {
         verify(shiftAssignmentValidator).validateLanguageRequirements(employee, shiftInstance);
         verify(shiftAssignmentValidator).validateNoOverlappingShifts(1L, shiftInstance);
         verify(shiftAssignmentValidator).validatePositionCapacity(employee, shiftInstance);
-        verify(shiftInstanceCompletenessService).updateCompleteness(shiftInstance);
+        verify(shiftInstanceCoverageService).recordAssigned(shiftInstance, employee);
     }
 
     @Test
@@ -172,7 +172,8 @@ class ShiftAssignmentServiceImplTest {
                 .build();
 
         String preferredDayOffWarning = "Assignment is on employee's preferred day off (" + futureDate().getDayOfWeek() + ").";
-        when(shiftInstanceRepository.findById(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdFullyLoaded(99L)).thenReturn(Optional.of(shiftInstance));
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
         when(shiftAssignmentRepository.save(any(ShiftAssignment.class))).thenReturn(assignment);
         doNothing().when(shiftAssignmentValidator).validateNotAlreadyAssigned(any(), any());
@@ -182,7 +183,6 @@ class ShiftAssignmentServiceImplTest {
         doNothing().when(shiftAssignmentValidator).validateLanguageRequirements(any(), any());
         doNothing().when(shiftAssignmentValidator).validateNoOverlappingShifts(any(), any());
         doNothing().when(shiftAssignmentValidator).validatePositionCapacity(any(), any());
-        doNothing().when(shiftInstanceCompletenessService).updateCompleteness(any());
         when(shiftAssignmentPreferenceAdvisor.getWarnings(employee, shiftInstance))
                 .thenReturn(List.of(preferredDayOffWarning));
 
@@ -208,7 +208,8 @@ class ShiftAssignmentServiceImplTest {
                 .build();
 
         String notPreferredWarning = "Shift template is not among employee's preferred shifts.";
-        when(shiftInstanceRepository.findById(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdFullyLoaded(99L)).thenReturn(Optional.of(shiftInstance));
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
         when(shiftAssignmentRepository.save(any(ShiftAssignment.class))).thenReturn(assignment);
         doNothing().when(shiftAssignmentValidator).validateNotAlreadyAssigned(any(), any());
@@ -218,7 +219,6 @@ class ShiftAssignmentServiceImplTest {
         doNothing().when(shiftAssignmentValidator).validateLanguageRequirements(any(), any());
         doNothing().when(shiftAssignmentValidator).validateNoOverlappingShifts(any(), any());
         doNothing().when(shiftAssignmentValidator).validatePositionCapacity(any(), any());
-        doNothing().when(shiftInstanceCompletenessService).updateCompleteness(any());
         when(shiftAssignmentPreferenceAdvisor.getWarnings(employee, shiftInstance))
                 .thenReturn(List.of(notPreferredWarning));
 
@@ -232,7 +232,7 @@ class ShiftAssignmentServiceImplTest {
     void assign_shouldThrowWhenShiftInstanceNotFound() {
         ShiftAssignmentRequestDto dto = new ShiftAssignmentRequestDto(999L, 1L);
 
-        when(shiftInstanceRepository.findById(999L)).thenReturn(Optional.empty());
+        when(shiftInstanceRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.assign(dto))
                 .isInstanceOf(ShiftInstanceNotFoundException.class)
@@ -244,7 +244,8 @@ class ShiftAssignmentServiceImplTest {
         ShiftAssignmentRequestDto dto = new ShiftAssignmentRequestDto(99L, 999L);
         ShiftInstance shiftInstance = createShiftInstance();
 
-        when(shiftInstanceRepository.findById(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdFullyLoaded(99L)).thenReturn(Optional.of(shiftInstance));
         when(employeeRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.assign(dto))
@@ -262,7 +263,8 @@ class ShiftAssignmentServiceImplTest {
 
         ShiftAssignment existing = ShiftAssignment.builder().id(100L).build();
 
-        when(shiftInstanceRepository.findById(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdFullyLoaded(99L)).thenReturn(Optional.of(shiftInstance));
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
         doThrow(new ShiftValidationException("Employee is already assigned to this shift"))
                 .when(shiftAssignmentValidator).validateNotAlreadyAssigned(99L, 1L);
@@ -280,7 +282,8 @@ class ShiftAssignmentServiceImplTest {
         Position position = Position.builder().id(1L).name("Sales Assistant").company(company).build();
         Employee employee = Employee.builder().id(1L).name("John").surname("Doe").position(position).build();
 
-        when(shiftInstanceRepository.findById(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdFullyLoaded(99L)).thenReturn(Optional.of(shiftInstance));
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
         doNothing().when(shiftAssignmentValidator).validateNotAlreadyAssigned(any(), any());
         doThrow(new ShiftValidationException("Employee is marked as VACATION on this date"))
@@ -299,7 +302,8 @@ class ShiftAssignmentServiceImplTest {
         Position wrongPosition = Position.builder().id(999L).name("Cashier").company(company).build();
         Employee employee = Employee.builder().id(1L).name("John").surname("Doe").position(wrongPosition).build();
 
-        when(shiftInstanceRepository.findById(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdFullyLoaded(99L)).thenReturn(Optional.of(shiftInstance));
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
         doNothing().when(shiftAssignmentValidator).validateNotAlreadyAssigned(any(), any());
         doNothing().when(shiftAssignmentValidator).validateEmployeeAvailability(any(), any());
@@ -319,7 +323,8 @@ class ShiftAssignmentServiceImplTest {
         Position position = Position.builder().id(1L).name("Sales Assistant").company(company).build();
         Employee employee1 = Employee.builder().id(1L).name("John").surname("Doe").position(position).build();
 
-        when(shiftInstanceRepository.findById(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
+        when(shiftInstanceRepository.findByIdFullyLoaded(99L)).thenReturn(Optional.of(shiftInstance));
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee1));
         doNothing().when(shiftAssignmentValidator).validateNotAlreadyAssigned(any(), any());
         doNothing().when(shiftAssignmentValidator).validateEmployeeAvailability(any(), any());
@@ -347,18 +352,19 @@ class ShiftAssignmentServiceImplTest {
                 .employee(employee)
                 .build();
 
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(shiftInstance));
         when(shiftAssignmentRepository.findByShiftInstance_IdAndEmployee_IdAndDeletedAtIsNull(99L, 1L))
                 .thenReturn(Optional.of(assignment));
-        doNothing().when(shiftInstanceCompletenessService).updateCompleteness(any());
 
         service.unassign(99L, 1L);
 
         assertThat(assignment.getDeletedAt()).isNotNull();
-        verify(shiftInstanceCompletenessService).updateCompleteness(shiftInstance);
+        verify(shiftInstanceCoverageService).recordUnassigned(shiftInstance, employee);
     }
 
     @Test
     void unassign_shouldThrowWhenAssignmentNotFound() {
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(createShiftInstance()));
         when(shiftAssignmentRepository.findByShiftInstance_IdAndEmployee_IdAndDeletedAtIsNull(99L, 1L))
                 .thenReturn(Optional.empty());
 
@@ -368,7 +374,7 @@ class ShiftAssignmentServiceImplTest {
     }
 
     @Test
-    void unassignEmployeeFromShiftsInDateRange_shouldSoftDeleteAndUpdateCompleteness() {
+    void unassignEmployeeFromShiftsInDateRange_shouldSoftDeleteAndUpdateCoverage() {
         LocalDate start = LocalDate.now().plusDays(1);
         LocalDate end = LocalDate.now().plusDays(5);
         ShiftInstance instance1 = createShiftInstance();
@@ -382,14 +388,15 @@ class ShiftAssignmentServiceImplTest {
 
         when(shiftAssignmentRepository.findByEmployee_IdAndShiftInstance_DateBetweenAndDeletedAtIsNull(1L, start, end))
                 .thenReturn(List.of(a1, a2));
-        doNothing().when(shiftInstanceCompletenessService).updateCompleteness(any());
+        when(shiftInstanceRepository.findByIdForUpdate(99L)).thenReturn(Optional.of(instance1));
+        when(shiftInstanceRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(instance2));
 
         service.unassignEmployeeFromShiftsInDateRange(1L, start, end);
 
         assertThat(a1.getDeletedAt()).isNotNull();
         assertThat(a2.getDeletedAt()).isNotNull();
-        verify(shiftInstanceCompletenessService).updateCompleteness(instance1);
-        verify(shiftInstanceCompletenessService).updateCompleteness(instance2);
+        verify(shiftInstanceCoverageService).recordUnassigned(instance1, employee);
+        verify(shiftInstanceCoverageService).recordUnassigned(instance2, employee);
     }
 
     @Test
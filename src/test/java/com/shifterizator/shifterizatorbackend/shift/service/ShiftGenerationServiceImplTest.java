@@ -9,13 +9,17 @@ import com.shifterizator.shifterizatorbackend.openinghours.model.SpecialOpeningH
 import com.shifterizator.shifterizatorbackend.openinghours.service.SpecialOpeningHoursService;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCompletenessService;
 import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceDomainService;
+import com.shifterizator.shifterizatorbackend.shift.service.generation.RegeneratedAssignmentChecker;
+import com.shifterizator.shifterizatorbackend.shift.service.generation.ShiftInstanceBatchWriter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,9 +47,17 @@ class ShiftGenerationServiceImplTest {
     @Mock
     private ShiftInstanceRepository shiftInstanceRepository;
     @Mock
+    private ShiftAssignmentRepository shiftAssignmentRepository;
+    @Mock
     private BlackoutDayService blackoutDayService;
     @Mock
     private SpecialOpeningHoursService specialOpeningHoursService;
+    @Mock
+    private ShiftInstanceBatchWriter shiftInstanceBatchWriter;
+    @Mock
+    private ShiftInstanceCompletenessService shiftInstanceCompletenessService;
+    @Mock
+    private RegeneratedAssignmentChecker regeneratedAssignmentChecker;
 
     @InjectMocks
     private ShiftGenerationServiceImpl service;
@@ -84,7 +96,7 @@ class ShiftGenerationServiceImplTest {
                 .hasMessageContaining("Location not found");
 
         verify(blackoutDayService, never()).findByLocationAndMonth(any(), any());
-        verify(shiftInstanceRepository, never()).save(any());
+        verifyNoInteractions(shiftInstanceBatchWriter);
     }
 
     @Test
@@ -100,31 +112,18 @@ class ShiftGenerationServiceImplTest {
         when(specialOpeningHoursService.findByLocationAndMonth(locationId, yearMonth)).thenReturn(List.of());
         when(shiftTemplateRepository.findByLocation_IdAndDeletedAtIsNullAndIsActiveTrueOrderByPriorityAscStartTimeAsc(locationId))
                 .thenReturn(List.of(t1, t2));
-        when(shiftInstanceRepository.softDeleteByLocationAndDate(any(), any(), any())).thenReturn(0);
-        when(shiftInstanceRepository.save(any(ShiftInstance.class))).thenAnswer(inv -> {
-            ShiftInstance i = inv.getArgument(0);
-            if (i.getId() == null) {
-                ShiftInstance copy = ShiftInstance.builder()
-                        .id(100L + inv.getArgument(0).hashCode() % 10000)
-                        .shiftTemplate(i.getShiftTemplate())
-                        .location(i.getLocation())
-                        .date(i.getDate())
-                        .startTime(i.getStartTime())
-                        .endTime(i.getEndTime())
-                        .requiredEmployees(i.getRequiredEmployees())
-                        .build();
-                return copy;
-            }
-            return i;
-        });
 
         List<ShiftInstance> result = service.generateMonth(locationId, yearMonth);
 
         int expectedDays = 31;
         int expectedPerDay = 2;
         assertThat(result).hasSize(expectedDays * expectedPerDay);
-        verify(shiftInstanceRepository, times(expectedDays)).softDeleteByLocationAndDate(eq(locationId), any(LocalDate.class), any());
-        verify(shiftInstanceRepository, times(expectedDays * expectedPerDay)).save(any(ShiftInstance.class));
+        verify(shiftInstanceRepository).softDeleteByLocationAndDateBetween(
+                eq(locationId), eq(yearMonth.atDay(1)), eq(yearMonth.atEndOfMonth()), any());
+        verify(shiftAssignmentRepository).softDeleteByLocationAndDateBetween(
+                eq(locationId), eq(yearMonth.atDay(1)), eq(yearMonth.atEndOfMonth()), any());
+        verify(shiftInstanceBatchWriter).insertAll(result);
+        verify(shiftInstanceRepository, never()).save(any());
     }
 
     @Test
@@ -141,18 +140,12 @@ class ShiftGenerationServiceImplTest {
         when(specialOpeningHoursService.findByLocationAndMonth(locationId, yearMonth)).thenReturn(List.of());
         when(shiftTemplateRepository.findByLocation_IdAndDeletedAtIsNullAndIsActiveTrueOrderByPriorityAscStartTimeAsc(locationId))
                 .thenReturn(List.of(t1));
-        when(shiftInstanceRepository.softDeleteByLocationAndDate(any(), any(), any())).thenReturn(0);
-        when(shiftInstanceRepository.save(any(ShiftInstance.class))).thenAnswer(inv -> {
-            ShiftInstance i = inv.getArgument(0);
-            return ShiftInstance.builder().id(100L).shiftTemplate(i.getShiftTemplate()).location(i.getLocation())
-                    .date(i.getDate()).startTime(i.getStartTime()).endTime(i.getEndTime()).requiredEmployees(i.getRequiredEmployees()).build();
-        });
 
         List<ShiftInstance> result = service.generateMonth(locationId, yearMonth);
 
         assertThat(result).hasSize(30);
         assertThat(result).noneMatch(i -> i.getDate().equals(blackoutDate));
-        verify(shiftInstanceRepository, times(31)).softDeleteByLocationAndDate(eq(locationId), any(LocalDate.class), any());
+        verify(shiftInstanceRepository, times(1)).softDeleteByLocationAndDateBetween(eq(locationId), any(), any(), any());
     }
 
     @Test
@@ -172,19 +165,11 @@ class ShiftGenerationServiceImplTest {
         when(specialOpeningHoursService.findByLocationAndMonth(locationId, yearMonth)).thenReturn(List.of(special));
         when(shiftTemplateRepository.findByLocation_IdAndDeletedAtIsNullAndIsActiveTrueOrderByPriorityAscStartTimeAsc(locationId))
                 .thenReturn(List.of(t1));
-        when(shiftInstanceRepository.softDeleteByLocationAndDate(any(), any(), any())).thenReturn(0);
-        ArgumentCaptor<ShiftInstance> savedCaptor = ArgumentCaptor.forClass(ShiftInstance.class);
-        when(shiftInstanceRepository.save(savedCaptor.capture())).thenAnswer(inv -> {
-            ShiftInstance i = inv.getArgument(0);
-            return ShiftInstance.builder().id(100L).shiftTemplate(i.getShiftTemplate()).location(i.getLocation())
-                    .date(i.getDate()).startTime(i.getStartTime()).endTime(i.getEndTime()).requiredEmployees(i.getRequiredEmployees()).build();
-        });
 
         List<ShiftInstance> result = service.generateMonth(locationId, yearMonth);
 
         assertThat(result).hasSize(31);
-        List<ShiftInstance> saved = savedCaptor.getAllValues();
-        ShiftInstance onSpecialDay = saved.stream().filter(i -> i.getDate().equals(specialDate)).findFirst().orElseThrow();
+        ShiftInstance onSpecialDay = result.stream().filter(i -> i.getDate().equals(specialDate)).findFirst().orElseThrow();
         assertThat(onSpecialDay.getStartTime()).isEqualTo(LocalTime.of(10, 0));
         assertThat(onSpecialDay.getEndTime()).isEqualTo(LocalTime.of(18, 0));
     }
@@ -205,12 +190,12 @@ class ShiftGenerationServiceImplTest {
         when(specialOpeningHoursService.findByLocationAndMonth(locationId, yearMonth)).thenReturn(List.of(special));
         when(shiftTemplateRepository.findByLocation_IdAndDeletedAtIsNullAndIsActiveTrueOrderByPriorityAscStartTimeAsc(locationId))
                 .thenReturn(List.of());
-        when(shiftInstanceRepository.softDeleteByLocationAndDate(any(), any(), any())).thenReturn(0);
 
         List<ShiftInstance> result = service.generateMonth(locationId, yearMonth);
 
         assertThat(result).isEmpty();
         verify(shiftInstanceRepository, never()).save(any());
+        verify(shiftInstanceBatchWriter).insertAll(List.of());
     }
 
     @Test
@@ -226,12 +211,6 @@ class ShiftGenerationServiceImplTest {
         when(specialOpeningHoursService.findByLocationAndMonth(locationId, yearMonth)).thenReturn(List.of());
         when(shiftTemplateRepository.findByLocation_IdAndDeletedAtIsNullAndIsActiveTrueOrderByPriorityAscStartTimeAsc(locationId))
                 .thenReturn(List.of(t1));
-        when(shiftInstanceRepository.softDeleteByLocationAndDate(any(), any(), any())).thenReturn(0);
-        when(shiftInstanceRepository.save(any(ShiftInstance.class))).thenAnswer(inv -> {
-            ShiftInstance i = inv.getArgument(0);
-            return ShiftInstance.builder().id(100L).shiftTemplate(i.getShiftTemplate()).location(i.getLocation())
-                    .date(i.getDate()).startTime(i.getStartTime()).endTime(i.getEndTime()).requiredEmployees(i.getRequiredEmployees()).build();
-        });
 
         List<ShiftInstance> result = service.generateMonth(locationId, yearMonth);
 
@@ -257,12 +236,6 @@ class ShiftGenerationServiceImplTest {
         when(specialOpeningHoursService.findByLocationAndMonth(locationId, yearMonth)).thenReturn(List.of(special));
         when(shiftTemplateRepository.findByLocation_IdAndDeletedAtIsNullAndIsActiveTrueOrderByPriorityAscStartTimeAsc(locationId))
                 .thenReturn(List.of(t1));
-        when(shiftInstanceRepository.softDeleteByLocationAndDate(any(), any(), any())).thenReturn(0);
-        when(shiftInstanceRepository.save(any(ShiftInstance.class))).thenAnswer(inv -> {
-            ShiftInstance i = inv.getArgument(0);
-            return ShiftInstance.builder().id(100L).shiftTemplate(i.getShiftTemplate()).location(i.getLocation())
-                    .date(i.getDate()).startTime(i.getStartTime()).endTime(i.getEndTime()).requiredEmployees(i.getRequiredEmployees()).build();
-        });
 
         List<ShiftInstance> result = service.generateMonth(locationId, yearMonth);
 
@@ -317,17 +290,84 @@ class ShiftGenerationServiceImplTest {
                 .thenReturn(List.of(t1));
         when(shiftInstanceRepository.findByLocation_IdAndDateBetweenAndDeletedAtIsNullOrderByDateAscStartTimeAsc(locationId, monday, sunday))
                 .thenReturn(List.of());
-        when(shiftInstanceRepository.softDeleteByLocationAndDate(any(), any(), any())).thenReturn(0);
-        when(shiftInstanceRepository.save(any(ShiftInstance.class))).thenAnswer(inv -> {
-            ShiftInstance i = inv.getArgument(0);
-            return ShiftInstance.builder().id(100L).shiftTemplate(i.getShiftTemplate()).location(i.getLocation())
-                    .date(i.getDate()).startTime(i.getStartTime()).endTime(i.getEndTime()).requiredEmployees(i.getRequiredEmployees()).build();
-        });
 
         List<ShiftInstance> result = service.generateRange(locationId, monday, sunday, false);
 
         assertThat(result).hasSize(7);
+        verify(shiftInstanceRepository).softDeleteByLocationAndDateBetween(eq(locationId), eq(monday), eq(sunday), any());
+        verify(shiftAssignmentRepository).softDeleteByLocationAndDateBetween(eq(locationId), eq(monday), eq(sunday), any());
         verify(blackoutDayService).findByLocationAndDateRange(locationId, monday, sunday);
         verify(specialOpeningHoursService).findByLocationAndDateRange(locationId, monday, sunday);
     }
+
+    @Test
+    void regenerateRange_shouldOnlyWriteTheDifference() {
+        Long locationId = 1L;
+        Location loc = location(locationId);
+        ShiftTemplate t1 = template(1L, loc, LocalTime.of(9, 0), LocalTime.of(17, 0));
+        LocalDate monday = LocalDate.of(2025, 2, 3);
+        LocalDate sunday = LocalDate.of(2025, 2, 9);
+        ShiftInstance kept = ShiftInstance.builder().id(50L).shiftTemplate(t1).location(loc).date(monday)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).requiredEmployees(2).build();
+        ShiftInstance changed = ShiftInstance.builder().id(51L).shiftTemplate(t1).location(loc).date(monday.plusDays(1))
+                .startTime(LocalTime.of(8, 0)).endTime(LocalTime.of(16, 0)).requiredEmployees(2).build();
+        ShiftInstance stale = ShiftInstance.builder().id(52L).shiftTemplate(template(9L, loc, LocalTime.of(18, 0), LocalTime.of(22, 0)))
+                .location(loc).date(monday).startTime(LocalTime.of(18, 0)).endTime(LocalTime.of(22, 0)).requiredEmployees(1).build();
+
+        when(shiftInstanceDomainService.resolveLocation(locationId)).thenReturn(loc);
+        when(blackoutDayService.findByLocationAndDateRange(locationId, monday, sunday)).thenReturn(List.of());
+        when(specialOpeningHoursService.findByLocationAndDateRange(locationId, monday, sunday)).thenReturn(List.of());
+        when(shiftTemplateRepository.findByLocation_IdAndDeletedAtIsNullAndIsActiveTrueOrderByPriorityAscStartTimeAsc(locationId))
+                .thenReturn(List.of(t1));
+        when(shiftInstanceRepository.findActiveIdsByLocationIdAndDateBetween(locationId, monday, sunday))
+                .thenReturn(List.of(50L, 51L, 52L));
+        when(shiftInstanceRepository.findAllByIdInForUpdate(List.of(50L, 51L, 52L)))
+                .thenReturn(List.of(stale, changed, kept));
+
+        List<ShiftInstance> result = service.regenerateRange(locationId, monday, sunday);
+
+        assertThat(result).hasSize(7);
+        assertThat(result.get(0)).isSameAs(kept);
+        assertThat(result.get(1)).isSameAs(changed);
+        assertThat(changed.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        verify(shiftAssignmentRepository).softDeleteByShiftInstanceIds(eq(List.of(52L)), any());
+        verify(shiftInstanceRepository).softDeleteByIds(eq(List.of(52L)), any());
+        verify(regeneratedAssignmentChecker).releaseInvalid(eq(List.of(kept)), eq(List.of(changed)), any());
+        verify(shiftInstanceCompletenessService).updateCompleteness(changed);
+        verify(shiftInstanceBatchWriter).insertAll(argThat(list -> list.size() == 5));
+        verify(shiftInstanceRepository, never()).softDeleteByLocationAndDateBetween(any(), any(), any(), any());
+        verify(shiftAssignmentRepository, never()).softDeleteByLocationAndDateBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void regenerateRange_shouldLockExistingShiftsBeforeChangingTheirCounters() {
+        Long locationId = 1L;
+        Location loc = location(locationId);
+        ShiftTemplate t1 = template(1L, loc, LocalTime.of(9, 0), LocalTime.of(17, 0));
+        LocalDate monday = LocalDate.of(2025, 2, 3);
+        LocalDate sunday = LocalDate.of(2025, 2, 9);
+        ShiftInstance kept = ShiftInstance.builder().id(50L).shiftTemplate(t1).location(loc).date(monday)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).requiredEmployees(2).build();
+        ShiftInstance changed = ShiftInstance.builder().id(51L).shiftTemplate(t1).location(loc).date(monday.plusDays(1))
+                .startTime(LocalTime.of(8, 0)).endTime(LocalTime.of(16, 0)).requiredEmployees(2).build();
+
+        when(shiftInstanceDomainService.resolveLocation(locationId)).thenReturn(loc);
+        when(blackoutDayService.findByLocationAndDateRange(locationId, monday, sunday)).thenReturn(List.of());
+        when(specialOpeningHoursService.findByLocationAndDateRange(locationId, monday, sunday)).thenReturn(List.of());
+        when(shiftTemplateRepository.findByLocation_IdAndDeletedAtIsNullAndIsActiveTrueOrderByPriorityAscStartTimeAsc(locationId))
+                .thenReturn(List.of(t1));
+        when(shiftInstanceRepository.findActiveIdsByLocationIdAndDateBetween(locationId, monday, sunday))
+                .thenReturn(List.of(50L, 51L));
+        when(shiftInstanceRepository.findAllByIdInForUpdate(List.of(50L, 51L))).thenReturn(List.of(kept, changed));
+
+        service.regenerateRange(locationId, monday, sunday);
+
+        InOrder inOrder = inOrder(shiftInstanceRepository, regeneratedAssignmentChecker, shiftInstanceCompletenessService);
+        inOrder.verify(shiftInstanceRepository).findActiveIdsByLocationIdAndDateBetween(locationId, monday, sunday);
+        inOrder.verify(shiftInstanceRepository).findAllByIdInForUpdate(List.of(50L, 51L));
+        inOrder.verify(regeneratedAssignmentChecker).releaseInvalid(eq(List.of(kept)), eq(List.of(changed)), any());
+        inOrder.verify(shiftInstanceCompletenessService).updateCompleteness(changed);
+        verify(shiftInstanceRepository, never())
+                .findByLocation_IdAndDateBetweenAndDeletedAtIsNullOrderByDateAscStartTimeAsc(any(), any(), any());
+    }
 }
@@ -1,37 +1,59 @@
 package com.shifterizator.shifterizatorbackend.shift.service;
 
-import com.shifterizator.shifterizatorbackend.availability.repository.EmployeeAvailabilityRepository;
+import com.shifterizator.shifterizatorbackend.availability.index.AvailabilityIndex;
+import com.shifterizator.shifterizatorbackend.availability.index.AvailabilityIndexLoader;
+import com.shifterizator.shifterizatorbackend.availability.model.AvailabilityType;
+import com.shifterizator.shifterizatorbackend.availability.model.EmployeeAvailability;
 import com.shifterizator.shifterizatorbackend.company.model.Company;
 import com.shifterizator.shifterizatorbackend.company.model.Location;
 import com.shifterizator.shifterizatorbackend.company.service.LocationService;
 import com.shifterizator.shifterizatorbackend.employee.model.Employee;
 import com.shifterizator.shifterizatorbackend.employee.model.Position;
 import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeRepository;
-import com.shifterizator.shifterizatorbackend.shift.dto.ShiftAssignmentAssignResult;
-import com.shifterizator.shifterizatorbackend.shift.dto.ShiftAssignmentRequestDto;
 import com.shifterizator.shifterizatorbackend.shift.exception.ScheduleDaySkippedException;
 import com.shifterizator.shifterizatorbackend.shift.exception.ShiftValidationException;
-import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
 import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.repository.EmployeeShiftCount;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
 import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
-import com.shifterizator.shifterizatorbackend.shift.service.advisor.ShiftCandidateTierService;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.DayScheduleSnapshot;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.DayScheduleSnapshotLoader;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.DaySchedulingEngine;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.ScheduleAssignmentWriter;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.WeekLoadTracker;
+import com.shifterizator.shifterizatorbackend.shift.service.scheduling.WeekScheduleContext;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
-import static org.mockito.Mockito.lenient;
 
 @ExtendWith(MockitoExtension.class)
 class ShiftSchedulerServiceImplTest {
@@ -43,19 +65,56 @@ class ShiftSchedulerServiceImplTest {
     @Mock
     private EmployeeRepository employeeRepository;
     @Mock
-    private EmployeeAvailabilityRepository employeeAvailabilityRepository;
+    private AvailabilityIndexLoader availabilityIndexLoader;
     @Mock
-    private ShiftAssignmentService shiftAssignmentService;
+    private LocationService locationService;
     @Mock
-    private ShiftCandidateTierService shiftCandidateTierService;
+    private DayScheduleSnapshotLoader dayScheduleSnapshotLoader;
     @Mock
-    private LocationService locationService;
+    private DaySchedulingEngine daySchedulingEngine;
+    @Mock
+    private ScheduleAssignmentWriter scheduleAssignmentWriter;
     @Mock
     private ScheduleDayRunner scheduleDayRunner;
 
     @InjectMocks
     private ShiftSchedulerServiceImpl scheduler;
 
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+    @AfterEach
+    void shutdownExecutors() {
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    /** Same setup as the {@code scheduleRangeExecutor} bean, with its own thread name prefix. */
+    private ThreadPoolTaskExecutor weekExecutor(int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("test-week-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        executors.add(executor);
+        return executor;
+    }
+
+    private void scheduleRangeOn(Executor executor) {
+        ReflectionTestUtils.setField(scheduler, "scheduleRangeExecutor", executor);
+        ReflectionTestUtils.setField(scheduler, "scheduleDayRunner", scheduleDayRunner);
+    }
+
+    private void stubRangeLookups() {
+        when(locationService.findById(1L)).thenReturn(location(1L));
+        when(availabilityIndexLoader.loadForLocation(eq(1L), any(), any()))
+                .thenAnswer(invocation -> AvailabilityIndex.of(invocation.getArgument(1), invocation.getArgument(2), List.of()));
+    }
+
+    private static boolean await(CountDownLatch latch) throws InterruptedException {
+        return latch.await(5, TimeUnit.SECONDS);
+    }
+
     private static Location location(long id) {
         Company company = new Company("Skynet", "Skynet", "12345678T", "test@test.com", "+34999999999");
         company.setId(1L);
@@ -66,7 +125,7 @@ class ShiftSchedulerServiceImplTest {
     void scheduleDay_shouldThrowWhenNoShiftInstances() {
         Location loc = location(1L);
         when(locationService.findById(1L)).thenReturn(loc);
-        when(shiftInstanceRepository.findByLocation_IdAndDateAndDeletedAtIsNullOrderByStartTimeAsc(1L, LocalDate.of(2025, 2, 10)))
+        when(shiftInstanceRepository.findByLocationIdAndDateWithTemplateAndPositions(1L, LocalDate.of(2025, 2, 10)))
                 .thenReturn(List.of());
 
         assertThatThrownBy(() -> scheduler.scheduleDay(1L, LocalDate.of(2025, 2, 10)))
@@ -74,7 +133,7 @@ class ShiftSchedulerServiceImplTest {
                 .hasMessageContaining("No shifts defined");
 
         verify(employeeRepository, never()).findActiveByLocationIdWithShiftPreferences(any());
-        verify(shiftAssignmentService, never()).assign(any());
+        verify(scheduleAssignmentWriter, never()).write(any());
     }
 
     @Test
@@ -92,7 +151,7 @@ class ShiftSchedulerServiceImplTest {
                 .build();
 
         when(locationService.findById(1L)).thenReturn(loc);
-        when(shiftInstanceRepository.findByLocation_IdAndDateAndDeletedAtIsNullOrderByStartTimeAsc(1L, LocalDate.of(2025, 2, 10)))
+        when(shiftInstanceRepository.findByLocationIdAndDateWithTemplateAndPositions(1L, LocalDate.of(2025, 2, 10)))
                 .thenReturn(List.of(instance));
         when(employeeRepository.findActiveByLocationIdWithShiftPreferences(1L)).thenReturn(List.of());
 
@@ -100,11 +159,11 @@ class ShiftSchedulerServiceImplTest {
                 .isInstanceOf(ScheduleDaySkippedException.class)
                 .hasMessageContaining("No candidates available");
 
-        verify(shiftAssignmentService, never()).assign(any());
+        verify(scheduleAssignmentWriter, never()).write(any());
     }
 
     @Test
-    void scheduleDay_shouldCallAssignWhenInstancesAndCandidatesExist() {
+    void scheduleDay_shouldRunEngineAndWriteWhenInstancesAndCandidatesExist() {
         Location loc = location(1L);
         Company company = loc.getCompany();
         Position position = Position.builder().id(1L).name("Sales Associate").company(company).build();
@@ -121,21 +180,57 @@ class ShiftSchedulerServiceImplTest {
         Employee employee = Employee.builder().id(100L).name("John").surname("Doe").position(position).shiftsPerWeek(5).build();
 
         when(locationService.findById(1L)).thenReturn(loc);
-        when(shiftInstanceRepository.findByLocation_IdAndDateAndDeletedAtIsNullOrderByStartTimeAsc(1L, LocalDate.of(2025, 2, 10)))
+        when(shiftInstanceRepository.findByLocationIdAndDateWithTemplateAndPositions(1L, LocalDate.of(2025, 2, 10)))
                 .thenReturn(List.of(instance));
         when(employeeRepository.findActiveByLocationIdWithShiftPreferences(1L)).thenReturn(List.of(employee));
-        when(employeeAvailabilityRepository.findOverlapping(eq(100L), any(), any(), any())).thenReturn(List.of());
-        when(shiftAssignmentRepository.countByEmployee_IdAndShiftInstance_DateBetweenAndDeletedAtIsNull(eq(100L), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(0L);
-        when(shiftAssignmentRepository.findAssignedEmployeeIdsByShiftInstanceIdIn(List.of(10L))).thenReturn(List.of());
-        lenient().when(shiftAssignmentRepository.findByShiftInstance_IdAndDeletedAtIsNull(10L)).thenReturn(List.of());
-        lenient().when(shiftCandidateTierService.getTier(any(Employee.class), any(ShiftInstance.class), any(LocalDate.class))).thenReturn(1);
-        when(shiftAssignmentService.assign(any(ShiftAssignmentRequestDto.class)))
-                .thenReturn(new ShiftAssignmentAssignResult(ShiftAssignment.builder().id(1L).build(), List.of()));
+        when(availabilityIndexLoader.loadForLocation(1L, LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 10)))
+                .thenReturn(AvailabilityIndex.of(LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 10), List.of()));
+        when(shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(eq(List.of(100L)), any(), any()))
+                .thenReturn(List.of());
+        DayScheduleSnapshot snapshot = mock(DayScheduleSnapshot.class);
+        when(dayScheduleSnapshotLoader.load(loc, LocalDate.of(2025, 2, 10), List.of(instance), List.of(employee)))
+                .thenReturn(snapshot);
 
         scheduler.scheduleDay(1L, LocalDate.of(2025, 2, 10));
 
-        verify(shiftAssignmentService, atLeastOnce()).assign(any(ShiftAssignmentRequestDto.class));
+        verify(daySchedulingEngine).run(snapshot);
+        verify(scheduleAssignmentWriter).write(snapshot);
+    }
+
+    @Test
+    void scheduleDay_shouldLockInstancesBeforeLoadingSnapshot() {
+        LocalDate date = LocalDate.of(2025, 2, 10);
+        Location loc = location(1L);
+        Position position = Position.builder().id(1L).name("Sales Associate").company(loc.getCompany()).build();
+        ShiftInstance instance = ShiftInstance.builder()
+                .id(10L)
+                .location(loc)
+                .shiftTemplate(ShiftTemplate.builder().id(1L).location(loc).build())
+                .date(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .requiredEmployees(1)
+                .build();
+        Employee employee = Employee.builder().id(100L).name("John").surname("Doe").position(position).shiftsPerWeek(5).build();
+
+        when(locationService.findById(1L)).thenReturn(loc);
+        when(shiftInstanceRepository.findActiveIdsByLocationIdAndDate(1L, date)).thenReturn(List.of(10L));
+        when(shiftInstanceRepository.findByLocationIdAndDateWithTemplateAndPositions(1L, date)).thenReturn(List.of(instance));
+        when(employeeRepository.findActiveByLocationIdWithShiftPreferences(1L)).thenReturn(List.of(employee));
+        when(availabilityIndexLoader.loadForLocation(1L, date, date))
+                .thenReturn(AvailabilityIndex.of(date, date, List.of()));
+        when(shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(eq(List.of(100L)), any(), any()))
+                .thenReturn(List.of());
+        DayScheduleSnapshot snapshot = mock(DayScheduleSnapshot.class);
+        when(dayScheduleSnapshotLoader.load(loc, date, List.of(instance), List.of(employee))).thenReturn(snapshot);
+
+        scheduler.scheduleDay(1L, date);
+
+        InOrder inOrder = inOrder(shiftInstanceRepository, dayScheduleSnapshotLoader, scheduleAssignmentWriter);
+        inOrder.verify(shiftInstanceRepository).findAllByIdInForUpdate(List.of(10L));
+        inOrder.verify(shiftInstanceRepository).findByLocationIdAndDateWithTemplateAndPositions(1L, date);
+        inOrder.verify(dayScheduleSnapshotLoader).load(loc, date, List.of(instance), List.of(employee));
+        inOrder.verify(scheduleAssignmentWriter).write(snapshot);
     }
 
     @Test
@@ -162,17 +257,198 @@ class ShiftSchedulerServiceImplTest {
         Employee employee = Employee.builder().id(100L).name("John").surname("Doe").position(Position.builder().id(1L).company(loc.getCompany()).build()).shiftsPerWeek(5).build();
 
         when(locationService.findById(1L)).thenReturn(loc);
-        when(shiftInstanceRepository.findByLocation_IdAndDateAndDeletedAtIsNullOrderByStartTimeAsc(1L, LocalDate.of(2025, 2, 10)))
+        when(shiftInstanceRepository.findByLocationIdAndDateWithTemplateAndPositions(1L, LocalDate.of(2025, 2, 10)))
                 .thenReturn(List.of(instance));
         when(employeeRepository.findActiveByLocationIdWithShiftPreferences(1L)).thenReturn(List.of(employee));
-        when(employeeAvailabilityRepository.findOverlapping(eq(100L), any(), any(), any())).thenReturn(List.of());
-        when(shiftAssignmentRepository.countByEmployee_IdAndShiftInstance_DateBetweenAndDeletedAtIsNull(eq(100L), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(5L);
+        when(availabilityIndexLoader.loadForLocation(1L, LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 10)))
+                .thenReturn(AvailabilityIndex.of(LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 10), List.of()));
+        when(shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(eq(List.of(100L)), any(), any()))
+                .thenReturn(List.of(new EmployeeShiftCount(100L, 5L)));
 
         assertThatThrownBy(() -> scheduler.scheduleDay(1L, LocalDate.of(2025, 2, 10)))
                 .isInstanceOf(ScheduleDaySkippedException.class)
                 .hasMessageContaining("No candidates under 5 shifts/week");
 
-        verify(shiftAssignmentService, never()).assign(any());
+        verify(scheduleAssignmentWriter, never()).write(any());
+    }
+
+    @Test
+    void scheduleDay_shouldSkipWhenEveryCandidateIsBlockedInTheIndex() {
+        LocalDate date = LocalDate.of(2025, 2, 10);
+        Location loc = location(1L);
+        ShiftTemplate template = ShiftTemplate.builder().id(1L).location(loc).build();
+        ShiftInstance instance = ShiftInstance.builder()
+                .id(10L).location(loc).shiftTemplate(template).date(date)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).requiredEmployees(1)
+                .build();
+        Employee employee = Employee.builder().id(100L).name("John").surname("Doe").build();
+        EmployeeAvailability vacation = EmployeeAvailability.builder()
+                .employee(employee).startDate(date.minusDays(2)).endDate(date.plusDays(2))
+                .type(AvailabilityType.VACATION).build();
+        AvailabilityIndex availability = AvailabilityIndex.of(date.minusDays(6), date.plusDays(6), List.of(vacation));
+
+        when(locationService.findById(1L)).thenReturn(loc);
+        when(shiftInstanceRepository.findByLocationIdAndDateWithTemplateAndPositions(1L, date))
+                .thenReturn(List.of(instance));
+        when(employeeRepository.findActiveByLocationIdWithShiftPreferences(1L)).thenReturn(List.of(employee));
+
+        WeekScheduleContext context = new WeekScheduleContext(availability, new WeekLoadTracker(date, date.plusDays(6)));
+
+        assertThatThrownBy(() -> scheduler.scheduleDay(1L, date, context))
+                .isInstanceOf(ScheduleDaySkippedException.class)
+                .hasMessageContaining("No candidates available");
+
+        verifyNoInteractions(availabilityIndexLoader);
+    }
+
+    @Test
+    void scheduleRange_shouldRunWeeksConcurrentlyOnTheRangeExecutor() {
+        LocalDate monday = LocalDate.of(2025, 2, 10);
+        CountDownLatch bothWeeksStarted = new CountDownLatch(2);
+        Queue<Boolean> weeksOverlapped = new ConcurrentLinkedQueue<>();
+        Map<LocalDate, String> threadByDate = new ConcurrentHashMap<>();
+        stubRangeLookups();
+        scheduleRangeOn(weekExecutor(2, 10));
+        doAnswer(invocation -> {
+            LocalDate date = invocation.getArgument(1);
+            threadByDate.put(date, Thread.currentThread().getName());
+            if (date.getDayOfWeek() == DayOfWeek.MONDAY) {
+                bothWeeksStarted.countDown();
+                weeksOverlapped.add(await(bothWeeksStarted));
+            }
+            return null;
+        }).when(scheduleDayRunner).runScheduleDay(eq(1L), any(), any());
+
+        scheduler.scheduleRange(1L, monday, monday.plusDays(13));
+
+        assertThat(weeksOverlapped).containsExactly(true, true);
+        assertThat(threadByDate).hasSize(14);
+        assertThat(threadByDate.values()).allMatch(name -> name.startsWith("test-week-"));
+        for (int day = 1; day < 7; day++) {
+            assertThat(threadByDate.get(monday.plusDays(day))).isEqualTo(threadByDate.get(monday));
+            assertThat(threadByDate.get(monday.plusDays(7 + day))).isEqualTo(threadByDate.get(monday.plusDays(7)));
+        }
+        assertThat(threadByDate.get(monday)).isNotEqualTo(threadByDate.get(monday.plusDays(7)));
+    }
+
+    @Test
+    void scheduleRange_shouldScheduleDaysOfEachWeekInOrder() {
+        LocalDate monday = LocalDate.of(2025, 2, 10);
+        Queue<LocalDate> scheduled = new ConcurrentLinkedQueue<>();
+        stubRangeLookups();
+        scheduleRangeOn(weekExecutor(3, 10));
+        doAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(1));
+            return null;
+        }).when(scheduleDayRunner).runScheduleDay(eq(1L), any(), any());
+
+        scheduler.scheduleRange(1L, monday, monday.plusDays(20));
+
+        assertThat(scheduled).hasSize(21);
+        for (int week = 0; week < 3; week++) {
+            LocalDate weekStart = monday.plusWeeks(week);
+            List<LocalDate> expected = weekStart.datesUntil(weekStart.plusDays(7)).toList();
+            assertThat(scheduled.stream().filter(expected::contains).toList()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void scheduleRange_shouldCountOnlyCommittedDaysTowardsTheWeek() {
+        LocalDate monday = LocalDate.of(2025, 2, 10);
+        ScheduleProgressListener listener = mock(ScheduleProgressListener.class);
+        Queue<Integer> countOnThursday = new ConcurrentLinkedQueue<>();
+        stubRangeLookups();
+        scheduleRangeOn(weekExecutor(1, 10));
+        doAnswer(invocation -> {
+            LocalDate date = invocation.getArgument(1);
+            WeekLoadTracker weekLoad = invocation.<WeekScheduleContext>getArgument(2).weekLoad();
+            weekLoad.ensureLoaded(List.of(100L), shiftAssignmentRepository);
+            switch (date.getDayOfWeek()) {
+                case MONDAY -> weekLoad.recordPending(100L);
+                case TUESDAY -> {
+                    weekLoad.recordPending(100L);
+                    throw new ScheduleDaySkippedException("No candidates available on: " + date);
+                }
+                case WEDNESDAY -> {
+                    weekLoad.recordPending(100L);
+                    throw new IllegalStateException("Deadlock found when trying to get lock");
+                }
+                case THURSDAY -> countOnThursday.add(weekLoad.getCount(100L));
+                default -> {
+                }
+            }
+            return null;
+        }).when(scheduleDayRunner).runScheduleDay(eq(1L), any(), any());
+
+        scheduler.scheduleRange(1L, monday, monday.plusDays(6), listener);
+
+        assertThat(countOnThursday).containsExactly(1);
+        verify(listener).onDayCompleted(eq(monday), anyLong());
+        verify(listener).onDaySkipped(eq(monday.plusDays(1)), eq("No candidates available on: " + monday.plusDays(1)), anyLong());
+        verify(listener).onDayFailed(eq(monday.plusDays(2)), eq("Deadlock found when trying to get lock"), anyLong());
+        verify(listener, times(5)).onDayCompleted(any(), anyLong());
+    }
+
+    @Test
+    void scheduleRange_shouldRunWeekOnCallerThreadWhenExecutorIsSaturated() throws InterruptedException {
+        LocalDate monday = LocalDate.of(2025, 2, 10);
+        String caller = Thread.currentThread().getName();
+        CountDownLatch secondWeekRan = new CountDownLatch(1);
+        Queue<Boolean> firstWeekWaited = new ConcurrentLinkedQueue<>();
+        Map<LocalDate, String> threadByDate = new ConcurrentHashMap<>();
+        stubRangeLookups();
+        scheduleRangeOn(weekExecutor(1, 0));
+        doAnswer(invocation -> {
+            LocalDate date = invocation.getArgument(1);
+            threadByDate.put(date, Thread.currentThread().getName());
+            if (date.equals(monday)) {
+                firstWeekWaited.add(await(secondWeekRan));
+            } else if (date.equals(monday.plusDays(7))) {
+                secondWeekRan.countDown();
+            }
+            return null;
+        }).when(scheduleDayRunner).runScheduleDay(eq(1L), any(), any());
+
+        scheduler.scheduleRange(1L, monday, monday.plusDays(13));
+
+        assertThat(firstWeekWaited).containsExactly(true);
+        assertThat(threadByDate.get(monday)).startsWith("test-week-");
+        assertThat(threadByDate.get(monday.plusDays(7))).isEqualTo(caller);
+        assertThat(threadByDate.get(monday.plusDays(13))).isEqualTo(caller);
+    }
+
+    @Test
+    void scheduleRange_shouldMatchSequentialRunAcrossWeeks() {
+        LocalDate monday = LocalDate.of(2025, 2, 10);
+        Map<LocalDate, Boolean> assigned = new ConcurrentHashMap<>();
+        stubRangeLookups();
+        doAnswer(invocation -> {
+            LocalDate date = invocation.getArgument(1);
+            WeekLoadTracker weekLoad = invocation.<WeekScheduleContext>getArgument(2).weekLoad();
+            weekLoad.ensureLoaded(List.of(100L), shiftAssignmentRepository);
+            boolean hasRoom = weekLoad.getCount(100L) < 3;
+            if (hasRoom) {
+                weekLoad.recordPending(100L);
+            }
+            if (date.getDayOfWeek() == DayOfWeek.WEDNESDAY) {
+                assigned.put(date, false);
+                throw new ScheduleDaySkippedException("No shifts defined for this day.");
+            }
+            assigned.put(date, hasRoom);
+            return null;
+        }).when(scheduleDayRunner).runScheduleDay(eq(1L), any(), any());
+
+        scheduleRangeOn(new SyncTaskExecutor());
+        scheduler.scheduleRange(1L, monday, monday.plusDays(27));
+        Map<LocalDate, Boolean> sequential = Map.copyOf(assigned);
+        assigned.clear();
+
+        scheduleRangeOn(weekExecutor(4, 10));
+        scheduler.scheduleRange(1L, monday, monday.plusDays(27));
+
+        assertThat(assigned).hasSize(28).isEqualTo(sequential);
+        assertThat(assigned.entrySet().stream().filter(Map.Entry::getValue).map(e -> e.getKey().getDayOfWeek()))
+                .hasSize(12)
+                .containsOnly(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.THURSDAY);
     }
 }
@@ -0,0 +1,202 @@
+package com.shifterizator.shifterizatorbackend.shift.service;
+
+import com.shifterizator.shifterizatorbackend.company.exception.LocationNotFoundException;
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.language.model.Language;
+import com.shifterizator.shifterizatorbackend.language.repository.LanguageRepository;
+import com.shifterizator.shifterizatorbackend.shift.dto.LanguageRequirementDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.PositionRequirementDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkResponseDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateBulkRowResultDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.ShiftTemplateRequestDto;
+import com.shifterizator.shifterizatorbackend.shift.mapper.ShiftTemplateMapper;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftTemplateDomainService;
+import com.shifterizator.shifterizatorbackend.shift.service.template.ShiftTemplateBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShiftTemplateBulkServiceImplTest {
+
+    @Mock
+    private ShiftTemplateRepository shiftTemplateRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    @Mock
+    private LanguageRepository languageRepository;
+
+    @Mock
+    private ShiftTemplateBatchWriter shiftTemplateBatchWriter;
+
+    private ShiftTemplateBulkServiceImpl service;
+
+    private Company company;
+    private Location headquarters;
+    private final Position cashier = Position.builder().id(1L).name("Cashier").build();
+    private final Language english = Language.builder().id(5L).name("English").code("EN").build();
+
+    @BeforeEach
+    void setUp() {
+        service = new ShiftTemplateBulkServiceImpl(shiftTemplateRepository, locationRepository, positionRepository,
+                languageRepository, new ShiftTemplateMapper(),
+                new ShiftTemplateDomainService(locationRepository, positionRepository, languageRepository),
+                shiftTemplateBatchWriter);
+
+        company = new Company("Skynet", "Skynet", "12345678T", "test@test.com", "+34999999999");
+        company.setId(1L);
+        headquarters = location(10L, company);
+    }
+
+    private static Location location(Long id, Company company) {
+        return Location.builder().id(id).name("Location " + id).address("Main").company(company).build();
+    }
+
+    private static ShiftTemplateRequestDto request(Long locationId, Long positionId, LocalTime start, LocalTime end,
+                                                   List<LanguageRequirementDto> languages) {
+        return new ShiftTemplateRequestDto(locationId, List.of(new PositionRequirementDto(positionId, 2, 3)),
+                start, end, "Morning", Set.of(), languages, true, null);
+    }
+
+    /** Stands in for the database by numbering the templates it is given. */
+    private void assignIdsOnInsert(long firstId) {
+        AtomicLong ids = new AtomicLong(firstId);
+        doAnswer(invocation -> {
+            List<ShiftTemplate> templates = invocation.getArgument(0);
+            templates.forEach(t -> t.setId(ids.getAndIncrement()));
+            return null;
+        }).when(shiftTemplateBatchWriter).insertAll(anyList());
+    }
+
+    @Test
+    void importAll_shouldCreateValidRowsAndReportInvalidOnes() {
+        LocalTime nine = LocalTime.of(9, 0);
+        LocalTime five = LocalTime.of(17, 0);
+        List<ShiftTemplateRequestDto> requests = List.of(
+                request(10L, 1L, nine, five, List.of(new LanguageRequirementDto(5L, 1))),
+                request(99L, 1L, nine, five, null),
+                request(10L, 7L, nine, five, null),
+                request(10L, 1L, five, nine, null),
+                request(10L, 1L, nine, five, List.of(new LanguageRequirementDto(8L, 1))));
+        when(locationRepository.findAllById(Set.of(10L, 99L))).thenReturn(List.of(headquarters));
+        when(positionRepository.findAllById(Set.of(1L, 7L))).thenReturn(List.of(cashier));
+        when(languageRepository.findAllById(Set.of(5L, 8L))).thenReturn(List.of(english));
+        assignIdsOnInsert(100L);
+
+        ShiftTemplateBulkResponseDto result = service.importAll(requests);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(result.rows())
+                .extracting(ShiftTemplateBulkRowResultDto::index, ShiftTemplateBulkRowResultDto::templateId,
+                        ShiftTemplateBulkRowResultDto::error)
+                .containsExactly(
+                        tuple(0, 100L, null),
+                        tuple(1, null, "Location not found: 99"),
+                        tuple(2, null, "Position not found: 7"),
+                        tuple(3, null, "End time must be after start time"),
+                        tuple(4, null, "Language not found: 8"));
+
+        ArgumentCaptor<List<ShiftTemplate>> inserted = ArgumentCaptor.captor();
+        verify(shiftTemplateBatchWriter).insertAll(inserted.capture());
+        ShiftTemplate template = inserted.getValue().getFirst();
+        assertThat(template.getRequiredEmployees()).isEqualTo(2);
+        assertThat(template.getIdealEmployees()).isEqualTo(3);
+        assertThat(template.getRequiredLanguageRequirements())
+                .extracting(ShiftTemplateLanguageRequirement::getLanguage)
+                .containsExactly(english);
+        verify(locationRepository, times(1)).findAllById(any());
+        verify(positionRepository, times(1)).findAllById(any());
+        verify(languageRepository, times(1)).findAllById(any());
+        verify(shiftTemplateRepository, never()).save(any());
+    }
+
+    @Test
+    void cloneToLocations_shouldCopyEveryTemplateToEachValidTarget() {
+        ShiftTemplate morning = ShiftTemplate.builder().id(1L).location(headquarters)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0))
+                .requiredEmployees(2).idealEmployees(3).isActive(true).priority(1).build();
+        morning.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                .shiftTemplate(morning).position(cashier).requiredCount(2).idealCount(3).build());
+        morning.getRequiredLanguageRequirements().add(ShiftTemplateLanguageRequirement.builder()
+                .shiftTemplate(morning).language(english).requiredCount(1).build());
+        ShiftTemplate evening = ShiftTemplate.builder().id(2L).location(headquarters)
+                .startTime(LocalTime.of(17, 0)).endTime(LocalTime.of(23, 0)).isActive(false).build();
+        Company otherCompany = new Company("Acme", "Acme", "87654321T", "acme@test.com", "+34888888888");
+        otherCompany.setId(2L);
+
+        when(locationRepository.findById(10L)).thenReturn(Optional.of(headquarters));
+        when(shiftTemplateRepository.findAllWithRequiredPositionsByLocationId(10L)).thenReturn(List.of(morning, evening));
+        when(locationRepository.findAllById(Set.of(20L, 21L, 30L, 10L, 40L)))
+                .thenReturn(List.of(location(20L, company), location(21L, company), location(30L, otherCompany),
+                        headquarters));
+        assignIdsOnInsert(200L);
+
+        ShiftTemplateBulkResponseDto result = service.cloneToLocations(10L, List.of(20L, 30L, 21L, 10L, 20L, 40L));
+
+        assertThat(result.created()).isEqualTo(4);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(result.rows())
+                .extracting(ShiftTemplateBulkRowResultDto::index, ShiftTemplateBulkRowResultDto::locationId,
+                        ShiftTemplateBulkRowResultDto::sourceTemplateId, ShiftTemplateBulkRowResultDto::error)
+                .containsExactly(
+                        tuple(0, 20L, 1L, null),
+                        tuple(0, 20L, 2L, null),
+                        tuple(1, 30L, null, "Target location belongs to another company"),
+                        tuple(2, 21L, 1L, null),
+                        tuple(2, 21L, 2L, null),
+                        tuple(3, 10L, null, "Target location is the source location"),
+                        tuple(4, 20L, null, "Duplicate target location"),
+                        tuple(5, 40L, null, "Location not found: 40"));
+        verify(shiftTemplateRepository).findAllWithLanguageRequirementsByIdIn(List.of(1L, 2L));
+
+        ArgumentCaptor<List<ShiftTemplate>> inserted = ArgumentCaptor.captor();
+        verify(shiftTemplateBatchWriter).insertAll(inserted.capture());
+        ShiftTemplate copy = inserted.getValue().getFirst();
+        assertThat(copy.getLocation().getId()).isEqualTo(20L);
+        assertThat(copy.getPriority()).isEqualTo(1);
+        assertThat(copy.getRequiredPositions())
+                .extracting(stp -> stp.getPosition().getId(), ShiftTemplatePosition::getIdealCount)
+                .containsExactly(tuple(1L, 3));
+        assertThat(copy.getRequiredLanguageRequirements()).hasSize(1);
+        assertThat(inserted.getValue().get(1).getIsActive()).isFalse();
+    }
+
+    @Test
+    void cloneToLocations_shouldThrowWhenSourceLocationNotFound() {
+        when(locationRepository.findById(10L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.cloneToLocations(10L, List.of(20L)))
+                .isInstanceOf(LocationNotFoundException.class);
+        verifyNoInteractions(shiftTemplateBatchWriter);
+    }
+}
@@ -21,10 +21,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -127,4 +132,78 @@ class ShiftCandidateTierServiceTest {
         int tier = tierService.getTier(employee, instance, wed);
         assertThat(tier).isEqualTo(3);
     }
+
+    @Test
+    void buildMatrix_shouldOrderCandidatesByGetTierUsingPreloadedLanguages() {
+        Location loc = location();
+        Position position = Position.builder().id(1L).name("Cashier").company(loc.getCompany()).build();
+        Language english = Language.builder().id(1L).name("English").code("EN").build();
+        ShiftTemplate template = ShiftTemplate.builder().id(1L).location(loc).build();
+        template.setRequiredPositions(Set.of(
+                ShiftTemplatePosition.builder().shiftTemplate(template).position(position).requiredCount(1).build()));
+        template.setRequiredLanguageRequirements(Set.of(ShiftTemplateLanguageRequirement.builder()
+                .shiftTemplate(template).language(english).requiredCount(1).build()));
+        Employee speaker = Employee.builder().id(100L).position(position).build();
+        speaker.setShiftPreferences(Set.of(
+                EmployeeShiftPreference.builder().employee(speaker).shiftTemplate(template).build()));
+        Employee dayOff = Employee.builder().id(101L).position(position).preferredDayOff(DayOfWeek.WEDNESDAY).build();
+        Employee noPosition = Employee.builder().id(102L).build();
+
+        LocalDate wed = LocalDate.of(2025, 1, 8);
+        ShiftInstance instance = shiftInstance(template, wed);
+        Map<Long, Set<Long>> languages = Map.of(100L, Set.of(1L));
+
+        CandidateTierMatrix matrix = tierService.buildMatrix(wed, List.of(instance),
+                List.of(speaker, dayOff, noPosition), id -> languages.getOrDefault(id, Set.of()));
+
+        verifyNoInteractions(employeeLanguageRepository);
+        when(employeeLanguageRepository.findByEmployee_Id(100L))
+                .thenReturn(List.of(EmployeeLanguage.builder().employee(speaker).language(english).build()));
+        when(employeeLanguageRepository.findByEmployee_Id(101L)).thenReturn(List.of());
+        when(employeeLanguageRepository.findByEmployee_Id(102L)).thenReturn(List.of());
+        assertThat(tierService.getTier(speaker, instance, wed)).isEqualTo(1);
+        assertThat(tierService.getTier(noPosition, instance, wed)).isEqualTo(4);
+        assertThat(tierService.getTier(dayOff, instance, wed)).isEqualTo(5);
+        Set<Employee> picked = new HashSet<>();
+        List<Employee> order = new ArrayList<>();
+        Employee next;
+        while ((next = matrix.nextCandidate(instance, e -> !picked.contains(e))) != null) {
+            picked.add(next);
+            order.add(next);
+        }
+        assertThat(order).containsExactly(speaker, noPosition, dayOff);
+    }
+
+    @Test
+    void nextCandidate_shouldFollowTierOrderAndSkipRejectedCandidatesForGood() {
+        Location loc = location();
+        Position position = Position.builder().id(1L).name("Cashier").company(loc.getCompany()).build();
+        ShiftTemplate template = ShiftTemplate.builder().id(1L).location(loc).build();
+        template.setRequiredPositions(Set.of(
+                ShiftTemplatePosition.builder().shiftTemplate(template).position(position).requiredCount(1).build()));
+        Employee first = Employee.builder().id(1L).build();
+        Employee second = Employee.builder().id(2L).position(position).build();
+        Employee third = Employee.builder().id(3L).position(position).build();
+
+        LocalDate wed = LocalDate.of(2025, 1, 8);
+        ShiftInstance instance = shiftInstance(template, wed);
+        CandidateTierMatrix matrix = tierService.buildMatrix(wed, List.of(instance),
+                List.of(first, second, third), id -> Set.of());
+
+        Set<Long> taken = new HashSet<>();
+        List<Long> tested = new ArrayList<>();
+        Predicate<Employee> assignable = e -> {
+            tested.add(e.getId());
+            return !taken.contains(e.getId());
+        };
+
+        assertThat(matrix.nextCandidate(instance, assignable)).isSameAs(second);
+        taken.add(2L);
+        assertThat(matrix.nextCandidate(instance, assignable)).isSameAs(third);
+        taken.add(3L);
+        assertThat(matrix.nextCandidate(instance, assignable)).isSameAs(first);
+        taken.add(1L);
+        assertThat(matrix.nextCandidate(instance, assignable)).isNull();
+        assertThat(tested).containsExactly(2L, 2L, 3L, 3L, 1L, 1L);
+    }
 }
@@ -0,0 +1,123 @@
+package com.shifterizator.shifterizatorbackend.shift.service.domain;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeLanguage;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLanguageRepository;
+import com.shifterizator.shifterizatorbackend.language.model.Language;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.AssignedStaff;
+import com.shifterizator.shifterizatorbackend.shift.repository.CoverageCount;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShiftInstanceCoverageServiceTest {
+
+    @Mock
+    private ShiftInstanceRepository shiftInstanceRepository;
+
+    @Mock
+    private ShiftAssignmentRepository shiftAssignmentRepository;
+
+    @Mock
+    private EmployeeLanguageRepository employeeLanguageRepository;
+
+    private ShiftInstanceCoverageService service;
+
+    private final Position cashier = Position.builder().id(1L).name("Cashier").build();
+    private final Language english = Language.builder().id(5L).name("English").code("EN").build();
+
+    @BeforeEach
+    void setUp() {
+        service = new ShiftInstanceCoverageService(shiftInstanceRepository, shiftAssignmentRepository,
+                employeeLanguageRepository, new ShiftInstanceCompletenessService());
+    }
+
+    private ShiftInstance instanceNeedingOneCashier(long id) {
+        ShiftTemplate template = ShiftTemplate.builder().id(1L).build();
+        template.setRequiredPositions(Set.of(ShiftTemplatePosition.builder()
+                .shiftTemplate(template).position(cashier).requiredCount(1).build()));
+        return ShiftInstance.builder().id(id).shiftTemplate(template).build();
+    }
+
+    private Employee englishSpeakingCashier(long id) {
+        Employee employee = Employee.builder().id(id).position(cashier).build();
+        when(employeeLanguageRepository.findByEmployee_Id(id)).thenReturn(List.of(
+                EmployeeLanguage.builder().employee(employee).language(english).build()));
+        return employee;
+    }
+
+    @Test
+    void recordAssigned_shouldIncrementCountersAndCompleteInstance() {
+        ShiftInstance instance = instanceNeedingOneCashier(10L);
+
+        service.recordAssigned(instance, englishSpeakingCashier(100L));
+
+        assertThat(instance.getAssignedCount()).isEqualTo(1);
+        assertThat(instance.getAssignedByPosition()).containsExactly(Map.entry(1L, 1));
+        assertThat(instance.getAssignedByLanguage()).containsExactly(Map.entry(5L, 1));
+        assertThat(instance.getIsComplete()).isTrue();
+        verifyNoInteractions(shiftAssignmentRepository);
+    }
+
+    @Test
+    void recordUnassigned_shouldDropCountersReachingZeroAndReopenInstance() {
+        ShiftInstance instance = instanceNeedingOneCashier(10L);
+        Employee employee = englishSpeakingCashier(100L);
+        service.recordAssigned(instance, employee);
+
+        service.recordUnassigned(instance, employee);
+
+        assertThat(instance.getAssignedCount()).isZero();
+        assertThat(instance.getAssignedByPosition()).isEmpty();
+        assertThat(instance.getAssignedByLanguage()).isEmpty();
+        assertThat(instance.getIsComplete()).isFalse();
+    }
+
+    @Test
+    void reconcile_shouldRewriteOnlyDriftedInstances() {
+        ShiftInstance drifted = instanceNeedingOneCashier(10L);
+        ShiftInstance inSync = instanceNeedingOneCashier(11L);
+        inSync.setAssignedCount(1);
+        inSync.setAssignedByPosition(new HashMap<>(Map.of(1L, 1)));
+        List<Long> ids = List.of(10L, 11L);
+        when(shiftInstanceRepository.findAllByIdInForUpdate(ids)).thenReturn(List.of(drifted, inSync));
+        when(shiftAssignmentRepository.findAssignedStaffByShiftInstanceIds(ids)).thenReturn(List.of(
+                new AssignedStaff(10L, 100L, 1L),
+                new AssignedStaff(11L, 101L, 1L)));
+        when(employeeLanguageRepository.findByEmployee_IdIn(anyList())).thenReturn(List.of(
+                EmployeeLanguage.builder().employee(Employee.builder().id(100L).build()).language(english).build()));
+        when(shiftInstanceRepository.findPositionCoverageByIds(ids)).thenReturn(List.of(new CoverageCount(11L, 1L, 1)));
+        when(shiftInstanceRepository.findLanguageCoverageByIds(ids)).thenReturn(List.of());
+
+        int repaired = service.reconcile(ids);
+
+        assertThat(repaired).isEqualTo(1);
+        assertThat(drifted.getAssignedCount()).isEqualTo(1);
+        assertThat(drifted.getAssignedByPosition()).containsExactly(Map.entry(1L, 1));
+        assertThat(drifted.getAssignedByLanguage()).containsExactly(Map.entry(5L, 1));
+        assertThat(drifted.getIsComplete()).isTrue();
+    }
+
+    @Test
+    void reconcile_shouldDoNothingForNoIds() {
+        assertThat(service.reconcile(List.of())).isZero();
+        verifyNoInteractions(shiftInstanceRepository, shiftAssignmentRepository, employeeLanguageRepository);
+    }
+}
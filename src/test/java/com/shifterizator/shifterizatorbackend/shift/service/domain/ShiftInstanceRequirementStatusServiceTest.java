@@ -0,0 +1,110 @@
+package com.shifterizator.shifterizatorbackend.shift.service.domain;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.language.model.Language;
+import com.shifterizator.shifterizatorbackend.shift.dto.LanguageRequirementStatusDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.PositionRequirementStatusDto;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.CoverageCount;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShiftInstanceRequirementStatusServiceTest {
+
+    @Mock
+    private ShiftInstanceRepository shiftInstanceRepository;
+
+    @Mock
+    private ShiftTemplateRepository shiftTemplateRepository;
+
+    @InjectMocks
+    private ShiftInstanceRequirementStatusService service;
+
+    private final Position cashier = Position.builder().id(1L).name("Cashier").build();
+    private final Language english = Language.builder().id(5L).name("English").code("EN").build();
+
+    private ShiftTemplate template(long id, boolean withLanguage) {
+        ShiftTemplate template = ShiftTemplate.builder().id(id).build();
+        template.setRequiredPositions(Set.of(ShiftTemplatePosition.builder()
+                .shiftTemplate(template).position(cashier).requiredCount(1).idealCount(2).build()));
+        template.setRequiredLanguageRequirements(withLanguage
+                ? Set.of(ShiftTemplateLanguageRequirement.builder()
+                        .shiftTemplate(template).language(english).requiredCount(1).build())
+                : Set.of());
+        return template;
+    }
+
+    private static ShiftInstance instance(long id, ShiftTemplate template, int assignedCount) {
+        return ShiftInstance.builder().id(id).shiftTemplate(template).assignedCount(assignedCount).build();
+    }
+
+    @Test
+    void getStatuses_shouldServeAllStatusesFromStoredCounters() {
+        ShiftTemplate morning = template(1L, true);
+        ShiftTemplate evening = template(2L, false);
+        ShiftInstance mondayMorning = instance(10L, morning, 2);
+        ShiftInstance tuesdayMorning = instance(11L, morning, 0);
+        ShiftInstance mondayEvening = instance(12L, evening, 1);
+        when(shiftTemplateRepository.findAllWithRequiredPositionsByIdIn(Set.of(1L, 2L))).thenReturn(List.of(morning, evening));
+        when(shiftTemplateRepository.findAllWithLanguageRequirementsByIdIn(Set.of(1L, 2L))).thenReturn(List.of(morning, evening));
+        when(shiftInstanceRepository.findPositionCoverageByIds(Set.of(10L, 11L, 12L))).thenReturn(List.of(
+                new CoverageCount(10L, 1L, 2),
+                new CoverageCount(12L, 1L, 1)));
+        when(shiftInstanceRepository.findLanguageCoverageByIds(Set.of(10L, 11L, 12L))).thenReturn(List.of(
+                new CoverageCount(10L, 5L, 1)));
+
+        Map<Long, ShiftInstanceStatus> statuses = service.getStatuses(List.of(mondayMorning, tuesdayMorning, mondayEvening));
+
+        assertThat(statuses.get(10L).assignedCount()).isEqualTo(2);
+        assertThat(statuses.get(10L).positionRequirementStatus())
+                .containsExactly(new PositionRequirementStatusDto(1L, "Cashier", 1, 2, 2));
+        assertThat(statuses.get(10L).languageRequirementStatus())
+                .containsExactly(new LanguageRequirementStatusDto(5L, "English", 1, 1));
+        assertThat(statuses.get(11L).assignedCount()).isZero();
+        assertThat(statuses.get(11L).languageRequirementStatus())
+                .containsExactly(new LanguageRequirementStatusDto(5L, "English", 1, 0));
+        assertThat(statuses.get(12L).positionRequirementStatus())
+                .containsExactly(new PositionRequirementStatusDto(1L, "Cashier", 1, 2, 1));
+        assertThat(statuses.get(12L).languageRequirementStatus()).isEmpty();
+    }
+
+    @Test
+    void getStatus_shouldReturnStatusOfSingleInstance() {
+        ShiftTemplate evening = template(2L, false);
+        ShiftInstance mondayEvening = instance(12L, evening, 1);
+        when(shiftTemplateRepository.findAllWithRequiredPositionsByIdIn(anyCollection())).thenReturn(List.of(evening));
+        when(shiftTemplateRepository.findAllWithLanguageRequirementsByIdIn(anyCollection())).thenReturn(List.of(evening));
+        when(shiftInstanceRepository.findPositionCoverageByIds(anyCollection()))
+                .thenReturn(List.of(new CoverageCount(12L, 1L, 1)));
+        when(shiftInstanceRepository.findLanguageCoverageByIds(anyCollection())).thenReturn(List.of());
+
+        ShiftInstanceStatus status = service.getStatus(mondayEvening);
+
+        assertThat(status.assignedCount()).isEqualTo(1);
+        assertThat(status.positionRequirementStatus())
+                .containsExactly(new PositionRequirementStatusDto(1L, "Cashier", 1, 2, 1));
+    }
+
+    @Test
+    void getStatuses_shouldReturnEmptyMapWithoutQueryingForNoInstances() {
+        assertThat(service.getStatuses(List.of())).isEmpty();
+        verifyNoInteractions(shiftInstanceRepository, shiftTemplateRepository);
+    }
+}
@@ -0,0 +1,115 @@
+package com.shifterizator.shifterizatorbackend.shift.service.domain;
+
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.exception.PositionNotFoundException;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.language.exception.LanguageNotFoundException;
+import com.shifterizator.shifterizatorbackend.language.model.Language;
+import com.shifterizator.shifterizatorbackend.language.repository.LanguageRepository;
+import com.shifterizator.shifterizatorbackend.shift.dto.LanguageRequirementDto;
+import com.shifterizator.shifterizatorbackend.shift.dto.PositionRequirementDto;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShiftTemplateDomainServiceTest {
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    @Mock
+    private LanguageRepository languageRepository;
+
+    @InjectMocks
+    private ShiftTemplateDomainService service;
+
+    private final Position cashier = Position.builder().id(1L).name("Cashier").build();
+    private final Position manager = Position.builder().id(2L).name("Manager").build();
+    private final Language english = Language.builder().id(5L).name("English").code("EN").build();
+    private final Language french = Language.builder().id(6L).name("French").code("FR").build();
+
+    @Test
+    void resolveLanguages_shouldLoadAllIdsInOneQuery() {
+        when(languageRepository.findAllById(Set.of(5L, 6L))).thenReturn(List.of(english, french));
+
+        Set<Language> result = service.resolveLanguages(Set.of(5L, 6L));
+
+        assertThat(result).containsExactlyInAnyOrder(english, french);
+        verify(languageRepository, never()).findById(any());
+    }
+
+    @Test
+    void resolveLanguages_shouldReportEveryMissingId() {
+        when(languageRepository.findAllById(Set.of(5L, 7L, 9L))).thenReturn(List.of(english));
+
+        assertThatThrownBy(() -> service.resolveLanguages(Set.of(9L, 5L, 7L)))
+                .isInstanceOf(LanguageNotFoundException.class)
+                .hasMessage("Languages not found: [7, 9]");
+    }
+
+    @Test
+    void buildLanguageRequirements_shouldResolveRequiredLanguagesTogether() {
+        ShiftTemplate template = ShiftTemplate.builder().id(1L).build();
+        when(languageRepository.findAllById(Set.of(5L, 6L))).thenReturn(List.of(english, french));
+
+        service.buildLanguageRequirements(template, List.of(
+                new LanguageRequirementDto(5L, 1),
+                new LanguageRequirementDto(6L, 2),
+                new LanguageRequirementDto(7L, 0)));
+
+        assertThat(template.getRequiredLanguageRequirements())
+                .extracting(ShiftTemplateLanguageRequirement::getLanguage)
+                .containsExactlyInAnyOrder(english, french);
+        verify(languageRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void buildPositionRequirements_shouldOnlyLoadPositionsNotOnTheTemplate() {
+        ShiftTemplate template = ShiftTemplate.builder().id(1L).build();
+        template.setRequiredPositions(new HashSet<>(Set.of(ShiftTemplatePosition.builder()
+                .shiftTemplate(template).position(cashier).requiredCount(1).build())));
+        when(positionRepository.findAllById(Set.of(2L))).thenReturn(List.of(manager));
+
+        service.buildPositionRequirements(template, List.of(
+                new PositionRequirementDto(1L, 3, null),
+                new PositionRequirementDto(2L, 1, 2)));
+
+        assertThat(template.getRequiredPositions())
+                .extracting(stp -> stp.getPosition().getId(), ShiftTemplatePosition::getRequiredCount)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 3),
+                        tuple(2L, 1));
+    }
+
+    @Test
+    void buildPositionRequirements_shouldReportEveryMissingPosition() {
+        ShiftTemplate template = ShiftTemplate.builder().id(1L).build();
+        when(positionRepository.findAllById(Set.of(1L, 3L, 4L))).thenReturn(List.of(cashier));
+
+        assertThatThrownBy(() -> service.buildPositionRequirements(template, List.of(
+                new PositionRequirementDto(1L, 1, null),
+                new PositionRequirementDto(4L, 1, null),
+                new PositionRequirementDto(3L, 1, null))))
+                .isInstanceOf(PositionNotFoundException.class)
+                .hasMessage("Positions not found: [3, 4]");
+    }
+}
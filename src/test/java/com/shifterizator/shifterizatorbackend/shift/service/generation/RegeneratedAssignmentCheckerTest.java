@@ -0,0 +1,166 @@
+package com.shifterizator.shifterizatorbackend.shift.service.generation;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeLanguage;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLanguageRepository;
+import com.shifterizator.shifterizatorbackend.language.model.Language;
+import com.shifterizator.shifterizatorbackend.notification.event.ShiftAssignmentRemovedEvent;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftAssignment;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import com.shifterizator.shifterizatorbackend.shift.service.domain.ShiftInstanceCoverageService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegeneratedAssignmentCheckerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 2, 3);
+    private static final LocalDateTime RELEASED_AT = LocalDateTime.of(2025, 1, 20, 10, 0);
+
+    @Mock
+    private ShiftAssignmentRepository shiftAssignmentRepository;
+    @Mock
+    private EmployeeLanguageRepository employeeLanguageRepository;
+    @Mock
+    private ShiftInstanceCoverageService shiftInstanceCoverageService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private RegeneratedAssignmentChecker checker;
+
+    private final Position waiter = Position.builder().id(1L).name("Waiter").build();
+    private final Position cook = Position.builder().id(2L).name("Cook").build();
+
+    private static ShiftTemplate template(long id, Position position, int required, Integer ideal) {
+        ShiftTemplate template = ShiftTemplate.builder().id(id).build();
+        template.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                .shiftTemplate(template)
+                .position(position)
+                .requiredCount(required)
+                .idealCount(ideal)
+                .build());
+        return template;
+    }
+
+    private static ShiftInstance shift(long id, ShiftTemplate template, int startHour, int endHour) {
+        return ShiftInstance.builder()
+                .id(id)
+                .shiftTemplate(template)
+                .date(MONDAY)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .build();
+    }
+
+    private static Employee employee(long id, Position position) {
+        return Employee.builder().id(id).name("E" + id).surname("S").position(position).build();
+    }
+
+    private static ShiftAssignment assignment(long id, ShiftInstance instance, Employee employee) {
+        return ShiftAssignment.builder().id(id).shiftInstance(instance).employee(employee).build();
+    }
+
+    @Test
+    void releaseInvalid_shouldKeepAssignmentsThatStillFit() {
+        ShiftInstance updated = shift(10L, template(1L, waiter, 2, null), 8, 12);
+        ShiftAssignment kept = assignment(100L, updated, employee(5L, waiter));
+        when(shiftAssignmentRepository.findActiveWithEmployeeByShiftInstanceIds(Set.of(10L))).thenReturn(List.of(kept));
+        when(shiftAssignmentRepository.findActiveByEmployeeIdsAndDateBetween(List.of(5L), MONDAY, MONDAY))
+                .thenReturn(List.of(kept));
+
+        List<ShiftAssignment> released = checker.releaseInvalid(List.of(), List.of(updated), RELEASED_AT);
+
+        assertThat(released).isEmpty();
+        assertThat(kept.getDeletedAt()).isNull();
+        verifyNoInteractions(shiftInstanceCoverageService, applicationEventPublisher);
+    }
+
+    @Test
+    void releaseInvalid_shouldReleaseAssignmentThatNowOverlapsAnotherShift() {
+        ShiftInstance unchanged = shift(10L, template(1L, waiter, 1, null), 14, 18);
+        ShiftInstance movedLater = shift(11L, template(2L, waiter, 1, null), 12, 16);
+        Employee employee = employee(5L, waiter);
+        ShiftAssignment onUnchanged = assignment(100L, unchanged, employee);
+        ShiftAssignment onMoved = assignment(101L, movedLater, employee);
+        when(shiftAssignmentRepository.findActiveWithEmployeeByShiftInstanceIds(Set.of(10L, 11L)))
+                .thenReturn(List.of(onMoved, onUnchanged));
+        when(shiftAssignmentRepository.findActiveByEmployeeIdsAndDateBetween(List.of(5L), MONDAY, MONDAY))
+                .thenReturn(List.of(onMoved, onUnchanged));
+        Language english = Language.builder().id(7L).code("EN").build();
+        when(employeeLanguageRepository.findByEmployee_IdIn(List.of(5L)))
+                .thenReturn(List.of(EmployeeLanguage.builder().employee(employee).language(english).build()));
+
+        List<ShiftAssignment> released = checker.releaseInvalid(List.of(unchanged), List.of(movedLater), RELEASED_AT);
+
+        assertThat(released).containsExactly(onMoved);
+        assertThat(onMoved.getDeletedAt()).isEqualTo(RELEASED_AT);
+        assertThat(onUnchanged.getDeletedAt()).isNull();
+        verify(shiftInstanceCoverageService).recordUnassigned(movedLater, 1L, Set.of(7L));
+        verify(applicationEventPublisher).publishEvent(any(ShiftAssignmentRemovedEvent.class));
+    }
+
+    @Test
+    void releaseInvalid_shouldReleaseAssignmentWhosePositionIsNoLongerRequired() {
+        ShiftInstance updated = shift(10L, template(1L, cook, 1, null), 8, 12);
+        ShiftAssignment waiterOnKitchenShift = assignment(100L, updated, employee(5L, waiter));
+        when(shiftAssignmentRepository.findActiveWithEmployeeByShiftInstanceIds(Set.of(10L)))
+                .thenReturn(List.of(waiterOnKitchenShift));
+        when(shiftAssignmentRepository.findActiveByEmployeeIdsAndDateBetween(List.of(5L), MONDAY, MONDAY))
+                .thenReturn(List.of(waiterOnKitchenShift));
+        when(employeeLanguageRepository.findByEmployee_IdIn(List.of(5L))).thenReturn(List.of());
+
+        List<ShiftAssignment> released = checker.releaseInvalid(List.of(), List.of(updated), RELEASED_AT);
+
+        assertThat(released).containsExactly(waiterOnKitchenShift);
+        assertThat(waiterOnKitchenShift.getDeletedAt()).isEqualTo(RELEASED_AT);
+        verify(shiftInstanceCoverageService).recordUnassigned(updated, 1L, Set.of());
+    }
+
+    @Test
+    void releaseInvalid_shouldReleaseNewestAssignmentsBeyondLoweredHeadcount() {
+        ShiftInstance updated = shift(10L, template(1L, waiter, 1, 2), 8, 12);
+        ShiftAssignment first = assignment(100L, updated, employee(5L, waiter));
+        ShiftAssignment second = assignment(101L, updated, employee(6L, waiter));
+        ShiftAssignment third = assignment(102L, updated, employee(7L, waiter));
+        when(shiftAssignmentRepository.findActiveWithEmployeeByShiftInstanceIds(Set.of(10L)))
+                .thenReturn(List.of(first, second, third));
+        when(shiftAssignmentRepository.findActiveByEmployeeIdsAndDateBetween(List.of(5L, 6L, 7L), MONDAY, MONDAY))
+                .thenReturn(List.of(first, second, third));
+        when(employeeLanguageRepository.findByEmployee_IdIn(List.of(7L))).thenReturn(List.of());
+
+        List<ShiftAssignment> released = checker.releaseInvalid(List.of(), List.of(updated), RELEASED_AT);
+
+        assertThat(released).containsExactly(third);
+        assertThat(first.getDeletedAt()).isNull();
+        assertThat(second.getDeletedAt()).isNull();
+        assertThat(third.getDeletedAt()).isEqualTo(RELEASED_AT);
+        verify(shiftInstanceCoverageService).recordUnassigned(updated, 1L, Set.of());
+        verify(applicationEventPublisher, times(1)).publishEvent(any(ShiftAssignmentRemovedEvent.class));
+    }
+
+    @Test
+    void releaseInvalid_shouldSkipQueriesWhenNothingIsKept() {
+        assertThat(checker.releaseInvalid(List.of(), List.of(), RELEASED_AT)).isEmpty();
+
+        verifyNoInteractions(shiftAssignmentRepository);
+    }
+}
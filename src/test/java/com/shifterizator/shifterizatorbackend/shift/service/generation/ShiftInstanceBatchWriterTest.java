@@ -0,0 +1,134 @@
+package com.shifterizator.shifterizatorbackend.shift.service.generation;
+
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftInstanceRepository;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import(ShiftInstanceBatchWriter.class)
+@TestPropertySource(properties = "shift.generation.batch-size=4")
+class ShiftInstanceBatchWriterTest {
+
+    @Autowired
+    private ShiftInstanceBatchWriter writer;
+
+    @Autowired
+    private ShiftInstanceRepository shiftInstanceRepository;
+
+    @Autowired
+    private ShiftTemplateRepository shiftTemplateRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Location location;
+    private ShiftTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        Company company = companyRepository.save(
+                new Company("Skynet", "Skynet", "12345678T", "test@test.com", "+34999999999"));
+        location = locationRepository.save(Location.builder().name("HQ").address("Main").company(company).build());
+        template = shiftTemplateRepository.save(ShiftTemplate.builder()
+                .location(location)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .isActive(true)
+                .build());
+        entityManager.flush();
+    }
+
+    private ShiftInstance instance(LocalDate date, Integer ideal) {
+        return ShiftInstance.builder()
+                .shiftTemplate(template)
+                .location(location)
+                .date(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .requiredEmployees(2)
+                .idealEmployees(ideal)
+                .isComplete(false)
+                .build();
+    }
+
+    @Test
+    void insertAll_shouldInsertAcrossBatchesAndAssignIds() {
+        LocalDate monday = LocalDate.of(2025, 2, 3);
+        List<ShiftInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            instances.add(instance(monday.plusDays(i), i % 2 == 0 ? 3 : null));
+        }
+
+        ShiftInstanceBatchWriter.BatchInsertResult result = writer.insertAll(instances);
+
+        assertThat(result.rows()).isEqualTo(10);
+        assertThat(instances).allMatch(i -> i.getId() != null && i.getCreatedAt() != null);
+        assertThat(instances).extracting(ShiftInstance::getId).doesNotHaveDuplicates();
+
+        entityManager.clear();
+        List<ShiftInstance> stored = shiftInstanceRepository
+                .findByLocation_IdAndDateBetweenAndDeletedAtIsNullOrderByDateAscStartTimeAsc(
+                        location.getId(), monday, monday.plusDays(9));
+        assertThat(stored).hasSize(10);
+        assertThat(stored.get(0).getIdealEmployees()).isEqualTo(3);
+        assertThat(stored.get(1).getIdealEmployees()).isNull();
+        assertThat(stored).extracting(ShiftInstance::getId)
+                .containsExactlyElementsOf(instances.stream().map(ShiftInstance::getId).toList());
+    }
+
+    @Test
+    void insertAll_shouldFailWhenDriverReturnsFewerKeysThanRows() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<KeyHolder>getArgument(2).getKeyList().add(Map.of("id", 1L));
+            return new int[]{1, 1};
+        }).when(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        ShiftInstanceBatchWriter shortKeysWriter = new ShiftInstanceBatchWriter(jdbcTemplate, 4);
+        LocalDate monday = LocalDate.of(2025, 2, 3);
+        List<ShiftInstance> instances = List.of(instance(monday, null), instance(monday.plusDays(1), null));
+
+        assertThatThrownBy(() -> shortKeysWriter.insertAll(instances))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Driver returned 1 generated keys for a batch of 2 shift instances");
+        assertThat(instances).allMatch(i -> i.getId() == null);
+    }
+
+    @Test
+    void insertAll_shouldDoNothingForEmptyList() {
+        assertThat(writer.insertAll(List.of()).rows()).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.shifterizator.shifterizatorbackend.shift.service.generation;
+
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShiftInstanceDiffTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 2, 3);
+
+    private final ShiftTemplate morning = ShiftTemplate.builder().id(1L).build();
+    private final ShiftTemplate evening = ShiftTemplate.builder().id(2L).build();
+
+    private static ShiftInstance shift(Long id, ShiftTemplate template, LocalDate date, int startHour, int required) {
+        return ShiftInstance.builder()
+                .id(id)
+                .shiftTemplate(template)
+                .date(date)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(startHour + 4, 0))
+                .requiredEmployees(required)
+                .build();
+    }
+
+    @Test
+    void compute_shouldKeepMatchingShiftsUnchanged() {
+        ShiftInstance existing = shift(10L, morning, MONDAY, 9, 2);
+        ShiftInstance desired = shift(null, morning, MONDAY, 9, 2);
+
+        ShiftInstanceDiff diff = ShiftInstanceDiff.compute(List.of(existing), List.of(desired));
+
+        assertThat(diff.unchanged()).containsExactly(existing);
+        assertThat(diff.inserted()).isEmpty();
+        assertThat(diff.updated()).isEmpty();
+        assertThat(diff.retired()).isEmpty();
+    }
+
+    @Test
+    void compute_shouldUpdateExistingShiftInPlaceWhenTemplateChanged() {
+        ShiftInstance existing = shift(10L, morning, MONDAY, 9, 2);
+        ShiftInstance desired = shift(null, morning, MONDAY, 8, 3);
+
+        ShiftInstanceDiff diff = ShiftInstanceDiff.compute(List.of(existing), List.of(desired));
+
+        assertThat(diff.updated()).containsExactly(existing);
+        assertThat(existing.getId()).isEqualTo(10L);
+        assertThat(existing.getStartTime()).isEqualTo(LocalTime.of(8, 0));
+        assertThat(existing.getEndTime()).isEqualTo(LocalTime.of(12, 0));
+        assertThat(existing.getRequiredEmployees()).isEqualTo(3);
+    }
+
+    @Test
+    void compute_shouldInsertMissingAndRetireUnwantedShifts() {
+        ShiftInstance blackedOut = shift(10L, morning, MONDAY, 9, 2);
+        ShiftInstance removedTemplate = shift(11L, evening, MONDAY.plusDays(1), 16, 1);
+        ShiftInstance desired = shift(null, morning, MONDAY.plusDays(1), 9, 2);
+
+        ShiftInstanceDiff diff = ShiftInstanceDiff.compute(List.of(blackedOut, removedTemplate), List.of(desired));
+
+        assertThat(diff.inserted()).containsExactly(desired);
+        assertThat(diff.retired()).containsExactlyInAnyOrder(blackedOut, removedTemplate);
+        assertThat(diff.active()).containsExactly(desired);
+    }
+
+    @Test
+    void compute_shouldRetireDuplicatesBeyondFirstMatch() {
+        ShiftInstance first = shift(10L, morning, MONDAY, 9, 2);
+        ShiftInstance duplicate = shift(11L, morning, MONDAY, 9, 2);
+        ShiftInstance desired = shift(null, morning, MONDAY, 9, 2);
+
+        ShiftInstanceDiff diff = ShiftInstanceDiff.compute(List.of(first, duplicate), List.of(desired));
+
+        assertThat(diff.unchanged()).containsExactly(first);
+        assertThat(diff.retired()).containsExactly(duplicate);
+    }
+}
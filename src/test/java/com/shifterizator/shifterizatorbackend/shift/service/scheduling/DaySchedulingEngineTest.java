@@ -0,0 +1,158 @@
+package com.shifterizator.shifterizatorbackend.shift.service.scheduling;
+
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.employee.model.EmployeeShiftPreference;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.EmployeeLanguageRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftInstance;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.service.advisor.ShiftCandidateTierService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DaySchedulingEngineTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 2, 10);
+
+    @Mock
+    private EmployeeLanguageRepository employeeLanguageRepository;
+
+    private DaySchedulingEngine engine;
+
+    private Location location;
+    private Position cashier;
+
+    @BeforeEach
+    void setUp() {
+        Company company = new Company("Skynet", "Skynet", "12345678T", "test@test.com", "+34999999999");
+        company.setId(1L);
+        location = Location.builder().id(1L).name("HQ").address("Main").company(company).build();
+        cashier = Position.builder().id(1L).name("Cashier").company(company).build();
+        engine = new DaySchedulingEngine(new ShiftCandidateTierService(employeeLanguageRepository));
+    }
+
+    private ShiftInstance instance(long id, LocalTime start, LocalTime end, int required, Integer ideal) {
+        ShiftTemplate template = ShiftTemplate.builder().id(id).location(location).build();
+        ShiftTemplatePosition stp = ShiftTemplatePosition.builder()
+                .shiftTemplate(template).position(cashier).requiredCount(required).idealCount(ideal).build();
+        template.setRequiredPositions(Set.of(stp));
+        return ShiftInstance.builder()
+                .id(id)
+                .location(location)
+                .shiftTemplate(template)
+                .date(DATE)
+                .startTime(start)
+                .endTime(end)
+                .requiredEmployees(required)
+                .idealEmployees(ideal)
+                .build();
+    }
+
+    private Employee employee(long id) {
+        return Employee.builder().id(id).name("E" + id).surname("S").position(cashier).build();
+    }
+
+    private DayScheduleSnapshot snapshot(List<ShiftInstance> instances, List<Employee> candidates,
+                                         List<DayScheduleSnapshot.ExistingAssignment> existing) {
+        Set<Long> companyIds = Set.copyOf(candidates.stream().map(Employee::getId).toList());
+        return new DayScheduleSnapshot(DATE, instances, candidates, companyIds, Map.of(), existing);
+    }
+
+    @Test
+    void run_shouldFillMinimumsBeforeIdealForLowerPriorityShifts() {
+        ShiftInstance morning = instance(10L, LocalTime.of(9, 0), LocalTime.of(13, 0), 1, 2);
+        ShiftInstance evening = instance(11L, LocalTime.of(14, 0), LocalTime.of(18, 0), 1, 1);
+        DayScheduleSnapshot snapshot = snapshot(List.of(morning, evening), List.of(employee(1L), employee(2L)), List.of());
+
+        engine.run(snapshot);
+
+        assertThat(snapshot.getAssignedCount(morning)).isEqualTo(1);
+        assertThat(snapshot.getAssignedCount(evening)).isEqualTo(1);
+        assertThat(snapshot.getPlannedAssignments()).hasSize(2);
+    }
+
+    @Test
+    void run_shouldFillUpToIdealWhenCandidatesRemain() {
+        ShiftInstance morning = instance(10L, LocalTime.of(9, 0), LocalTime.of(13, 0), 1, 3);
+        DayScheduleSnapshot snapshot = snapshot(List.of(morning),
+                List.of(employee(1L), employee(2L), employee(3L), employee(4L)), List.of());
+
+        engine.run(snapshot);
+
+        assertThat(snapshot.getAssignedCount(morning)).isEqualTo(3);
+        assertThat(snapshot.getAssignedCountByPosition(morning)).containsEntry(1L, 3);
+    }
+
+    @Test
+    void run_shouldSkipEmployeeWithOverlappingShiftElsewhere() {
+        ShiftInstance morning = instance(10L, LocalTime.of(9, 0), LocalTime.of(13, 0), 1, 1);
+        Employee busy = employee(1L);
+        Employee free = employee(2L);
+        var elsewhere = new DayScheduleSnapshot.ExistingAssignment(
+                99L, 1L, 1L, LocalTime.of(12, 0), LocalTime.of(16, 0));
+        DayScheduleSnapshot snapshot = snapshot(List.of(morning), List.of(busy, free), List.of(elsewhere));
+
+        engine.run(snapshot);
+
+        assertThat(snapshot.getPlannedAssignments())
+                .extracting(p -> p.employee().getId())
+                .containsExactly(2L);
+    }
+
+    @Test
+    void run_shouldCountExistingAssignmentsTowardsTargets() {
+        ShiftInstance morning = instance(10L, LocalTime.of(9, 0), LocalTime.of(13, 0), 1, 1);
+        var existing = new DayScheduleSnapshot.ExistingAssignment(
+                10L, 5L, 1L, LocalTime.of(9, 0), LocalTime.of(13, 0));
+        DayScheduleSnapshot snapshot = snapshot(List.of(morning), List.of(employee(1L)), List.of(existing));
+
+        engine.run(snapshot);
+
+        assertThat(snapshot.getPlannedAssignments()).isEmpty();
+    }
+
+    @Test
+    void run_shouldNotAssignEmployeeOutsideCompany() {
+        ShiftInstance morning = instance(10L, LocalTime.of(9, 0), LocalTime.of(13, 0), 1, 1);
+        Employee outsider = employee(1L);
+        DayScheduleSnapshot snapshot = new DayScheduleSnapshot(
+                DATE, List.of(morning), List.of(outsider), Set.of(), Map.of(), List.of());
+
+        engine.run(snapshot);
+
+        assertThat(snapshot.getPlannedAssignments()).isEmpty();
+    }
+
+    @Test
+    void run_shouldPreferCandidateWithShiftInPreferencesWithoutQueryingLanguages() {
+        ShiftInstance morning = instance(10L, LocalTime.of(9, 0), LocalTime.of(13, 0), 1, 1);
+        Employee other = employee(1L);
+        Employee prefers = employee(2L);
+        prefers.setShiftPreferences(Set.of(EmployeeShiftPreference.builder()
+                .employee(prefers).shiftTemplate(morning.getShiftTemplate()).build()));
+        DayScheduleSnapshot snapshot = snapshot(List.of(morning), List.of(other, prefers), List.of());
+
+        engine.run(snapshot);
+
+        assertThat(snapshot.getPlannedAssignments())
+                .extracting(p -> p.employee().getId())
+                .containsExactly(2L);
+        verifyNoInteractions(employeeLanguageRepository);
+    }
+}
@@ -0,0 +1,82 @@
+package com.shifterizator.shifterizatorbackend.shift.service.scheduling;
+
+import com.shifterizator.shifterizatorbackend.employee.model.Employee;
+import com.shifterizator.shifterizatorbackend.shift.repository.EmployeeShiftCount;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftAssignmentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeekLoadTrackerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 2, 3);
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 2, 9);
+
+    @Mock
+    private ShiftAssignmentRepository shiftAssignmentRepository;
+
+    private static Employee employee(long id, Integer shiftsPerWeek) {
+        return Employee.builder().id(id).shiftsPerWeek(shiftsPerWeek).build();
+    }
+
+    @Test
+    void ensureLoaded_shouldQueryOnlyEmployeesNotSeenYet() {
+        WeekLoadTracker tracker = new WeekLoadTracker(MONDAY, SUNDAY);
+        when(shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(List.of(1L, 2L), MONDAY, SUNDAY))
+                .thenReturn(List.of(new EmployeeShiftCount(1L, 3L)));
+        when(shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(List.of(3L), MONDAY, SUNDAY))
+                .thenReturn(List.of());
+
+        tracker.ensureLoaded(List.of(1L, 2L), shiftAssignmentRepository);
+        tracker.ensureLoaded(List.of(1L, 2L, 3L), shiftAssignmentRepository);
+        tracker.ensureLoaded(List.of(2L, 3L), shiftAssignmentRepository);
+
+        assertThat(tracker.getCount(1L)).isEqualTo(3);
+        assertThat(tracker.getCount(2L)).isZero();
+        assertThat(tracker.getCount(3L)).isZero();
+        verify(shiftAssignmentRepository, times(2)).countByEmployeeIdsAndDateBetween(anyCollection(), any(), any());
+    }
+
+    @Test
+    void hasCapacity_shouldUseEmployeeCapOrDefault() {
+        WeekLoadTracker tracker = new WeekLoadTracker(MONDAY, SUNDAY);
+        when(shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(List.of(1L, 2L), MONDAY, SUNDAY))
+                .thenReturn(List.of(new EmployeeShiftCount(1L, 3L), new EmployeeShiftCount(2L, 4L)));
+        tracker.ensureLoaded(List.of(1L, 2L), shiftAssignmentRepository);
+
+        assertThat(tracker.hasCapacity(employee(1L, 3))).isFalse();
+        assertThat(tracker.hasCapacity(employee(2L, null))).isTrue();
+    }
+
+    @Test
+    void commitPending_shouldCountOnlyCommittedDays() {
+        WeekLoadTracker tracker = new WeekLoadTracker(MONDAY, SUNDAY);
+        when(shiftAssignmentRepository.countByEmployeeIdsAndDateBetween(List.of(1L), MONDAY, SUNDAY))
+                .thenReturn(List.of());
+        tracker.ensureLoaded(List.of(1L), shiftAssignmentRepository);
+
+        tracker.recordPending(1L);
+        tracker.commitPending();
+        tracker.recordPending(1L);
+        tracker.discardPending();
+
+        assertThat(tracker.getCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void getCount_shouldThrowForEmployeeNotLoaded() {
+        WeekLoadTracker tracker = new WeekLoadTracker(MONDAY, SUNDAY);
+
+        assertThatThrownBy(() -> tracker.getCount(7L)).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(shiftAssignmentRepository);
+    }
+}
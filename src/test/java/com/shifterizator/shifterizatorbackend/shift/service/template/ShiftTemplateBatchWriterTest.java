@@ -0,0 +1,153 @@
+package com.shifterizator.shifterizatorbackend.shift.service.template;
+
+import com.shifterizator.shifterizatorbackend.company.model.Company;
+import com.shifterizator.shifterizatorbackend.company.model.Location;
+import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
+import com.shifterizator.shifterizatorbackend.company.repository.LocationRepository;
+import com.shifterizator.shifterizatorbackend.employee.model.Position;
+import com.shifterizator.shifterizatorbackend.employee.repository.PositionRepository;
+import com.shifterizator.shifterizatorbackend.language.model.Language;
+import com.shifterizator.shifterizatorbackend.language.repository.LanguageRepository;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplate;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplateLanguageRequirement;
+import com.shifterizator.shifterizatorbackend.shift.model.ShiftTemplatePosition;
+import com.shifterizator.shifterizatorbackend.shift.repository.ShiftTemplateRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import(ShiftTemplateBatchWriter.class)
+@TestPropertySource(properties = "shift.template-import.batch-size=3")
+class ShiftTemplateBatchWriterTest {
+
+    @Autowired
+    private ShiftTemplateBatchWriter writer;
+
+    @Autowired
+    private ShiftTemplateRepository shiftTemplateRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private LanguageRepository languageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Location location;
+    private Position cashier;
+    private Position manager;
+    private Language english;
+
+    @BeforeEach
+    void setUp() {
+        Company company = companyRepository.save(
+                new Company("Skynet", "Skynet", "12345678T", "test@test.com", "+34999999999"));
+        location = locationRepository.save(Location.builder().name("HQ").address("Main").company(company).build());
+        cashier = positionRepository.save(Position.builder().name("Cashier").company(company).build());
+        manager = positionRepository.save(Position.builder().name("Manager").company(company).build());
+        english = languageRepository.save(Language.builder().code("EN").name("English").build());
+        entityManager.flush();
+    }
+
+    private ShiftTemplate template(int hour, Integer priority) {
+        ShiftTemplate template = ShiftTemplate.builder()
+                .location(location)
+                .startTime(LocalTime.of(hour, 0))
+                .endTime(LocalTime.of(hour + 4, 0))
+                .requiredEmployees(3)
+                .idealEmployees(4)
+                .description("Shift " + hour)
+                .isActive(true)
+                .priority(priority)
+                .build();
+        template.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                .shiftTemplate(template).position(cashier).requiredCount(2).idealCount(3).build());
+        template.getRequiredPositions().add(ShiftTemplatePosition.builder()
+                .shiftTemplate(template).position(manager).requiredCount(1).build());
+        template.getRequiredLanguageRequirements().add(ShiftTemplateLanguageRequirement.builder()
+                .shiftTemplate(template).language(english).requiredCount(1).build());
+        return template;
+    }
+
+    @Test
+    void insertAll_shouldInsertTemplatesWithRequirementsAcrossBatches() {
+        List<ShiftTemplate> templates = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            templates.add(template(6 + i, i % 2 == 0 ? i : null));
+        }
+
+        writer.insertAll(templates);
+
+        assertThat(templates).allMatch(t -> t.getId() != null && t.getCreatedAt() != null);
+        assertThat(templates).extracting(ShiftTemplate::getId).doesNotHaveDuplicates();
+
+        entityManager.clear();
+        List<ShiftTemplate> stored = shiftTemplateRepository.findAllWithRequiredPositionsByLocationId(location.getId());
+        assertThat(stored).hasSize(7);
+        shiftTemplateRepository.findAllWithLanguageRequirementsByIdIn(stored.stream().map(ShiftTemplate::getId).toList());
+        ShiftTemplate first = stored.stream().filter(t -> t.getId().equals(templates.get(0).getId())).findFirst().orElseThrow();
+        assertThat(first.getStartTime()).isEqualTo(LocalTime.of(6, 0));
+        assertThat(first.getRequiredEmployees()).isEqualTo(3);
+        assertThat(first.getPriority()).isZero();
+        assertThat(first.getRequiredPositions())
+                .extracting(stp -> stp.getPosition().getName(), ShiftTemplatePosition::getIdealCount)
+                .containsExactlyInAnyOrder(
+                        tuple("Cashier", 3),
+                        tuple("Manager", null));
+        assertThat(first.getRequiredLanguageRequirements())
+                .extracting(req -> req.getLanguage().getCode())
+                .containsExactly("EN");
+    }
+
+    @Test
+    void insertAll_shouldFailWhenDriverReturnsFewerKeysThanRows() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<KeyHolder>getArgument(2).getKeyList().add(Map.of("id", 1L));
+            return new int[]{1, 1};
+        }).when(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        ShiftTemplateBatchWriter shortKeysWriter = new ShiftTemplateBatchWriter(jdbcTemplate, 3);
+        List<ShiftTemplate> templates = List.of(template(6, null), template(10, null));
+
+        assertThatThrownBy(() -> shortKeysWriter.insertAll(templates))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Driver returned 1 generated keys for a batch of 2 shift templates");
+        assertThat(templates).allMatch(t -> t.getId() == null);
+    }
+
+    @Test
+    void insertAll_shouldDoNothingForEmptyList() {
+        writer.insertAll(List.of());
+
+        assertThat(shiftTemplateRepository.count()).isZero();
+    }
+}
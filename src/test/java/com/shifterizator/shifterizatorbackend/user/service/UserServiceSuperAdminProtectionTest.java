@@ -1,5 +1,7 @@
 package com.shifterizator.shifterizatorbackend.user.service;
 
+import com.shifterizator.shifterizatorbackend.auth.jwt.TokenVersionRegistry;
+import com.shifterizator.shifterizatorbackend.auth.service.PrincipalCache;
 import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
 import com.shifterizator.shifterizatorbackend.user.exception.ForbiddenOperationException;
 import com.shifterizator.shifterizatorbackend.user.mapper.UserMapper;
@@ -31,6 +33,10 @@ public class UserServiceSuperAdminProtectionTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
     @InjectMocks
     private UserServiceImpl service;
 
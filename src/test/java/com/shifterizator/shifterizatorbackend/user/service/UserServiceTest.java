@@ -1,6 +1,8 @@
 package com.shifterizator.shifterizatorbackend.user.service;
 
 
+import com.shifterizator.shifterizatorbackend.auth.jwt.TokenVersionRegistry;
+import com.shifterizator.shifterizatorbackend.auth.service.PrincipalCache;
 import com.shifterizator.shifterizatorbackend.company.exception.CompanyNotFoundException;
 import com.shifterizator.shifterizatorbackend.company.model.Company;
 import com.shifterizator.shifterizatorbackend.company.repository.CompanyRepository;
@@ -46,6 +48,10 @@ class UserServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private  CompanyRepository companyRepository;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
     @InjectMocks
     private UserServiceImpl service;
 
@@ -307,6 +313,8 @@ class UserServiceTest {
         User result = service.deactivateUser(10L);
 
         assertThat(result.getIsActive()).isFalse();
+        verify(principalCache).invalidate("john");
+        verify(tokenVersionRegistry).revoke(10L);
     }
 
     @Test